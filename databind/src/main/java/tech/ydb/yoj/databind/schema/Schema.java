@@ -364,6 +364,26 @@ public abstract class Schema<T> {
         return safeNewInstance(reflectType.getConstructor(), args);
     }
 
+    /**
+     * Creates a new object having the specified field values. This is a faster positional alternative to
+     * {@link #newInstance(Map)}, for when column order is known in advance, e.g. when reading database query results.
+     *
+     * @param flatValues simple field values, in the {@link #flattenFields()} order; must have exactly
+     *                   {@code flattenFields().size()} elements
+     * @return object with the specified field values
+     * @throws ConstructionException could not construct object from {@code flatValues}
+     *
+     * @see #newInstance(Map)
+     */
+    public final T newInstance(Object[] flatValues) throws ConstructionException {
+        int[] cursor = new int[1];
+        Object[] args = new Object[fields.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = fields.get(i).newInstance(flatValues, cursor);
+        }
+        return safeNewInstance(reflectType.getConstructor(), args);
+    }
+
     @SneakyThrows
     private static <T> T safeNewInstance(Constructor<T> ctor, Object[] args) throws ConstructionException {
         try {
@@ -767,6 +787,24 @@ public abstract class Schema<T> {
             }
         }
 
+        @SneakyThrows
+        private Object newInstance(Object[] flatValues, int[] cursor) {
+            if (isSimple()) {
+                return flatValues[cursor[0]++];
+            } else {
+                Object[] args = new Object[fields.size()];
+                boolean allNull = true;
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = fields.get(i).newInstance(flatValues, cursor);
+                    allNull &= args[i] == null;
+                }
+                if (allNull) {
+                    return null;
+                }
+                return safeNewInstance(field.getReflectType().getConstructor(), args);
+            }
+        }
+
         private JavaField findField(List<String> path) {
             if (path.isEmpty()) {
                 return null;
@@ -4,6 +4,8 @@ import lombok.Value;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class PojoSchemaTest {
@@ -83,6 +85,23 @@ public class PojoSchemaTest {
         assertThat(schema.getField("emptyEmptyEntity").isFlat()).isFalse();
     }
 
+    @Test
+    public void testNewInstanceFromFlatValues() {
+        UberEntity entity = new UberEntity(
+                new Entity1(new Entity2(new Entity3(42))),
+                new FlatEntity(null, new Entity1(new Entity2(new Entity3(17))), null),
+                new TwoFieldEntity(null, true),
+                null,
+                null
+        );
+        Map<String, Object> cells = schema.flatten(entity);
+        Object[] flatValues = schema.flattenFieldNames().stream().map(cells::get).toArray();
+
+        assertThat(schema.newInstance(flatValues))
+                .isEqualTo(schema.newInstance(cells))
+                .isEqualTo(entity);
+    }
+
     private static class TestSchema<T> extends Schema<T> {
         private TestSchema(Class<T> entityType) {
             super(entityType);
@@ -1,6 +1,7 @@
 package tech.ydb.yoj.repository.test.inmemory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.primitives.Primitives;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.collections.api.map.ImmutableMap;
@@ -14,6 +15,7 @@ import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.common.CommonConverters;
 import tech.ydb.yoj.repository.db.exception.ConversionException;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -65,6 +67,69 @@ import static org.eclipse.collections.impl.tuple.Tuples.pair;
         return new Columns(map.newWithAllKeyValues(newValues));
     }
 
+    public Columns apply(EntitySchema<?> schema, Map<String, Changeset.Operation> operations) {
+        List<Pair<String, Object>> newValues = new ArrayList<>();
+        operations.forEach((fieldPath, operation) -> {
+            Schema.JavaField field = schema.getField(fieldPath).toFlatField();
+            Object operand = schema.flattenOneField(fieldPath, operation.operand()).get(field.getName());
+            Object value = toColumnClass(field, serialize(field, operand));
+            Object current = map.get(field.getName());
+            newValues.add(pair(field.getName(), current == null ? value : apply(operation.kind(), current, value)));
+        });
+        return new Columns(map.newWithAllKeyValues(newValues));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object apply(Changeset.Operation.Kind kind, Object current, Object value) {
+        return switch (kind) {
+            case INCREMENT -> add((Number) current, (Number) value);
+            case MIN -> ((Comparable) current).compareTo(value) <= 0 ? current : value;
+            case MAX -> ((Comparable) current).compareTo(value) >= 0 ? current : value;
+            case COALESCE -> current;
+        };
+    }
+
+    private static Number add(Number current, Number delta) {
+        if (current instanceof Long) {
+            return current.longValue() + delta.longValue();
+        } else if (current instanceof Integer) {
+            return current.intValue() + delta.intValue();
+        } else if (current instanceof Short) {
+            return (short) (current.shortValue() + delta.shortValue());
+        } else if (current instanceof Byte) {
+            return (byte) (current.byteValue() + delta.byteValue());
+        } else if (current instanceof Double) {
+            return current.doubleValue() + delta.doubleValue();
+        } else if (current instanceof Float) {
+            return current.floatValue() + delta.floatValue();
+        }
+        throw new ConversionException("Cannot increment value of type <" + current.getClass() + ">");
+    }
+
+    private static Object toColumnClass(Schema.JavaField field, Object value) {
+        if (!(value instanceof Number number)) {
+            return value;
+        }
+        Class<?> rawColumnClass = field.getCustomValueTypeInfo() != null
+                ? field.getCustomValueTypeInfo().getColumnClass()
+                : field.getRawType();
+        Class<?> columnClass = Primitives.wrap(rawColumnClass);
+        if (columnClass == Long.class) {
+            return number.longValue();
+        } else if (columnClass == Integer.class) {
+            return number.intValue();
+        } else if (columnClass == Short.class) {
+            return number.shortValue();
+        } else if (columnClass == Byte.class) {
+            return number.byteValue();
+        } else if (columnClass == Double.class) {
+            return number.doubleValue();
+        } else if (columnClass == Float.class) {
+            return number.floatValue();
+        }
+        return value;
+    }
+
     public Map<String, Object> toMutableMap() {
         return this.map.toMap();
     }
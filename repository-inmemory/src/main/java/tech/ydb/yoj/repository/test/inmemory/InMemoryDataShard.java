@@ -9,9 +9,11 @@ import tech.ydb.yoj.repository.db.Table;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.exception.EntityAlreadyExistsException;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -173,6 +175,15 @@ import java.util.TreeMap;
         save(txId, version, entityId, columns.patch(schema, patch));
     }
 
+    public synchronized void update(long txId, long version, Entity.Id<T> entityId, InMemoryTxLockWatcher watcher,
+                                    Map<String, Object> patch, Map<String, Changeset.Operation> operations) {
+        Columns columns = findColumns(txId, version, entityId, watcher);
+        if (columns == null) {
+            return;
+        }
+        save(txId, version, entityId, columns.patch(schema, patch).apply(schema, operations));
+    }
+
     private synchronized void save(long txId, long version, Entity.Id<T> entityId, Columns columns) {
         InMemoryEntityLine entityLine = entityLines.computeIfAbsent(entityId, __ -> new InMemoryEntityLine());
 
@@ -214,6 +225,12 @@ import java.util.TreeMap;
         entityLine.remove(txId);
     }
 
+    public synchronized void delete(long txId, Collection<? extends Entity.Id<T>> ids) {
+        for (Entity.Id<T> id : ids) {
+            delete(txId, id);
+        }
+    }
+
     public synchronized void deleteAll(long txId) {
         for (Entity.Id<T> entityId : entityLines.keySet()) {
             delete(txId, entityId);
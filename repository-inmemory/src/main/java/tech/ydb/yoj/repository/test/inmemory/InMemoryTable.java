@@ -94,8 +94,11 @@ public class InMemoryTable<T extends Entity<T>> implements Table<T> {
         Map<String, Object> patch = new LinkedHashMap<>();
         changeset.toMap().forEach((k, v) -> patch.putAll(schema.flattenOneField(k, v)));
 
+        var operations = changeset.getOperations();
+
         transaction.getWatcher().markRowRead(tableDescriptor, id);
-        transaction.doInWriteTransaction("update(" + id + ", " + changeset + ")", tableDescriptor, shard -> shard.update(id, patch));
+        transaction.doInWriteTransaction("update(" + id + ", " + changeset + ")", tableDescriptor,
+                shard -> shard.update(id, patch, operations));
         transaction.getTransactionLocal().firstLevelCache(tableDescriptor).remove(id);
     }
 
@@ -457,6 +460,29 @@ public class InMemoryTable<T extends Entity<T>> implements Table<T> {
         transaction.getTransactionLocal().projectionCache().delete(id);
     }
 
+    @Override
+    public <ID extends Entity.Id<T>> void deleteAll(Set<ID> ids) {
+        if (TableQueryImpl.hasProjections(tableDescriptor.entityType())) {
+            Table.super.deleteAll(ids);
+        } else {
+            delete(ids);
+        }
+    }
+
+    @Override
+    public <ID extends Entity.Id<T>> void delete(Set<ID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        transaction.doInWriteTransaction("deleteAll(" + ids + ")", tableDescriptor, shard -> shard.delete(ids));
+        FirstLevelCache<T> cache = transaction.getTransactionLocal().firstLevelCache(tableDescriptor);
+        for (ID id : ids) {
+            cache.putEmpty(id);
+            transaction.getTransactionLocal().projectionCache().delete(id);
+        }
+    }
+
     @Override
     public void deleteAll() {
         transaction.doInWriteTransaction(
@@ -3,8 +3,10 @@ package tech.ydb.yoj.repository.test.inmemory;
 import lombok.RequiredArgsConstructor;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.Table;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,11 +49,21 @@ import java.util.Map;
         shard.update(txId, version, id, watcher, patch);
     }
 
+    @Override
+    public void update(Entity.Id<T> id, Map<String, Object> patch, Map<String, Changeset.Operation> operations) {
+        shard.update(txId, version, id, watcher, patch, operations);
+    }
+
     @Override
     public void delete(Entity.Id<T> id) {
         shard.delete(txId, id);
     }
 
+    @Override
+    public void delete(Collection<? extends Entity.Id<T>> ids) {
+        shard.delete(txId, ids);
+    }
+
     @Override
     public void deleteAll() {
         shard.deleteAll(txId);
@@ -1,7 +1,9 @@
 package tech.ydb.yoj.repository.test.inmemory;
 
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 
+import java.util.Collection;
 import java.util.Map;
 
 /*package*/ interface WriteTxDataShard<T extends Entity<T>> {
@@ -11,7 +13,11 @@ import java.util.Map;
 
     void update(Entity.Id<T> id, Map<String, Object> patch);
 
+    void update(Entity.Id<T> id, Map<String, Object> patch, Map<String, Changeset.Operation> operations);
+
     void delete(Entity.Id<T> id);
 
+    void delete(Collection<? extends Entity.Id<T>> ids);
+
     void deleteAll();
 }
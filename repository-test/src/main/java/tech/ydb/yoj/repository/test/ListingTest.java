@@ -6,10 +6,12 @@ import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.repository.db.Repository;
 import tech.ydb.yoj.repository.db.list.BadListingException.BadOffset;
 import tech.ydb.yoj.repository.db.list.BadListingException.BadPageSize;
+import tech.ydb.yoj.repository.db.list.BadListingException.InvalidPageToken;
 import tech.ydb.yoj.repository.db.list.ListRequest;
 import tech.ydb.yoj.repository.db.list.ListRequest.ListingParams;
 import tech.ydb.yoj.repository.db.list.ListResult;
 import tech.ydb.yoj.repository.db.list.ViewListResult;
+import tech.ydb.yoj.repository.db.list.token.KeysetPageToken;
 import tech.ydb.yoj.repository.test.entity.TestEntities;
 import tech.ydb.yoj.repository.test.sample.TestDb;
 import tech.ydb.yoj.repository.test.sample.TestDbImpl;
@@ -21,6 +23,8 @@ import tech.ydb.yoj.repository.test.sample.model.TypeFreak.Status;
 import tech.ydb.yoj.repository.test.sample.model.annotations.UniqueEntityNative;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static java.time.temporal.ChronoUnit.MILLIS;
@@ -92,6 +96,143 @@ public abstract class ListingTest extends RepositoryTestSupport {
         });
     }
 
+    @Test
+    public void keysetPageToken() {
+        List<Complex> complexes = new ArrayList<>();
+        for (int a = 0; a < 2; a++) {
+            for (String c : List.of("AAA", "BBB", "CCC")) {
+                complexes.add(new Complex(new Complex.Id(a, 15L, c, Complex.Status.OK)));
+            }
+        }
+        Complex notInOutput = new Complex(new Complex.Id(0, 15L, "AAA", Complex.Status.FAIL));
+        db.tx(() -> {
+            db.complexes().insert(notInOutput);
+            complexes.forEach(db.complexes()::insert);
+        });
+
+        List<Complex> listed = new ArrayList<>();
+        String token = null;
+        do {
+            String pageToken = token;
+            ListResult<Complex> page = db.tx(() -> listComplex(ListRequest.builder(Complex.class)
+                    .pageSize(4)
+                    .filter(fb -> fb.where("id.d").eq(Complex.Status.OK))
+                    .pageToken(KeysetPageToken.INSTANCE).decode(pageToken)
+                    .build()));
+            assertThat(page.getRequest().getOffset()).isZero();
+            listed.addAll(page.getEntries());
+            token = KeysetPageToken.INSTANCE.encode(page);
+        } while (token != null);
+
+        assertThat(listed).isEqualTo(complexes);
+    }
+
+    @Test
+    public void keysetPageTokenMixedOrderWithNulls() {
+        Project p1 = new Project(new Project.Id("uuid001"), "BBB");
+        Project p2 = new Project(new Project.Id("uuid002"), null);
+        Project p3 = new Project(new Project.Id("uuid003"), "AAA");
+        Project p4 = new Project(new Project.Id("uuid004"), "BBB");
+        Project p5 = new Project(new Project.Id("uuid005"), null);
+        db.tx(() -> db.projects().insert(p1, p2, p3, p4, p5));
+
+        OrderExpression<Project> orderBy = newOrderBuilder(Project.class)
+                .orderBy("name").descending()
+                .orderBy("id").ascending()
+                .build();
+        db.tx(() -> {
+            ListResult<Project> page1 = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .orderBy(orderBy)
+                    .build());
+            assertThat(page1).containsExactly(p1, p4);
+
+            ListResult<Project> page2 = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .orderBy(orderBy)
+                    .pageToken(KeysetPageToken.INSTANCE).decode(KeysetPageToken.INSTANCE.encode(page1))
+                    .build());
+            assertThat(page2).containsExactly(p3, p2);
+
+            ListResult<Project> page3 = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .orderBy(orderBy)
+                    .pageToken(KeysetPageToken.INSTANCE).decode(KeysetPageToken.INSTANCE.encode(page2))
+                    .build());
+            assertThat(page3).containsExactly(p5);
+            assertThat(page3.isLastPage()).isTrue();
+            assertThat(KeysetPageToken.INSTANCE.encode(page3)).isNull();
+        });
+    }
+
+    @Test
+    public void keysetPageTokenDescendingWithNulls() {
+        Project p1 = new Project(new Project.Id("uuid001"), "BBB");
+        Project p2 = new Project(new Project.Id("uuid002"), null);
+        Project p3 = new Project(new Project.Id("uuid003"), "AAA");
+        Project p4 = new Project(new Project.Id("uuid004"), "BBB");
+        Project p5 = new Project(new Project.Id("uuid005"), null);
+        db.tx(() -> db.projects().insert(p1, p2, p3, p4, p5));
+
+        OrderExpression<Project> orderBy = newOrderBuilder(Project.class)
+                .orderBy("name").descending()
+                .orderBy("id").descending()
+                .build();
+        assertThat(listProjectsByKeyset(orderBy, 2)).containsExactly(p4, p1, p3, p5, p2);
+    }
+
+    @Test
+    public void keysetPageTokenAscendingWithNulls() {
+        Project p1 = new Project(new Project.Id("uuid001"), "BBB");
+        Project p2 = new Project(new Project.Id("uuid002"), null);
+        Project p3 = new Project(new Project.Id("uuid003"), "AAA");
+        Project p4 = new Project(new Project.Id("uuid004"), "BBB");
+        Project p5 = new Project(new Project.Id("uuid005"), null);
+        db.tx(() -> db.projects().insert(p1, p2, p3, p4, p5));
+
+        OrderExpression<Project> orderBy = newOrderBuilder(Project.class)
+                .orderBy("name").ascending()
+                .orderBy("id").ascending()
+                .build();
+        assertThat(listProjectsByKeyset(orderBy, 2)).containsExactly(p2, p5, p3, p1, p4);
+    }
+
+    private List<Project> listProjectsByKeyset(OrderExpression<Project> orderBy, int pageSize) {
+        List<Project> listed = new ArrayList<>();
+        String token = null;
+        do {
+            String pageToken = token;
+            ListResult<Project> page = db.tx(() -> listProjects(ListRequest.builder(Project.class)
+                    .pageSize(pageSize)
+                    .orderBy(orderBy)
+                    .pageToken(KeysetPageToken.INSTANCE).decode(pageToken)
+                    .build()));
+            listed.addAll(page.getEntries());
+            token = KeysetPageToken.INSTANCE.encode(page);
+        } while (token != null);
+        return listed;
+    }
+
+    @Test
+    public void keysetPageTokenForDifferentOrderIsInvalid() {
+        Project p1 = new Project(new Project.Id("uuid001"), "AAA");
+        Project p2 = new Project(new Project.Id("uuid002"), "BBB");
+        db.tx(() -> db.projects().insert(p1, p2));
+
+        db.tx(() -> {
+            ListResult<Project> page1 = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(1)
+                    .build());
+            String token = KeysetPageToken.INSTANCE.encode(page1);
+
+            assertThatExceptionOfType(InvalidPageToken.class).isThrownBy(() -> ListRequest.builder(Project.class)
+                    .pageSize(1)
+                    .orderBy(ob -> ob.orderBy("name").ascending())
+                    .pageToken(KeysetPageToken.INSTANCE).decode(token)
+                    .build());
+        });
+    }
+
     @Test
     public void complexIdRange() {
         Complex c1 = new Complex(new Complex.Id(999_999, 15L, "ZZZ", Complex.Status.OK));
@@ -725,6 +866,88 @@ public abstract class ListingTest extends RepositoryTestSupport {
         });
     }
 
+    @Test
+    public void totalCount() {
+        Project p1 = new Project(new Project.Id("uuid001"), "AAA");
+        Project p2 = new Project(new Project.Id("uuid002"), "BBB");
+        Project p3 = new Project(new Project.Id("uuid003"), "CCC");
+        Project notCounted = new Project(new Project.Id("uuid004"), "WWW");
+        db.tx(() -> db.projects().insert(p1, p2, p3, notCounted));
+
+        FilterExpression<Project> filter = newFilterBuilder(Project.class).where("name").in("AAA", "BBB", "CCC").build();
+        db.tx(() -> {
+            ListResult<Project> page = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .filter(filter)
+                    .totalCount(true)
+                    .build());
+            assertThat(page).containsExactly(p1, p2);
+            assertThat(page.getTotalCount()).isEqualTo(3L);
+
+            ListResult<Project> lastPage = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .filter(filter)
+                    .offset(2)
+                    .totalCount(true)
+                    .build());
+            assertThat(lastPage).containsExactly(p3);
+            assertThat(lastPage.getTotalCount()).isEqualTo(3L);
+
+            ListResult<Project> withoutCount = listProjects(ListRequest.builder(Project.class)
+                    .pageSize(2)
+                    .filter(filter)
+                    .build());
+            assertThat(withoutCount.getTotalCount()).isNull();
+        });
+    }
+
+    @Test
+    public void totalCountWithKeysetPageToken() {
+        Project p1 = new Project(new Project.Id("uuid001"), "AAA");
+        Project p2 = new Project(new Project.Id("uuid002"), "BBB");
+        Project p3 = new Project(new Project.Id("uuid003"), "CCC");
+        Project notCounted = new Project(new Project.Id("uuid004"), "WWW");
+        db.tx(() -> db.projects().insert(p1, p2, p3, notCounted));
+
+        FilterExpression<Project> filter = newFilterBuilder(Project.class).where("name").in("AAA", "BBB", "CCC").build();
+        ListResult<Project> page = db.tx(() -> listProjects(ListRequest.builder(Project.class)
+                .pageSize(2)
+                .filter(filter)
+                .totalCount(true)
+                .pageToken(KeysetPageToken.INSTANCE).decode(null)
+                .build()));
+        assertThat(page).containsExactly(p1, p2);
+        assertThat(page.getTotalCount()).isEqualTo(3L);
+
+        String token = KeysetPageToken.INSTANCE.encode(page);
+        ListResult<Project> lastPage = db.tx(() -> listProjects(ListRequest.builder(Project.class)
+                .pageSize(2)
+                .filter(filter)
+                .totalCount(true)
+                .pageToken(KeysetPageToken.INSTANCE).decode(token)
+                .build()));
+        assertThat(lastPage).containsExactly(p3);
+        assertThat(lastPage.getTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void totalCountView() {
+        LogEntry e1 = new LogEntry(new LogEntry.Id("log1", 1L), LogEntry.Level.ERROR, "earliest msg");
+        LogEntry e2 = new LogEntry(new LogEntry.Id("log1", 4L), LogEntry.Level.WARN, "middle msg");
+        LogEntry notCounted = new LogEntry(new LogEntry.Id("log2", 2L), LogEntry.Level.DEBUG, "will be ignored");
+        db.tx(() -> db.logEntries().insert(e1, e2, notCounted));
+
+        db.tx(() -> {
+            ViewListResult<LogEntry, LogEntry.Message> page = listLogMessages(ListRequest.builder(LogEntry.class)
+                    .pageSize(1)
+                    .filter(fb -> fb.where("id.logId").eq("log1"))
+                    .totalCount(true)
+                    .build());
+            assertThat(page).containsExactly(new LogEntry.Message(new LogEntry.Id("log1", 1L), "earliest msg"));
+            assertThat(page.getTotalCount()).isEqualTo(2L);
+        });
+    }
+
     protected final ListResult<Project> listProjects(ListRequest<Project> request) {
         return db.projects().list(request);
     }
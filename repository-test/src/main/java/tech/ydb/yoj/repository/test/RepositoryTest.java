@@ -21,6 +21,7 @@ import tech.ydb.yoj.databind.expression.FieldValue;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.values.StringFieldValue;
 import tech.ydb.yoj.repository.BaseDb;
+import tech.ydb.yoj.repository.db.Aggregate;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.IndexOrder;
@@ -105,6 +106,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -273,6 +276,53 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         assertThat(p5).isNull();
     }
 
+    @Test
+    public void simpleCrudAsync() {
+        Project p1 = new Project(new Project.Id("1"), "named");
+        db.txAsync(() -> db.projects().saveAsync(p1)).join();
+
+        Project p2 = db.txAsync(() -> {
+            Table<Project> projects = db.projects();
+            return projects.findAsync(p1.getId())
+                    .thenCompose(found -> projects.saveAsync(found.withName("renamed")));
+        }).join();
+        assertThat(p2.getName()).isEqualTo("renamed");
+
+        List<Project> byIds = db.txAsync(() -> db.projects().findAsync(Set.of(p1.getId(), new Project.Id("2")))).join();
+        assertThat(byIds).containsExactly(p2);
+
+        List<Project> byQuery = db.txAsync(() -> db.projects().query().where("name").eq("renamed").findAsync()).join();
+        assertThat(byQuery).containsExactly(p2);
+
+        Project p3 = db.txAsync(() -> db.projects().findAsync(new Project.Id("2"))).join();
+        assertThat(p3).isNull();
+    }
+
+    @Test
+    public void txAsyncRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = db.txAsync(() -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.<String>failedFuture(new OptimisticLockException("retry me"))
+                : CompletableFuture.completedFuture("done")
+        ).join();
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    public void txAsyncRollbackOnBusinessException() {
+        Project p = new Project(new Project.Id("1"), "named");
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(() -> db.txAsync(() -> db.projects().saveAsync(p)
+                        .thenApply(__ -> {
+                            throw new IllegalStateException("oops");
+                        })).join())
+                .withCauseExactlyInstanceOf(IllegalStateException.class);
+
+        assertThat(db.tx(() -> db.projects().find(p.getId()))).isNull();
+    }
+
     @Test
     public void deferAfterCommitDontRunInDryRun() {
         db.withDryRun(true).tx(
@@ -391,6 +441,27 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
                 .isThrownBy(() -> db.tx(() -> db.projects().streamAll(5001)));
     }
 
+    @Test
+    public void streamAllWithPrefetch() {
+        List<Project> expected = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            Project p = new Project(new Project.Id(String.valueOf(i)), "project-" + i);
+            expected.add(p);
+            db.tx(() -> db.projects().save(p));
+        }
+
+        assertThat(db.tx(() -> db.projects().streamAll(2, 2).collect(toList())))
+                .containsExactlyElementsOf(expected);
+        assertThat(db.tx(() -> db.projects().streamAll(3, 1).collect(toList())))
+                .containsExactlyElementsOf(expected);
+
+        assertThat(db.tx(() -> {
+            try (var stream = db.projects().streamAll(2, 3)) {
+                return stream.limit(3).collect(toList());
+            }
+        })).containsExactlyElementsOf(expected.subList(0, 3));
+    }
+
     private static <ID extends Entity.Id<?>> ReadTableParams<ID> defaultReadTableParamsNonLegacy() {
         return RepositoryTest.<ID>buildReadTableParamsNonLegacy().build();
     }
@@ -901,6 +972,96 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         });
     }
 
+    @Test
+    public void deleteAllRange() {
+        var cachedId = new Complex.Id(0, 1L, "aaa", Complex.Status.OK);
+        var uncachedId = new Complex.Id(0, 1L, "bbb", Complex.Status.OK);
+
+        db.tx(this::makeComplexes);
+        db.tx(() -> {
+            assertThat(db.complexes().find(cachedId)).isNotNull();
+
+            db.complexes().deleteAll(Range.create(new Complex.Id(0, 1L, null, null)));
+            assertThat(db.complexes().find(cachedId)).isNull();
+            assertThat(db.complexes().find(uncachedId)).isNull();
+            assertThat(db.complexes().find(Set.of(cachedId, uncachedId))).isEmpty();
+        });
+        db.tx(() -> {
+            assertThat(db.complexes().find(Range.create(new Complex.Id(0, 1L, null, null)))).isEmpty();
+            assertThat(db.complexes().find(Range.create(new Complex.Id(0, null, null, null)))).hasSize(12);
+            assertThat(db.complexes().find(Range.create(new Complex.Id(null, null, null, null)))).hasSize(48);
+        });
+    }
+
+    @Test
+    public void saveAfterDeleteAllRange() {
+        var unchangedId = new Complex.Id(0, 1L, "aaa", Complex.Status.OK);
+        var changedId = new Complex.Id(0, 1L, "aab", Complex.Status.OK);
+
+        db.tx(this::makeComplexes);
+        db.tx(() -> {
+            Complex unchanged = db.complexes().find(unchangedId);
+            Complex changed = db.complexes().find(changedId);
+
+            db.complexes().deleteAll(Range.create(new Complex.Id(0, 1L, null, null)));
+            db.complexes().save(unchanged);
+            db.complexes().save(new Complex(changed.getId(), "changed"));
+        });
+        db.tx(() -> {
+            assertThat(db.complexes().find(unchangedId)).isEqualTo(new Complex(unchangedId));
+            assertThat(db.complexes().find(changedId)).isEqualTo(new Complex(changedId, "changed"));
+            assertThat(db.complexes().find(Range.create(new Complex.Id(0, 1L, null, null)))).hasSize(2);
+        });
+    }
+
+    @Test
+    public void deleteAllSet() {
+        var cachedId = new Complex.Id(0, 1L, "aaa", Complex.Status.OK);
+        var uncachedId = new Complex.Id(0, 1L, "bbb", Complex.Status.OK);
+        var otherId = new Complex.Id(2, 2L, "bbb", Complex.Status.FAIL);
+        var missingId = new Complex.Id(100, 200L, "foo", Complex.Status.OK);
+
+        db.tx(this::makeComplexes);
+        db.tx(() -> {
+            assertThat(db.complexes().find(cachedId)).isNotNull();
+
+            db.complexes().deleteAll(Set.of(cachedId, otherId, missingId));
+            assertThat(db.complexes().find(cachedId)).isNull();
+            assertThat(db.complexes().find(otherId)).isNull();
+        });
+        db.tx(() -> {
+            assertThat(db.complexes().find(cachedId)).isNull();
+            assertThat(db.complexes().find(otherId)).isNull();
+            assertThat(db.complexes().find(missingId)).isNull();
+            assertThat(db.complexes().findAll()).hasSize(52);
+        });
+    }
+
+    @Test
+    public void updateWithOperations() {
+        var id = new Primitive.Id(1);
+        var nullableId = new EntityWithNullableField.Id("nullable");
+        db.tx(() -> {
+            db.table(Primitive.class).save(new Primitive(id, 3));
+            db.table(EntityWithNullableField.class).save(new EntityWithNullableField(nullableId, null));
+        });
+
+        db.tx(() -> db.table(Primitive.class).update(id, Changeset.incrementField("value", 2)));
+        db.tx(() -> db.table(Primitive.class).update(id, new Changeset().increment("value", 10L)));
+        db.tx(() -> assertThat(db.table(Primitive.class).find(id).getValue()).isEqualTo(15));
+
+        db.tx(() -> db.table(Primitive.class).update(id, new Changeset().min("value", 20)));
+        db.tx(() -> assertThat(db.table(Primitive.class).find(id).getValue()).isEqualTo(15));
+        db.tx(() -> db.table(Primitive.class).update(id, new Changeset().min("value", 7)));
+        db.tx(() -> assertThat(db.table(Primitive.class).find(id).getValue()).isEqualTo(7));
+        db.tx(() -> db.table(Primitive.class).update(id, new Changeset().max("value", 42)));
+        db.tx(() -> assertThat(db.table(Primitive.class).find(id).getValue()).isEqualTo(42));
+
+        db.tx(() -> db.table(EntityWithNullableField.class).update(nullableId, new Changeset().coalesce("nullableField", "first")));
+        db.tx(() -> db.table(EntityWithNullableField.class).update(nullableId, new Changeset().coalesce("nullableField", "second")));
+        db.tx(() -> assertThat(db.table(EntityWithNullableField.class).find(nullableId).getNullableField()).isEqualTo("first"));
+    }
+
     @Test
     public void findPartialKeyParallelTransactions() {
         Complex.Id partialId = new Complex.Id(100, 200L, "foo", null);
@@ -956,6 +1117,75 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         });
     }
 
+    @Test
+    public void findLater() {
+        var existingId = new Id(0, 0L, "aaa", Complex.Status.OK);
+        var missingId = new Id(0, -1L, "aaa", Complex.Status.OK);
+
+        db.tx(this::makeComplexes);
+        db.tx(() -> {
+            var existing = db.complexes().findLater(existingId);
+            var missing = db.complexes().findLater(missingId);
+
+            assertThat(existing.get()).extracting(Complex::getId).isEqualTo(existingId);
+            assertThat(missing.get()).isNull();
+            // Entities read by the batch are in the first-level cache
+            assertThat(db.complexes().find(existingId)).isSameAs(existing.get());
+        });
+    }
+
+    @Test
+    public void findLaterView() {
+        var book1 = new Book(new Book.Id("1"), 1, "title1", List.of());
+        var book2 = new Book(new Book.Id("2"), 1, "title2", List.of());
+        db.tx(() -> db.table(Book.class).insert(book1, book2));
+
+        db.tx(() -> {
+            db.table(Book.class).save(book1.updateTitle("new title1"));
+
+            var view1 = db.table(Book.class).findLater(Book.TitleViewId.class, book1.getId());
+            var view2 = db.table(Book.class).findLater(Book.TitleViewId.class, book2.getId());
+            var missing = db.table(Book.class).findLater(Book.TitleViewId.class, new Book.Id("3"));
+
+            // Views of cached entities are built from the entities changed in this transaction
+            assertThat(view1.get()).isEqualTo(new Book.TitleViewId(book1.getId(), "new title1"));
+            assertThat(view2.get()).isEqualTo(new Book.TitleViewId(book2.getId(), "title2"));
+            assertThat(missing.get()).isNull();
+        });
+    }
+
+    @Test
+    public void aggregate() {
+        db.tx(this::makeComplexes);
+
+        assertThat(db.tx(() -> db.complexes().query()
+                .where("id.d").eq(Complex.Status.OK)
+                .groupBy("id.a")
+                .aggregate(Complex.Totals.class,
+                        Aggregate.count("count"),
+                        Aggregate.sum("id.b", "sumB"),
+                        Aggregate.min("id.c", "minC"))
+        )).containsExactlyInAnyOrder(
+                new Complex.Totals(0, 9, 9L, "aaa"),
+                new Complex.Totals(1, 9, 9L, "aaa"),
+                new Complex.Totals(2, 9, 9L, "aaa")
+        );
+        assertThat(db.tx(() -> db.complexes().query()
+                .aggregate(Complex.Totals.class, Aggregate.count("count"), Aggregate.sum("id.b", "sumB"))
+        )).containsExactly(new Complex.Totals(null, 54, 54L, null));
+    }
+
+    @Test
+    public void aggregateEmpty() {
+        assertThat(db.tx(() -> db.complexes().query()
+                .aggregate(Complex.Totals.class, Aggregate.count("count"), Aggregate.sum("id.b", "sumB"))
+        )).containsExactly(new Complex.Totals(null, 0, null, null));
+        assertThat(db.tx(() -> db.complexes().query()
+                .groupBy("id.a")
+                .aggregate(Complex.Totals.class, Aggregate.count("count"))
+        )).isEmpty();
+    }
+
     @Test
     public void findInCompleteIds() {
         /*
@@ -2676,12 +2906,21 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         });
     }
 
+    /**
+     * @return scan builders that read scan query results with the new and with the legacy {@code Spliterator}
+     */
+    protected final List<TxManager.ScanBuilder> scanWithEachSpliterator() {
+        return List.of(db.scan().withUseNewSpliterator(true), db.scan().withUseNewSpliterator(false));
+    }
+
     @Test
     public void scanUpdateFails() {
-        Assertions.assertThatExceptionOfType(IllegalTransactionScanException.class)
-                .isThrownBy(() -> db.scan().run(() -> {
-                    db.projects().save(new Project(new Project.Id("1"), "p1"));
-                }));
+        for (TxManager.ScanBuilder scan : scanWithEachSpliterator()) {
+            Assertions.assertThatExceptionOfType(IllegalTransactionScanException.class)
+                    .isThrownBy(() -> scan.run(() -> {
+                        db.projects().save(new Project(new Project.Id("1"), "p1"));
+                    }));
+        }
     }
 
     @Test
@@ -2692,8 +2931,10 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
                 i -> db.projects().save(new Project(new Project.Id("id_" + i), "name"))
         ));
 
-        List<Project> result = db.scan().withMaxSize(maxPageSizeBiggerThatReal).run(() -> db.projects().findAll());
-        assertThat(result).hasSize(maxPageSizeBiggerThatReal);
+        for (TxManager.ScanBuilder scan : scanWithEachSpliterator()) {
+            List<Project> result = scan.withMaxSize(maxPageSizeBiggerThatReal).run(() -> db.projects().findAll());
+            assertThat(result).hasSize(maxPageSizeBiggerThatReal);
+        }
     }
 
     @Test
@@ -2704,8 +2945,10 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
             db.projects().save(p1);
         });
 
-        Project result = db.scan().run(() -> db.projects().find(p1.getId()));
-        assertThat(result).isEqualTo(p1);
+        for (TxManager.ScanBuilder scan : scanWithEachSpliterator()) {
+            Project result = scan.run(() -> db.projects().find(p1.getId()));
+            assertThat(result).isEqualTo(p1);
+        }
     }
 
     @Test
@@ -2716,8 +2959,10 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
                 i -> db.projects().save(new Project(new Project.Id("id_" + i), "name"))
         ));
 
-        List<Project> result = db.scan().run(() -> db.projects().streamAll(1).collect(toList()));
-        assertThat(result).hasSize(size);
+        for (TxManager.ScanBuilder scan : scanWithEachSpliterator()) {
+            List<Project> result = scan.run(() -> db.projects().streamAll(1).collect(toList()));
+            assertThat(result).hasSize(size);
+        }
     }
 
     @Test
@@ -3536,6 +3781,23 @@ public abstract class RepositoryTest extends RepositoryTestSupport {
         });
     }
 
+    @Test
+    public void bulkUpsertStream() {
+        List<Bubble> bubbles = IntStream.range(0, 25)
+                .mapToObj(i -> new Bubble(new Bubble.Id("stream", "b" + i), "a" + i, "b" + i, "c" + i))
+                .toList();
+        BulkParams params = BulkParams.builder()
+                .maxBatchRows(10)
+                .maxInFlight(2)
+                .build();
+
+        db.tx(() -> db.bubbles().bulkUpsert(bubbles.stream(), params));
+
+        db.readOnly().run(() -> assertThat(db.bubbles().find(bubbles.stream().map(Bubble::getId).collect(toSet())))
+                .hasSize(bubbles.size())
+                .allSatisfy(b -> assertThat(b.getUpdatedAt()).isNotNull()));
+    }
+
     @Test
     public void loggingMdcContextEvenOnException() {
         Logger log = LoggerFactory.getLogger("RepositoryTest");
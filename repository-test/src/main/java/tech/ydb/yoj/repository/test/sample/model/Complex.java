@@ -3,6 +3,7 @@ package tech.ydb.yoj.repository.test.sample.model;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 import lombok.With;
+import tech.ydb.yoj.databind.schema.Column;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.Table;
 
@@ -33,4 +34,16 @@ public class Complex implements Entity<Complex> {
     public static class View implements Table.View {
         String value;
     }
+
+    @Value
+    public static class Totals implements Table.View {
+        @Column(name = "id_a")
+        Integer a;
+
+        long count;
+
+        Long sumB;
+
+        String minC;
+    }
 }
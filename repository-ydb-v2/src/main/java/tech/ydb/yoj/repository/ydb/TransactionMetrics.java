@@ -0,0 +1,35 @@
+package tech.ydb.yoj.repository.ydb;
+
+import io.prometheus.client.Counter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionMetrics {
+    private static final Counter commits = Counter.build()
+            .namespace("ydb")
+            .subsystem("transaction")
+            .name("commits")
+            .help("Successful YDB transaction commits, by the way the commit was sent: "
+                    + "along with the last statement of the transaction, or as a separate CommitTransaction() request")
+            .labelNames("mode")
+            .register();
+    private static final Counter continuationPages = Counter.build()
+            .namespace("ydb")
+            .subsystem("transaction")
+            .name("continuation_pages")
+            .help("Follow-up queries issued to read the rest of query results truncated by the YDB result row limit")
+            .register();
+
+    public static void commitWithLastQuery() {
+        commits.labels("last_statement").inc();
+    }
+
+    public static void commitSeparately() {
+        commits.labels("separate_request").inc();
+    }
+
+    public static void continuationPage() {
+        continuationPages.inc();
+    }
+}
@@ -9,9 +9,8 @@ import java.util.stream.StreamSupport;
 
 /**
  * @deprecated Legacy implementation of {@code Spliterator} for {@code ReadTable}. Will be eventually removed in a future YOJ version.
- * <p>To use the new {@code Spliterator} contract-conformant implementation, set {@code ReadTableParams.builder().<...>.useNewSpliterator(true)}.
- * <p>Note that using the new implementation currently has a negative performance impact, for more information refer to
- * <a href="https://github.com/ydb-platform/yoj-project/issues/42">GitHub Issue #42</a>.
+ * <p>This implementation is used by default; the new {@code Spliterator} contract-conformant implementation is only used
+ * if {@code ReadTableParams.builder().<...>.useNewSpliterator(true)} is set.
  */
 @Deprecated
 @InternalApi
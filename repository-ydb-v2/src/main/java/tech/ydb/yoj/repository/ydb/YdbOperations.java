@@ -6,6 +6,7 @@ import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.repository.db.exception.RepositoryException;
 import tech.ydb.yoj.repository.db.exception.UnavailableException;
 import tech.ydb.yoj.repository.ydb.exception.YdbRepositoryException;
+import tech.ydb.yoj.util.lang.Exceptions;
 
 import java.time.Duration;
 import java.util.concurrent.CancellationException;
@@ -35,6 +36,43 @@ public final class YdbOperations {
         }
     }
 
+    /**
+     * Non-blocking counterpart of {@link #safeJoin(CompletableFuture)}.
+     *
+     * @return future that completes with the result of {@code future}, or exceptionally with a {@link RepositoryException}
+     */
+    public static <T> CompletableFuture<T> safeAsync(CompletableFuture<T> future) {
+        return safeAsync(future, Duration.ofMinutes(5)); //todo: config
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #safeJoin(CompletableFuture, Duration)}.
+     *
+     * @return future that completes with the result of {@code future}, or exceptionally with a {@link RepositoryException}
+     */
+    public static <T> CompletableFuture<T> safeAsync(CompletableFuture<T> future, Duration timeout) {
+        return future.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        throw new CompletionException(convertAsyncException(ex));
+                    }
+                    return result;
+                });
+    }
+
+    private static RepositoryException convertAsyncException(Throwable ex) {
+        Throwable cause = Exceptions.unwrapCompletionException(ex);
+        if (cause instanceof RepositoryException) {
+            return (RepositoryException) cause;
+        } else if (cause instanceof CancellationException || cause instanceof TimeoutException) {
+            return convertToUnavailable(cause);
+        } else {
+            // Same as an ExecutionException thrown by future.get() in safeJoin()
+            return new YdbRepositoryException("ExecutionException was caught", cause);
+        }
+    }
+
     private static RepositoryException convertToUnavailable(Throwable ex) {
         if (isThreadInterrupted(ex)) {
             Thread.currentThread().interrupt();
@@ -3,6 +3,7 @@ package tech.ydb.yoj.repository.ydb;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.Context;
 import io.grpc.Deadline;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import tech.ydb.common.transaction.TxMode;
 import tech.ydb.common.transaction.YdbTransaction;
 import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.proto.ValueProtos;
 import tech.ydb.table.Session;
 import tech.ydb.table.query.DataQueryResult;
@@ -39,6 +41,7 @@ import tech.ydb.table.values.Value;
 import tech.ydb.yoj.ExperimentalApi;
 import tech.ydb.yoj.repository.BaseDb;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.IsolationLevel;
 import tech.ydb.yoj.repository.db.QueryStatsMode;
 import tech.ydb.yoj.repository.db.QueryTracingFilter;
 import tech.ydb.yoj.repository.db.QueryType;
@@ -57,6 +60,7 @@ import tech.ydb.yoj.repository.db.exception.RepositoryException;
 import tech.ydb.yoj.repository.db.exception.UnavailableException;
 import tech.ydb.yoj.repository.db.readtable.ReadTableParams;
 import tech.ydb.yoj.repository.ydb.bulk.BulkMapper;
+import tech.ydb.yoj.repository.ydb.bulk.BulkRowSize;
 import tech.ydb.yoj.repository.ydb.client.ResultSetConverter;
 import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 import tech.ydb.yoj.repository.ydb.client.YdbValidator;
@@ -67,21 +71,38 @@ import tech.ydb.yoj.repository.ydb.exception.YdbComponentUnavailableException;
 import tech.ydb.yoj.repository.ydb.exception.YdbOverloadedException;
 import tech.ydb.yoj.repository.ydb.exception.YdbRepositoryException;
 import tech.ydb.yoj.repository.ydb.merge.QueriesMerger;
+import tech.ydb.yoj.repository.ydb.merge.WriteBatcher;
 import tech.ydb.yoj.repository.ydb.readtable.ReadTableMapper;
+import tech.ydb.yoj.repository.ydb.statement.FindStatement;
+import tech.ydb.yoj.repository.ydb.statement.QueryBatch;
+import tech.ydb.yoj.repository.ydb.statement.ReadBatchStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
 import tech.ydb.yoj.repository.ydb.table.YdbTable;
+import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
+import tech.ydb.yoj.util.lang.Exceptions;
 import tech.ydb.yoj.util.lang.Interrupts;
 import tech.ydb.yoj.util.lang.Strings;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Strings.emptyToNull;
@@ -112,6 +133,13 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     private final TransactionLocal transactionLocal;
     private final RepositoryCache cache;
     private final String tablespace;
+    // Runs continuations of asynchronous YDB SDK calls one at a time, so that they never run on SDK (gRPC) threads
+    // and never race with each other on the transaction state: session, txId, caches and pending writes
+    private final Executor asyncExecutor = MoreExecutors.newSequentialExecutor(ForkJoinPool.commonPool());
+    // Completes when the last query that uses the session has finished. A YDB session executes one query at a time,
+    // so each query, e.g. a prefetch of a batched find stream, and the commit or rollback waits for the previous one
+    private final AtomicReference<CompletableFuture<?>> lastQuery = new AtomicReference<>(CompletableFuture.completedFuture(null));
+    private volatile Thread syncQueryThread = null;
 
     protected final REPO repo;
 
@@ -121,6 +149,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     private String firstNonNullTxId = null; // used for logs
     private String closeAction = null; // used to detect of usage transaction after commit()/rollback()
     private boolean isBadSession = false;
+    private boolean committedWithLastQuery = false;
 
     public YdbRepositoryTransaction(REPO repo, TxOptions options) {
         this.repo = repo;
@@ -131,10 +160,16 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private <V> YdbSpliterator<V> createSpliterator(String request, boolean isOrdered, @Nullable Duration readTimeout) {
+        return createSpliterator(request, isOrdered, readTimeout, YdbSpliterator.DEFAULT_MAX_BUFFERED_CHUNKS);
+    }
+
+    private <V> YdbSpliterator<V> createSpliterator(
+            String request, boolean isOrdered, @Nullable Duration readTimeout, int maxBufferedChunks
+    ) {
         Duration spliteratorTimeout = readTimeout == null
                 ? DEFAULT_SPLITERATOR_TIMEOUT
                 : readTimeout.plus(ADDED_SPLITERATOR_TIMEOUT);
-        YdbSpliterator<V> spliterator = new YdbSpliterator<>(request, isOrdered, spliteratorTimeout);
+        YdbSpliterator<V> spliterator = new YdbSpliterator<>(request, isOrdered, spliteratorTimeout, maxBufferedChunks);
         spliterators.add(spliterator);
         return spliterator;
     }
@@ -163,6 +198,23 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         endTransaction(CLOSE_ACTION_COMMIT, this::doCommit);
     }
 
+    /**
+     * Asynchronous counterpart of {@link #commit()}. Pending writes are sent to YDB one after another without blocking,
+     * and the transaction is committed along with the last write or by a separate asynchronous request.
+     */
+    @Override
+    public CompletableFuture<Void> commitAsync() {
+        if (isBadSession) {
+            log.error("Transaction was invalidated, but exception was omitted. Commit must not be called after error");
+        }
+        return inQueryOrderAsync(() -> CompletableFuture.completedFuture(null))
+                .thenCompose(__ -> flushPendingWritesAsync(mergePendingWrites()))
+                .<CompletableFuture<Void>>handle((__, thrown) -> thrown == null
+                        ? endTransactionAsync(CLOSE_ACTION_COMMIT, this::doCommitAsync)
+                        : rollbackAsync().thenCompose(___ -> CompletableFuture.failedFuture(thrown)))
+                .thenCompose(Function.identity());
+    }
+
     @Override
     public void rollback() {
         Interrupts.runInCleanupMode(() -> {
@@ -177,13 +229,41 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         });
     }
 
+    @Override
+    public CompletableFuture<Void> rollbackAsync() {
+        return endTransactionAsync(CLOSE_ACTION_ROLLBACK, () ->
+                onAsyncExecutor(YdbOperations.safeAsync(session.rollbackTransaction(txId, new RollbackTxSettings())))
+                        .thenAccept(status -> validate(CLOSE_ACTION_ROLLBACK, status, status.toString()))
+        ).exceptionally(t -> {
+            log.info("Failed to rollback the transaction", t);
+            return null;
+        });
+    }
+
     private void doCommit() {
+        if (committedWithLastQuery) {
+            transactionLocal.log().info("No-op %s: tx was committed along with the last statement", CLOSE_ACTION_COMMIT);
+            return;
+        }
+        validateCommit(YdbOperations.safeJoin(session.commitTransaction(txId, new CommitTxSettings())));
+    }
+
+    private CompletableFuture<Void> doCommitAsync() {
+        if (committedWithLastQuery) {
+            transactionLocal.log().info("No-op %s: tx was committed along with the last statement", CLOSE_ACTION_COMMIT);
+            return CompletableFuture.completedFuture(null);
+        }
+        return onAsyncExecutor(YdbOperations.safeAsync(session.commitTransaction(txId, new CommitTxSettings())))
+                .thenAccept(this::validateCommit);
+    }
+
+    private void validateCommit(Status status) {
         try {
-            Status status = YdbOperations.safeJoin(session.commitTransaction(txId, new CommitTxSettings()));
             validate(CLOSE_ACTION_COMMIT, status, status.toString());
         } catch (YdbComponentUnavailableException | YdbOverloadedException e) {
             throw new UnavailableException("Unknown transaction state: commit was sent, but result is unknown", e);
         }
+        TransactionMetrics.commitSeparately();
     }
 
     private void closeStreams() {
@@ -238,32 +318,64 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private void endTransaction(String actionName, Runnable finalAction) {
-        try {
-            closeStreams();
+        inQueryOrder(() -> {
+            try {
+                closeStreams();
 
-            if (isFinalActionNeeded(actionName)) {
-                doCall(actionName, finalAction);
+                if (isFinalActionNeeded(actionName)) {
+                    doCall(actionName, finalAction);
+                }
+            } catch (RepositoryException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new UnexpectedException("Could not " + actionName + " " + txId, e);
+            } finally {
+                closeSession(actionName);
             }
-        } catch (RepositoryException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new UnexpectedException("Could not " + actionName + " " + txId, e);
-        } finally {
-            closeAction = actionName;
-            if (session != null) {
-                transactionLocal.log().info("[[%s]] TOTAL (txId=%s,sessionId=%s)", sessionSw, firstNonNullTxId, session.getId());
-                // NB: We use getSessionManager() method to allow mocking YdbRepository
-                session.close();
-                session = null;
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> endTransactionAsync(String actionName, Supplier<CompletableFuture<Void>> finalAction) {
+        return inQueryOrderAsync(() -> {
+            CompletableFuture<Void> result;
+            try {
+                closeStreams();
+
+                result = isFinalActionNeeded(actionName)
+                        ? doCallAsync(actionName, finalAction)
+                        : CompletableFuture.completedFuture(null);
+            } catch (Exception e) {
+                result = CompletableFuture.failedFuture(e);
             }
+            return result.handle((__, thrown) -> {
+                closeSession(actionName);
+                if (thrown != null) {
+                    Throwable t = Exceptions.unwrapCompletionException(thrown);
+                    throw new CompletionException(t instanceof RepositoryException
+                            ? t
+                            : new UnexpectedException("Could not " + actionName + " " + txId, t));
+                }
+                return null;
+            });
+        });
+    }
+
+    private void closeSession(String actionName) {
+        closeAction = actionName;
+        if (session != null) {
+            transactionLocal.log().info("[[%s]] TOTAL (txId=%s,sessionId=%s)", sessionSw, firstNonNullTxId, session.getId());
+            // NB: We use getSessionManager() method to allow mocking YdbRepository
+            session.close();
+            session = null;
         }
     }
 
-    private TxControl<?> getTxControl() {
+    private TxControl<?> getTxControl(boolean commitTx) {
         return switch (options.getIsolationLevel()) {
             case SERIALIZABLE_READ_WRITE -> {
                 TxControl<?> txControl = (txId != null ? TxControl.id(txId) : TxControl.serializableRw());
-                yield txControl.setCommitTx(false);
+                yield txControl.setCommitTx(commitTx);
             }
             case ONLINE_CONSISTENT_READ_ONLY -> TxControl.onlineRo().setAllowInconsistentReads(false);
             case ONLINE_INCONSISTENT_READ_ONLY -> TxControl.onlineRo().setAllowInconsistentReads(true);
@@ -276,57 +388,265 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     private String getYql(Statement<?, ?> statement) {
-        return statement.getQuery(tablespace);
+        return statement.getCachedQuery(tablespace);
     }
 
     private static <PARAMS> Params getSdkParams(Statement<PARAMS, ?> statement, PARAMS params) {
-        Map<String, ValueProtos.TypedValue> values = params == null ? Map.of() : statement.toQueryParameters(params);
-        return YdbConverter.convertToParams(values);
+        return params == null ? Params.empty() : Params.copyOf(statement.toSdkParameters(params));
     }
 
     private void flushPendingWrites() {
+        List<YdbRepository.Query<?>> queries = inQueryOrder(this::mergePendingWrites);
+        for (int i = 0; i < queries.size(); i++) {
+            // Commit the transaction along with the last write, saving a separate CommitTransaction() round trip
+            boolean commitTx = (i == queries.size() - 1) && canCommitWithLastQuery();
+            execute(queries.get(i), commitTx);
+        }
+    }
+
+    private CompletableFuture<Void> flushPendingWritesAsync(List<YdbRepository.Query<?>> queries) {
+        CompletableFuture<?> result = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < queries.size(); i++) {
+            YdbRepository.Query<?> query = queries.get(i);
+            boolean last = (i == queries.size() - 1);
+            result = result.thenCompose(__ -> executeAsync(query, last && canCommitWithLastQuery()));
+        }
+        return result.thenApply(__ -> null);
+    }
+
+    private List<YdbRepository.Query<?>> mergePendingWrites() {
         transactionLocal.projectionCache().applyProjectionChanges(this);
-        QueriesMerger.create(cache)
-                .merge(pendingWrites)
-                .forEach(this::execute);
+        List<YdbRepository.Query<?>> queries = QueriesMerger.create(cache, options.isDirtyColumnUpdates()).merge(pendingWrites);
+        if (options.isBatchedWrites()) {
+            queries = WriteBatcher.batch(queries);
+        }
+        return queries;
+    }
+
+    private boolean canCommitWithLastQuery() {
+        return options.getIsolationLevel() == IsolationLevel.SERIALIZABLE_READ_WRITE
+                && !options.isScan()
+                && spliterators.isEmpty();
+    }
+
+    /**
+     * @return new batch of read statements to execute in a single request to YDB
+     */
+    public QueryBatch batch() {
+        return new QueryBatch(this);
     }
 
     @Override
     public <PARAMS, RESULT> List<RESULT> execute(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        return execute(statement, params, false);
+    }
+
+    /**
+     * @param commitTx whether to commit the transaction along with this statement; if {@code true}, the statement
+     *                 is always sent to YDB, even if its result could be read from the cache
+     */
+    private <PARAMS, RESULT> List<RESULT> execute(Statement<PARAMS, RESULT> statement, PARAMS params, boolean commitTx) {
+        if (options.isScan() && statement instanceof ReadBatchStatement batch) {
+            // Scan queries return a single result set, so batched statements are executed one by one
+            @SuppressWarnings("unchecked")
+            List<RESULT> results = (List<RESULT>) (List<?>) executeSeparately(batch, (List<?>) params);
+            return results;
+        }
+
+        return inQueryOrder(() -> {
+            List<RESULT> result = commitTx ? null : readFromCache(statement, params);
+            if (result != null) {
+                return result;
+            }
+
+            Exception thrown = null;
+            try {
+                result = doCall(statement.toDebugString(params), () -> {
+                    if (options.isScan()) {
+                        return options.getScanOptions().isUseNewSpliterator()
+                                ? doExecuteScanQueryList(statement, params)
+                                : doExecuteScanQueryLegacy(statement, params);
+                    } else {
+                        return doExecuteDataQuery(statement, params, commitTx);
+                    }
+                });
+            } catch (Exception e) {
+                thrown = e;
+                throw e;
+            } finally {
+                trace(statement, params, thrown, result);
+            }
+
+            statement.storeToCache(params, result, cache);
+
+            return result;
+        });
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #execute(Statement, Object)}. Statements of the same transaction must be executed
+     * sequentially, because a YDB session can only execute one query at a time.
+     * <p>Query results are processed, and the returned future is completed, on this transaction's sequential executor
+     * backed by {@link ForkJoinPool#commonPool()}, never on the YDB SDK threads. So callbacks chained to the returned
+     * future without an explicit executor also run on that executor, if the future is not yet complete, or on
+     * the calling thread otherwise.
+     * <p>The statement is sent to YDB after all previously started statements of this transaction complete, and
+     * subsequent statements, {@link #commit()} and {@link #rollback()} wait for it. So do not wait for the returned
+     * future in its own callbacks, or in callbacks of other statements' futures.
+     * <p>Statements in scan transactions are executed synchronously.
+     */
+    @Override
+    public <PARAMS, RESULT> CompletableFuture<List<RESULT>> executeAsync(Statement<PARAMS, RESULT> statement, PARAMS params) {
+        if (options.isScan()) {
+            return YdbTable.QueryExecutor.super.executeAsync(statement, params);
+        }
+        return executeAsync(statement, params, false);
+    }
+
+    private <PARAMS, RESULT> CompletableFuture<List<RESULT>> executeAsync(
+            Statement<PARAMS, RESULT> statement, PARAMS params, boolean commitTx
+    ) {
+        return inQueryOrderAsync(() -> {
+            List<RESULT> cached = commitTx ? null : readFromCache(statement, params);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+
+            return doCallAsync(statement.toDebugString(params), () -> doExecuteDataQueryAsync(statement, params, commitTx))
+                    .whenComplete((result, thrown) -> trace(
+                            statement, params,
+                            thrown == null ? null : Exceptions.unwrapCompletionException(thrown),
+                            result
+                    ))
+                    .thenApply(result -> {
+                        statement.storeToCache(params, result, cache);
+                        return result;
+                    });
+        });
+    }
+
+    /**
+     * Runs {@code query} after the previous query of this transaction completes, successfully or not.
+     * The next query, in turn, waits for {@code query} to complete.
+     */
+    private <R> R inQueryOrder(Supplier<R> query) {
+        if (syncQueryThread == Thread.currentThread()) {
+            // Nested query, e.g. an immediate write of a projection while merging pending writes
+            return query.get();
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<?> previous = lastQuery.getAndSet(done);
+        try {
+            previous.handle((__, ___) -> null).join();
+            syncQueryThread = Thread.currentThread();
+            return query.get();
+        } finally {
+            syncQueryThread = null;
+            done.complete(null);
+        }
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #inQueryOrder(Supplier)}: starts {@code query} when the previous query
+     * of this transaction completes, without blocking the calling thread.
+     */
+    private <R> CompletableFuture<R> inQueryOrderAsync(Supplier<CompletableFuture<R>> query) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<?> previous = lastQuery.getAndSet(done);
+        CompletableFuture<R> result = previous.handle((__, ___) -> null).thenCompose(__ -> query.get());
+        result.whenComplete((__, ___) -> done.complete(null));
+        return result;
+    }
+
+    private List<List<?>> executeSeparately(ReadBatchStatement batch, List<?> params) {
+        List<List<?>> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(execute(batch.getStatements().get(i), params.get(i)));
+        }
+        return results;
+    }
+
+    @Nullable
+    private <PARAMS, RESULT> List<RESULT> readFromCache(Statement<PARAMS, RESULT> statement, PARAMS params) {
         List<RESULT> result = statement.readFromCache(params, cache);
         if (result != null) {
             String actionStr = statement.toDebugString(params);
             String resultStr = debugResult(result);
             transactionLocal.log().debug("[statement cache] %s -> %s", actionStr, resultStr);
-            return result;
         }
+        return result;
+    }
 
-        Exception thrown = null;
-        try {
-            result = doCall(statement.toDebugString(params), () -> {
-                if (options.isScan()) {
-                    return options.getScanOptions().isUseNewSpliterator()
-                            ? doExecuteScanQueryList(statement, params)
-                            : doExecuteScanQueryLegacy(statement, params);
-                } else {
-                    return doExecuteDataQuery(statement, params);
-                }
-            });
-        } catch (Exception e) {
-            thrown = e;
-            throw e;
-        } finally {
-            trace(statement, params, thrown, result);
+    private <PARAMS, RESULT> List<RESULT> doExecuteDataQuery(Statement<PARAMS, RESULT> statement, PARAMS params, boolean commitTx) {
+        DataQuery query = prepareDataQuery(statement, params, commitTx);
+        Result<DataQueryResult> result = YdbOperations.safeJoin(query.executeIn(session));
+
+        boolean continuable = options.getMaxContinuedResultRows() > 0
+                && !query.commitTx()
+                && statement instanceof FindStatement<?, ?> find && find.isContinuable();
+        List<RESULT> results = processDataQueryResult(statement, query, result, continuable);
+        if (continuable && isTruncated(result.getValue())) {
+            @SuppressWarnings("unchecked")
+            var find = (FindStatement<?, RESULT>) statement;
+            @SuppressWarnings("unchecked")
+            var parts = (Collection<? extends YqlStatementPart<?>>) params;
+            return continueTruncatedResult(find, parts, results, query.yql());
         }
+        return results;
+    }
 
-        statement.storeToCache(params, result, cache);
+    /**
+     * Reads the rest of a truncated result by follow-up queries, each reading the results after the last one read.
+     */
+    private <RESULT> List<RESULT> continueTruncatedResult(
+            FindStatement<?, RESULT> statement, Collection<? extends YqlStatementPart<?>> params,
+            List<RESULT> firstPage, String yql
+    ) {
+        long maxRows = options.getMaxContinuedResultRows();
+        List<RESULT> results = new ArrayList<>(firstPage);
+        List<RESULT> page = firstPage;
+        Collection<? extends YqlStatementPart<?>> pageParams = params;
+        while (true) {
+            if (results.size() >= maxRows) {
+                throw new ResultTruncatedException(
+                        "Query results were truncated to " + results.size() + " elements after continuation; please specify a LIMIT",
+                        yql,
+                        maxRows,
+                        results.size()
+                );
+            }
 
-        return result;
+            pageParams = statement.continueAfter(pageParams, page.get(page.size() - 1));
+            var next = statement.withParts(pageParams);
+            DataQuery query = prepareDataQuery(next, pageParams, false);
+            Result<DataQueryResult> result = YdbOperations.safeJoin(query.executeIn(session));
+            page = processDataQueryResult(next, query, result, true);
+            TransactionMetrics.continuationPage();
+
+            results.addAll(page);
+            if (page.isEmpty() || !isTruncated(result.getValue())) {
+                return results;
+            }
+        }
+    }
+
+    private static boolean isTruncated(DataQueryResult queryResult) {
+        return IntStream.range(0, queryResult.getResultSetCount())
+                .anyMatch(i -> queryResult.getResultSet(i).isTruncated());
+    }
+
+    private <PARAMS, RESULT> CompletableFuture<List<RESULT>> doExecuteDataQueryAsync(
+            Statement<PARAMS, RESULT> statement, PARAMS params, boolean commitTx
+    ) {
+        DataQuery query = prepareDataQuery(statement, params, commitTx);
+        return onAsyncExecutor(YdbOperations.safeAsync(query.executeIn(session)))
+                .thenApply(result -> processDataQueryResult(statement, query, result));
     }
 
-    private <PARAMS, RESULT> List<RESULT> doExecuteDataQuery(Statement<PARAMS, RESULT> statement, PARAMS params) {
+    private <PARAMS> DataQuery prepareDataQuery(Statement<PARAMS, ?> statement, PARAMS params, boolean commitTx) {
         String yql = getYql(statement);
-        TxControl<?> txControl = getTxControl();
+        TxControl<?> txControl = getTxControl(commitTx);
         Params sdkParams = getSdkParams(statement, params);
         ExecuteDataQuerySettings settings = new ExecuteDataQuerySettings();
         if (!statement.isPreparable()) {
@@ -349,8 +669,19 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         // todo
         // settings.setTraceId();
 
-        Result<DataQueryResult> result = YdbOperations.safeJoin(session.executeDataQuery(yql, txControl, sdkParams, settings));
+        return new DataQuery(yql, txControl, sdkParams, settings, commitTx);
+    }
+
+    private <RESULT> List<RESULT> processDataQueryResult(
+            Statement<?, RESULT> statement, DataQuery query, Result<DataQueryResult> result
+    ) {
+        return processDataQueryResult(statement, query, result, false);
+    }
 
+    private <RESULT> List<RESULT> processDataQueryResult(
+            Statement<?, RESULT> statement, DataQuery query, Result<DataQueryResult> result, boolean allowTruncated
+    ) {
+        String yql = query.yql();
         if (result.isSuccess()) {
             txId = emptyToNull(result.getValue().getTxId());
             if (firstNonNullTxId == null) {
@@ -358,24 +689,53 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             }
         }
 
-        validate(yql, result.getStatus(), result.toString());
+        if (query.commitTx()) {
+            try {
+                validate(yql, result.getStatus(), result.toString());
+            } catch (YdbComponentUnavailableException | YdbOverloadedException e) {
+                throw new UnavailableException("Unknown transaction state: commit was sent, but result is unknown", e);
+            }
+            committedWithLastQuery = true;
+            TransactionMetrics.commitWithLastQuery();
+        } else {
+            validate(yql, result.getStatus(), result.toString());
+        }
 
         DataQueryResult queryResult = result.getValue();
-        if (queryResult.getResultSetCount() > 1) {
-            throw new YdbRepositoryException("Multi-table queries are not supported", yql, queryResult);
+        if (queryResult.getResultSetCount() > 1 && !(statement instanceof ReadBatchStatement)) {
+            throw new YdbRepositoryException("Multi-table queries are only supported for batched reads, use QueryBatch", yql, queryResult);
         }
         if (queryResult.getResultSetCount() == 0) {
             return null;
         }
-        validateTruncatedResults(yql, queryResult);
+        if (!allowTruncated) {
+            validateTruncatedResults(yql, queryResult);
+        }
 
         QueryStats queryStats = queryResult.getQueryStats();
         if (queryStats != null) {
             transactionLocal.log().debug(() -> logQueryStats(queryStats));
         }
 
+        if (statement instanceof ReadBatchStatement batch) {
+            List<ResultSetReader> resultSets = IntStream.range(0, queryResult.getResultSetCount())
+                    .mapToObj(queryResult::getResultSet)
+                    .toList();
+            @SuppressWarnings("unchecked")
+            List<RESULT> batchResults = (List<RESULT>) (List<?>) batch.readResultSets(resultSets);
+            return batchResults;
+        }
+
         ResultSetReader resultSet = queryResult.getResultSet(0);
-        return new ResultSetConverter(resultSet).stream(statement::readResult).collect(toList());
+        return new ResultSetConverter(resultSet).streamRows(statement::rowReader).collect(toList());
+    }
+
+    private record DataQuery(
+            String yql, TxControl<?> txControl, Params params, ExecuteDataQuerySettings settings, boolean commitTx
+    ) {
+        private CompletableFuture<Result<DataQueryResult>> executeIn(Session session) {
+            return session.executeDataQuery(yql, txControl, params, settings);
+        }
     }
 
     private void validateTruncatedResults(String yql, DataQueryResult queryResult) {
@@ -413,7 +773,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
                         rowCount
                 );
             }
-            new ResultSetConverter(rs).stream(statement::readResult).forEach(result::add);
+            new ResultSetConverter(rs).streamRows(statement::rowReader).forEach(result::add);
         }));
 
         validate("SCAN_QUERY: " + yql, status, status.toString());
@@ -462,7 +822,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         initSession();
         session.executeScanQuery(
                 yql, sdkParams, settings,
-                rs -> new ResultSetConverter(rs).stream(statement::readResult).forEach(spliterator::onNext)
+                rs -> spliterator.onNextChunk(new ResultSetConverter(rs).streamRows(statement::rowReader).toList())
         ).whenComplete(spliterator::onSupplierThreadComplete);
 
         return spliterator.createStream();
@@ -485,7 +845,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         }
         YdbRepository.Query<PARAMS> query = new YdbRepository.Query<>(statement, value);
         if (options.isImmediateWrites()) {
-            execute(query);
+            execute(query, false);
             transactionLocal.projectionCache().applyProjectionChanges(this);
         } else {
             pendingWrites.add(query);
@@ -493,11 +853,20 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     }
 
     @SuppressWarnings("unchecked")
-    private <PARAMS> void execute(YdbRepository.Query<PARAMS> query) {
+    private <PARAMS> void execute(YdbRepository.Query<PARAMS> query, boolean commitTx) {
         if (query.getValues().size() == 1) {
-            execute(query.getStatement(), query.getValues().get(0));
+            execute(query.getStatement(), query.getValues().get(0), commitTx);
         } else {
-            execute(query.getStatement(), (PARAMS) query.getValues());
+            execute(query.getStatement(), (PARAMS) query.getValues(), commitTx);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <PARAMS> CompletableFuture<?> executeAsync(YdbRepository.Query<PARAMS> query, boolean commitTx) {
+        if (query.getValues().size() == 1) {
+            return executeAsync(query.getStatement(), query.getValues().get(0), commitTx);
+        } else {
+            return executeAsync(query.getStatement(), (PARAMS) query.getValues(), commitTx);
         }
     }
 
@@ -505,29 +874,15 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
     public <IN> void bulkUpsert(BulkMapper<IN> mapper, List<IN> input, BulkParams params) {
         String tableName = mapper.getTableName(tablespace);
 
-        doCall("bulk upsert to table " + mapper.getTableName(""), () -> {
-            var values = input.stream().map(x -> StructValue.of(
-                            mapper.map(x).entrySet().stream()
-                                    .collect(
-                                            Collectors.toMap(
-                                                    Map.Entry::getKey,
-                                                    entry -> YdbConverter.toSDK(entry.getValue())
-                                            )
-                                    )
-                    )
-            ).toArray(Value[]::new);
-
-            var settings = new BulkUpsertSettings();
-            settings.setTimeout(params.getTimeout());
-            settings.setCancelAfter(params.getCancelAfter());
-            settings.setTraceId(params.getTraceId());
+        inQueryOrder(() -> doCall("bulk upsert to table " + mapper.getTableName(""), () -> {
+            var values = input.stream().map(mapper::mapToSdk).toArray(Value[]::new);
 
             try {
                 Status status = YdbOperations.safeJoin(
                         session.executeBulkUpsert(
                                 tableName,
                                 ListValue.of(values),
-                                settings
+                                bulkUpsertSettings(params)
                         )
                 );
                 validate("bulkUpsert", status, status.toString());
@@ -536,7 +891,74 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             } catch (Exception e) {
                 throw new UnexpectedException("Could not bulk upsert into table " + tableName, e);
             }
-        });
+            return null;
+        }));
+    }
+
+    /**
+     * Bulk upserts the {@code input} stream in batches bounded both by {@link BulkParams#getMaxBatchRows() row count}
+     * and by {@link BulkParams#getMaxBatchBytes() estimated size} (see {@link BulkRowSize}), with at most
+     * {@link BulkParams#getMaxInFlight()} concurrent bulk upsert requests. The stream is only read further when there
+     * is a free request slot, so memory usage does not depend on the stream size.
+     * <p>If the bulk upsert fails, this method returns only after all the requests that have already been sent
+     * complete, so no rows are written after it returns. Rows of the requests that have completed successfully
+     * stay written.
+     */
+    @Override
+    public <IN> void bulkUpsert(BulkMapper<IN> mapper, Stream<IN> input, BulkParams params) {
+        String tableName = mapper.getTableName(tablespace);
+
+        inQueryOrder(() -> doCall("bulk upsert stream to table " + mapper.getTableName(""), () -> {
+            BulkUpsertSettings settings = bulkUpsertSettings(params);
+            Deque<CompletableFuture<Status>> inFlight = new ArrayDeque<>();
+            try {
+                List<Value<?>> batch = new ArrayList<>();
+                long batchBytes = 0;
+                for (Iterator<IN> iter = input.iterator(); iter.hasNext(); ) {
+                    StructValue row = mapper.mapToSdk(iter.next());
+                    batch.add(row);
+                    batchBytes += BulkRowSize.estimate(row);
+
+                    if (batch.size() >= params.getMaxBatchRows() || batchBytes >= params.getMaxBatchBytes()) {
+                        if (inFlight.size() >= params.getMaxInFlight()) {
+                            awaitBulkUpsert(inFlight.removeFirst());
+                        }
+                        inFlight.addLast(session.executeBulkUpsert(tableName, ListValue.of(batch.toArray(Value[]::new)), settings));
+                        batch = new ArrayList<>();
+                        batchBytes = 0;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    inFlight.addLast(session.executeBulkUpsert(tableName, ListValue.of(batch.toArray(Value[]::new)), settings));
+                }
+
+                while (!inFlight.isEmpty()) {
+                    awaitBulkUpsert(inFlight.removeFirst());
+                }
+            } catch (RepositoryException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new UnexpectedException("Could not bulk upsert into table " + tableName, e);
+            } finally {
+                // If reading the stream or a request has failed, do not leave the remaining requests running
+                // in the background: e.g., they could overwrite the rows written by a retry of this bulk upsert
+                inFlight.forEach(request -> request.handle((__, ___) -> null).join());
+            }
+            return null;
+        }));
+    }
+
+    private void awaitBulkUpsert(CompletableFuture<Status> request) {
+        Status status = YdbOperations.safeJoin(request);
+        validate("bulkUpsert", status, status.toString());
+    }
+
+    private static BulkUpsertSettings bulkUpsertSettings(BulkParams params) {
+        var settings = new BulkUpsertSettings();
+        settings.setTimeout(params.getTimeout());
+        settings.setCancelAfter(params.getCancelAfter());
+        settings.setTraceId(params.getTraceId());
+        return settings;
     }
 
     @Override
@@ -545,13 +967,15 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             throw new IllegalTransactionIsolationLevelException("readTable", options.getIsolationLevel());
         }
         String tableName = mapper.getTableName(tablespace);
-        ReadTableSettings.Builder settings = ReadTableSettings.newBuilder()
-                .orderedRead(params.isOrdered())
-                .withRequestTimeout(params.getTimeout())
-                .rowLimit(params.getRowLimit())
-                .columns(mapper.getColumns())
-                .batchLimitBytes(params.getBatchLimitBytes())
-                .batchLimitRows(params.getBatchLimitRows());
+        if (params.isUseNewSpliterator() && params.getParallelism() > 1
+                && params.getFromKey() == null && params.getToKey() == null) {
+            List<TupleValue> partitionBounds = repo.getSchemaOperations().getPartitionUpperBounds(mapper.getTableName(""));
+            if (!partitionBounds.isEmpty()) {
+                return readTableInParallel(mapper, params, partitionBounds);
+            }
+        }
+
+        ReadTableSettings.Builder settings = readTableSettings(mapper, params);
         if (params.getFromKey() != null) {
             List<Value<?>> values = mapper.mapKey(params.getFromKey()).stream()
                     .map(typedValue -> YdbConverter.toSDK(typedValue.getType(), typedValue.getValue()))
@@ -575,7 +999,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             initSession();
             session.readTable(
                     tableName, settings.build(),
-                    resultSet -> new ResultSetConverter(resultSet).stream(mapper::mapResult).forEach(spliterator::onNext)
+                    resultSet -> spliterator.onNextChunk(new ResultSetConverter(resultSet).stream(mapper::mapResult).toList())
             ).whenComplete(spliterator::onSupplierThreadComplete);
 
             return spliterator.createStream();
@@ -603,6 +1027,113 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         }
     }
 
+    /**
+     * Reads the whole table with up to {@link ReadTableParams#getParallelism() params.parallelism} concurrent
+     * {@code readTable} streams, each on its own session. The table's partitions are divided into contiguous groups,
+     * and each group is read by a separate stream.
+     * <p>Each stream reads its key range at its own snapshot, taken when the stream starts, so the result is consistent
+     * within each key range, but is <em>not</em> a point-in-time read of the whole table: changes committed while
+     * the streams are starting might be seen in some key ranges and not in others.
+     * <p>As soon as one of the streams fails, the others are cancelled.
+     * <p>If {@code params.ordered} is set, the groups' streams are concatenated in key order (groups are disjoint
+     * and ascending, so this is the k-way merge); otherwise, results of all streams are interleaved in arrival order.
+     * Each stream buffers a bounded number of result set parts, so memory usage is bounded by {@code parallelism}
+     * times the result set part size, see {@link ReadTableParams#getBatchLimitBytes()}.
+     */
+    private <PARAMS, RESULT> Stream<RESULT> readTableInParallel(
+            ReadTableMapper<PARAMS, RESULT> mapper, ReadTableParams<PARAMS> params, List<TupleValue> partitionBounds
+    ) {
+        if (closeAction != null) {
+            throw new IllegalStateException("Transaction already closed by " + closeAction);
+        }
+
+        String tableName = mapper.getTableName(tablespace);
+        int partitions = partitionBounds.size() + 1;
+        int streams = Math.min(params.getParallelism(), partitions);
+
+        var readers = new ParallelReaders();
+        Stream<RESULT> result;
+        if (params.isOrdered()) {
+            List<YdbSpliterator<RESULT>> spliterators = new ArrayList<>(streams);
+            for (int i = 0; i < streams; i++) {
+                YdbSpliterator<RESULT> spliterator = createSpliterator("readTable: " + tableName, true, params.getTimeout());
+                spliterators.add(spliterator);
+                readTableRange(mapper, params, partitionBounds, i * partitions / streams, (i + 1) * partitions / streams,
+                        spliterator, readers, spliterator::onSupplierThreadComplete);
+            }
+            result = spliterators.stream()
+                    .flatMap(YdbSpliterator::createStream)
+                    .onClose(() -> spliterators.forEach(YdbSpliterator::close));
+        } else {
+            YdbSpliterator<RESULT> spliterator = createSpliterator("readTable: " + tableName, false, params.getTimeout(), streams);
+            var onComplete = spliterator.onSupplierThreadsComplete(streams);
+            for (int i = 0; i < streams; i++) {
+                readTableRange(mapper, params, partitionBounds, i * partitions / streams, (i + 1) * partitions / streams,
+                        spliterator, readers, onComplete);
+            }
+            result = spliterator.createStream();
+        }
+
+        return params.getRowLimit() > 0 ? result.limit(params.getRowLimit()) : result;
+    }
+
+    // Reads partitions [fromPartition, toPartition) on a new session, which is closed when the read completes
+    private <PARAMS, RESULT> void readTableRange(
+            ReadTableMapper<PARAMS, RESULT> mapper, ReadTableParams<PARAMS> params, List<TupleValue> partitionBounds,
+            int fromPartition, int toPartition,
+            YdbSpliterator<RESULT> spliterator, ParallelReaders readers, BiConsumer<Status, Throwable> onComplete
+    ) {
+        ReadTableSettings.Builder settings = readTableSettings(mapper, params);
+        if (fromPartition > 0) {
+            settings.fromKey(partitionBounds.get(fromPartition - 1), true);
+        }
+        if (toPartition <= partitionBounds.size()) {
+            settings.toKey(partitionBounds.get(toPartition - 1), false);
+        }
+
+        Session rangeSession = repo.getSessionManager().getSession();
+        GrpcReadStream<ResultSetReader> reader = rangeSession.readTable(mapper.getTableName(tablespace), settings.build());
+        CompletableFuture<Status> readDone = reader.start(
+                resultSet -> spliterator.onNextChunk(new ResultSetConverter(resultSet).stream(mapper::mapResult).toList())
+        );
+        readers.add(reader);
+        readDone.whenComplete((status, error) -> {
+            rangeSession.close();
+            if (error != null || !status.isSuccess()) {
+                readers.cancelAll();
+            }
+            onComplete.accept(status, error);
+        });
+    }
+
+    // readTable streams of a single readTableInParallel() call; once one of them fails, all the others are cancelled
+    private static final class ParallelReaders {
+        private final List<GrpcReadStream<?>> readers = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled = false;
+
+        void add(GrpcReadStream<?> reader) {
+            readers.add(reader);
+            if (cancelled) {
+                reader.cancel();
+            }
+        }
+
+        void cancelAll() {
+            cancelled = true;
+            readers.forEach(GrpcReadStream::cancel);
+        }
+    }
+
+    private static <PARAMS> ReadTableSettings.Builder readTableSettings(ReadTableMapper<PARAMS, ?> mapper, ReadTableParams<PARAMS> params) {
+        return ReadTableSettings.newBuilder()
+                .orderedRead(params.isOrdered())
+                .withRequestTimeout(params.getTimeout())
+                .rowLimit(params.getRowLimit())
+                .columns(mapper.getColumns())
+                .batchLimitBytes(params.getBatchLimitBytes())
+                .batchLimitRows(params.getBatchLimitRows());
+    }
+
     /**
      * @return YDB SDK {@link YdbTransaction} wrapping this {@code YdbRepositoryTransaction}
      */
@@ -659,6 +1190,45 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
         }
     }
 
+    private CompletableFuture<Void> initSessionAsync() {
+        if (closeAction != null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Transaction already closed by " + closeAction));
+        }
+        if (session != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // NB: We use getSessionManager() method to allow mocking YdbRepository
+        return onAsyncExecutor(repo.getSessionManager().getSessionAsync()).thenAccept(s -> {
+            session = s;
+            sessionSw = Stopwatch.createStarted();
+        });
+    }
+
+    /**
+     * @return future that completes with the same result as {@code sdkCall}, but on this transaction's
+     * {@link #asyncExecutor}: callbacks of the returned future that are not given an explicit executor run there,
+     * not on the YDB SDK threads
+     */
+    private <R> CompletableFuture<R> onAsyncExecutor(CompletableFuture<R> sdkCall) {
+        return sdkCall.whenCompleteAsync((__, ___) -> {
+        }, asyncExecutor);
+    }
+
+    private <R> CompletableFuture<R> doCallAsync(String actionStr, Supplier<CompletableFuture<R>> call) {
+        return initSessionAsync().thenCompose(__ -> {
+            Stopwatch sw = Stopwatch.createStarted();
+            return call.get().whenComplete((result, thrown) -> {
+                String resultStr;
+                if (thrown != null) {
+                    resultStr = " => " + Exceptions.unwrapCompletionException(thrown).getClass().getName();
+                } else {
+                    resultStr = (result == null ? "" : " -> " + debugResult(result));
+                }
+                transactionLocal.log().debug("[ %s ] %s", sw, actionStr + resultStr);
+            });
+        });
+    }
+
     private <R> R doCall(String actionStr, Supplier<R> call) {
         initSession();
 
@@ -719,7 +1289,7 @@ public class YdbRepositoryTransaction<REPO extends YdbRepository>
             case INSERT -> QueryType.INSERT;
             case UPSERT -> QueryType.SAVE;
             case UPDATE -> QueryType.UPDATE;
-            case DELETE, DELETE_ALL -> QueryType.DELETE;
+            case DELETE, DELETE_ALL, DELETE_RANGE -> QueryType.DELETE;
         };
 
         return tracingFilter.shouldTrace(txName, options, queryType, thrown);
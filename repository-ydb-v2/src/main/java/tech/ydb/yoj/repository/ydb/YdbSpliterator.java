@@ -1,6 +1,7 @@
 package tech.ydb.yoj.repository.ydb;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.ydb.core.Status;
@@ -11,12 +12,15 @@ import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -26,36 +30,55 @@ import static tech.ydb.yoj.repository.ydb.client.YdbValidator.validate;
 
 /**
  * {@code YdbSpliterator} used to read data from YDB streams.
- * It's possible to supply values from different threads, but supplier threads must not call {@code onNext()} concurrently.
+ * It's possible to supply values from different threads, but supplier threads must not call {@code onNext()} concurrently,
+ * unless the spliterator is unordered and is fed by several independent suppliers (see {@link #onSupplierThreadsComplete(int)}).
  * This Spliterator should be explicitly closed by the {@code close()} method for finish work in YDB session; when the stream returned by
  * {@code readTable()} is used inside a YOJ transaction, {@code close()} will be called automatically at transaction end (both commit and rollback).
- * <p>To use the new implementation, set
- * {@link tech.ydb.yoj.repository.db.readtable.ReadTableParams.ReadTableParamsBuilder#useNewSpliterator(boolean)
- * ReadTableParams&lt;YourEntity.Id&gt;.builder().useNewSpliterator(true).build()}.
- * <p>Note that using the new implementation currently has a negative performance impact, for more information refer to
- * <a href="https://github.com/ydb-platform/yoj-project/issues/42">GitHub Issue #42</a>.
+ * <p>Values are handed over to the stream thread in chunks (typically, one chunk per YDB result set part), see
+ * {@link #onNextChunk(List)}. At most {@code maxBufferedChunks} chunks are buffered, in addition to the chunk
+ * that the stream thread is currently reading, so memory usage is bounded by the result set part size,
+ * which can be limited by e.g. {@link tech.ydb.yoj.repository.db.readtable.ReadTableParams#getBatchLimitRows()
+ * ReadTableParams.batchLimitRows} and {@link tech.ydb.yoj.repository.db.readtable.ReadTableParams#getBatchLimitBytes()
+ * ReadTableParams.batchLimitBytes}.
+ * <p>This implementation is used only if {@link tech.ydb.yoj.repository.db.readtable.ReadTableParams#isUseNewSpliterator()
+ * ReadTableParams.useNewSpliterator} (for {@code readTable()}) or {@link tech.ydb.yoj.repository.db.TxOptions.ScanOptions#isUseNewSpliterator()
+ * ScanOptions.useNewSpliterator} (for scan queries) is set.
  */
 @InternalApi
 @ExperimentalApi(issue = "https://github.com/ydb-platform/yoj-project/issues/42")
 public class YdbSpliterator<V> implements Spliterator<V> {
     private static final Logger log = LoggerFactory.getLogger(YdbSpliterator.class);
 
+    public static final int DEFAULT_MAX_BUFFERED_CHUNKS = 1;
+
     // Deadline for stream work
     private final long streamWorkDeadlineNanos;
     private final int flags;
-    /* ArrayBlockingQueue(1) is used instead SynchronousQueue because clear() behavior is needed
-     * ArrayBlockingQueue(1) was chosen to minimize memory usage. This is not a performance-efficient solution
-     * since it requires synchronization between threads for each object. If necessary, we can increase
-     * the queue size or choose a different mechanism for concurrency interaction.
+    /* ArrayBlockingQueue is used instead SynchronousQueue because clear() behavior is needed.
+     * Each queue element is a chunk of values, so supplier and stream threads synchronize once per chunk
+     * and not once per value.
      */
-    private final BlockingQueue<QueueValue<V>> queue = new ArrayBlockingQueue<>(1);
+    private final BlockingQueue<QueueValue<V>> queue;
     private final BiConsumer<Status, Throwable> validateResponse;
 
     private volatile boolean closed = false;
 
     private boolean endData = false;
 
+    // (stream thread) Chunk that is currently read by the stream thread
+    private List<V> chunk = List.of();
+    private int chunkIndex = 0;
+
     public YdbSpliterator(String request, boolean isOrdered, Duration streamWorkTimeout) {
+        this(request, isOrdered, streamWorkTimeout, DEFAULT_MAX_BUFFERED_CHUNKS);
+    }
+
+    /**
+     * @param maxBufferedChunks maximum number of value chunks that the supplier thread can send ahead of the stream thread
+     */
+    public YdbSpliterator(String request, boolean isOrdered, Duration streamWorkTimeout, int maxBufferedChunks) {
+        Preconditions.checkArgument(maxBufferedChunks >= 1, "maxBufferedChunks must be >= 1, got %s", maxBufferedChunks);
+        this.queue = new ArrayBlockingQueue<>(maxBufferedChunks);
         this.flags = (isOrdered ? ORDERED : 0) | NONNULL;
         this.streamWorkDeadlineNanos = System.nanoTime() + TimeUnit.NANOSECONDS.toNanos(saturatedToNanos(streamWorkTimeout));
         this.validateResponse = (status, error) -> {
@@ -77,6 +100,14 @@ public class YdbSpliterator<V> implements Spliterator<V> {
 
     // (supplier thread) Send data to stream thread.
     public void onNext(V value) {
+        onNextChunk(List.of(value));
+    }
+
+    // (supplier thread) Send a chunk of data to stream thread. The chunk must not be modified after this call.
+    public void onNextChunk(List<V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
         if (closed) {
             // Need to abort supplier thread if stream is closed. onSupplierThreadComplete will exit immediately.
             // ConsumerDoneException isn't handled because onSupplierThreadComplete will exit by this.closed.
@@ -84,8 +115,8 @@ public class YdbSpliterator<V> implements Spliterator<V> {
         }
 
         try {
-            if (!queue.offer(QueueValue.of(value), calculateTimeout(), TimeUnit.NANOSECONDS)) {
-                log.warn("Supplier thread was closed because consumer didn't poll an element of stream on timeout");
+            if (!queue.offer(QueueValue.of(values), calculateTimeout(), TimeUnit.NANOSECONDS)) {
+                log.warn("Supplier thread was closed because consumer didn't poll a chunk of stream elements on timeout");
                 throw OfferDeadlineExceededException.INSTANCE;
             }
         } catch (InterruptedException e) {
@@ -112,6 +143,19 @@ public class YdbSpliterator<V> implements Spliterator<V> {
         }
     }
 
+    // (supplier threads) Returns callback that sends knowledge to stream when data of all {@code suppliers} is over,
+    // or when any of the suppliers fails. Each supplier must call the callback exactly once.
+    public BiConsumer<Status, Throwable> onSupplierThreadsComplete(int suppliers) {
+        AtomicInteger remaining = new AtomicInteger(suppliers);
+        AtomicBoolean completed = new AtomicBoolean();
+        return (status, ex) -> {
+            boolean failed = ex != null || !status.isSuccess();
+            if ((failed || remaining.decrementAndGet() == 0) && completed.compareAndSet(false, true)) {
+                onSupplierThreadComplete(status, ex);
+            }
+        };
+    }
+
     // (stream thread)
     @Nullable
     private QueueValue<V> poll() {
@@ -130,6 +174,11 @@ public class YdbSpliterator<V> implements Spliterator<V> {
             throw new IllegalStateException("Can't use closed YdbSpliterator");
         }
 
+        if (chunkIndex < chunk.size()) {
+            action.accept(chunk.get(chunkIndex++));
+            return true;
+        }
+
         // Stream API can call tryAdvance() once again even if tryAdvance() returned false
         if (endData) {
             return false;
@@ -146,7 +195,9 @@ public class YdbSpliterator<V> implements Spliterator<V> {
             return false;
         }
 
-        action.accept(value.value());
+        chunk = value.values();
+        chunkIndex = 1;
+        action.accept(chunk.get(0));
         return true;
     }
 
@@ -161,6 +212,8 @@ public class YdbSpliterator<V> implements Spliterator<V> {
         // Abort offer in supplier thread. onNext() will look at this.closed and exit immediately.
         // onSupplierThreadComplete() just will exit.
         queue.clear();
+        chunk = List.of();
+        chunkIndex = 0;
     }
 
     @Override
@@ -184,13 +237,13 @@ public class YdbSpliterator<V> implements Spliterator<V> {
     }
 
     private record QueueValue<V>(
-            V value,
+            List<V> values,
             Status status,
             Throwable error,
             boolean endData
     ) {
-        public static <V> QueueValue<V> of(V value) {
-            return new QueueValue<>(value, null, null, false);
+        public static <V> QueueValue<V> of(List<V> values) {
+            return new QueueValue<>(values, null, null, false);
         }
 
         public static <V> QueueValue<V> ofEndData(Status status, Throwable ex) {
@@ -1,13 +1,26 @@
 package tech.ydb.yoj.repository.ydb.bulk;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.StructValue;
 import tech.ydb.yoj.InternalApi;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import java.util.Map;
 
+import static java.util.stream.Collectors.toMap;
+
 @InternalApi
 public interface BulkMapper<E> {
     String getTableName(String tableSpace);
 
     Map<String, ValueProtos.TypedValue> map(E entity);
+
+    /**
+     * Converts the entity to a bulk upsert row of YDB SDK values.
+     * <p>Default implementation converts the result of {@link #map(Object)}.
+     */
+    default StructValue mapToSdk(E entity) {
+        return StructValue.of(map(entity).entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, e -> YdbConverter.toSDK(e.getValue()))));
+    }
 }
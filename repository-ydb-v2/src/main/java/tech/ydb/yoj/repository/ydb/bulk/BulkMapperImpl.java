@@ -2,6 +2,11 @@ package tech.ydb.yoj.repository.ydb.bulk;
 
 import com.google.protobuf.NullValue;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
@@ -10,16 +15,30 @@ import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @InternalApi
 public final class BulkMapperImpl<E extends Entity<E>> implements BulkMapper<E> {
     private final TableDescriptor<E> tableDescriptor;
     private final EntitySchema<E> srcSchema;
+    private final List<SdkColumn> sdkColumns;
+    private final StructType sdkRowType;
 
     public BulkMapperImpl(TableDescriptor<E> tableDescriptor, EntitySchema<E> srcSchema) {
         this.tableDescriptor = tableDescriptor;
         this.srcSchema = srcSchema;
+        this.sdkColumns = srcSchema.flattenFields().stream()
+                .map(field -> {
+                    YqlType yqlType = YqlType.of(field);
+                    return new SdkColumn(field.getName(), yqlType, yqlType.getSdkOptionalType());
+                })
+                .toList();
+
+        Map<String, Type> rowTypes = new LinkedHashMap<>();
+        sdkColumns.forEach(column -> rowTypes.put(column.name(), column.optionalType()));
+        this.sdkRowType = StructType.of(rowTypes);
     }
 
     @Override
@@ -40,6 +59,25 @@ public final class BulkMapperImpl<E extends Entity<E>> implements BulkMapper<E>
         return result;
     }
 
+    /**
+     * Converts the entity directly to YDB SDK values by {@link YqlType#toSdk(Object)}, with column types resolved once
+     * per mapper, instead of building a protobuf {@code TypedValue} (with its own type) for each column of each row
+     * and then converting it.
+     */
+    @Override
+    public StructValue mapToSdk(E entity) {
+        var flattened = srcSchema.flatten(entity.preSave());
+
+        Map<String, Value<?>> row = new HashMap<>();
+        for (SdkColumn column : sdkColumns) {
+            Object value = flattened.get(column.name());
+            row.put(column.name(), value == null
+                    ? column.optionalType().emptyValue()
+                    : column.optionalType().newValue(column.yqlType().toSdk(value)));
+        }
+        return sdkRowType.newValue(row);
+    }
+
     private ValueProtos.TypedValue toTypedValue(Schema.JavaFieldValue value, boolean optional) {
         YqlType type = YqlType.of(value.getField());
         return ValueProtos.TypedValue.newBuilder()
@@ -61,4 +99,7 @@ public final class BulkMapperImpl<E extends Entity<E>> implements BulkMapper<E>
                 ? ValueProtos.Value.newBuilder().setNullFlagValue(NullValue.NULL_VALUE)
                 : type.toYql(value);
     }
+
+    private record SdkColumn(String name, YqlType yqlType, OptionalType optionalType) {
+    }
 }
@@ -0,0 +1,54 @@
+package tech.ydb.yoj.repository.ydb.bulk;
+
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Value;
+import tech.ydb.yoj.InternalApi;
+
+/**
+ * Estimates the size of bulk upsert rows, to split bulk upserts into requests of bounded size.
+ * <p>The estimate is close to the serialized size of the row for rows of primitive and optional primitive columns,
+ * but is computed without serializing the row: numeric values are counted by their maximum size,
+ * and strings by their length in characters. Values of other types are serialized to get their size.
+ */
+@InternalApi
+public final class BulkRowSize {
+    // Protobuf field tag and length of a value message
+    private static final int VALUE_OVERHEAD = 2;
+    // Protobuf field tag and length of a string or bytes field
+    private static final int STRING_OVERHEAD = 3;
+
+    private BulkRowSize() {
+    }
+
+    public static long estimate(Value<?> value) {
+        if (value instanceof StructValue struct) {
+            long size = VALUE_OVERHEAD;
+            for (int i = 0; i < struct.getMembersCount(); i++) {
+                size += estimate(struct.getMemberValue(i));
+            }
+            return size;
+        } else if (value instanceof OptionalValue optional) {
+            return optional.isPresent() ? estimate(optional.get()) : VALUE_OVERHEAD;
+        } else if (value instanceof PrimitiveValue primitive) {
+            return VALUE_OVERHEAD + estimatePrimitive(primitive);
+        } else {
+            return value.toPb().getSerializedSize();
+        }
+    }
+
+    private static long estimatePrimitive(PrimitiveValue value) {
+        return switch (value.getType()) {
+            case Bool -> 2;
+            case Int8, Uint8, Int16, Uint16, Int32, Uint32, Float, Date, Datetime -> 6;
+            case Int64, Uint64, Double, Timestamp, Interval -> 11;
+            case Uuid -> 18;
+            case Bytes -> STRING_OVERHEAD + value.getBytesUnsafe().length;
+            case Text -> STRING_OVERHEAD + value.getText().length();
+            case Json -> STRING_OVERHEAD + value.getJson().length();
+            case JsonDocument -> STRING_OVERHEAD + value.getJsonDocument().length();
+            default -> value.toPb().getSerializedSize();
+        };
+    }
+}
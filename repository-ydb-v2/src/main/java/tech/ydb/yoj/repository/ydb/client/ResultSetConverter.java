@@ -7,6 +7,7 @@ import tech.ydb.yoj.InternalApi;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -29,13 +30,30 @@ public class ResultSetConverter {
                 .map(value -> mapper.apply(columns, value));
     }
 
+    /**
+     * Reads rows using a row reader created once for the whole result set, e.g. a
+     * {@link tech.ydb.yoj.repository.ydb.statement.Statement#rowReader(List) statement's row reader}.
+     *
+     * @param rowReaderFactory creates row reader for the specified result set columns
+     * @return stream of row reader results
+     */
+    public <RESULT> Stream<RESULT> streamRows(
+            Function<List<ValueProtos.Column>, Function<ResultSetReader, RESULT>> rowReaderFactory
+    ) {
+        if (resultSet.getRowCount() == 0) {
+            return Stream.empty();
+        }
+
+        Function<ResultSetReader, RESULT> rowReader = rowReaderFactory.apply(columns);
+        return IntStream.range(0, resultSet.getRowCount()).mapToObj(rowIndex -> {
+            resultSet.setRowIndex(rowIndex);
+            return rowReader.apply(resultSet);
+        });
+    }
+
     private ValueProtos.Value buildValue(int rowIndex) {
         resultSet.setRowIndex(rowIndex);
-        ValueProtos.Value.Builder value = ValueProtos.Value.newBuilder();
-        for (int col = 0; col < columns.size(); col++) {
-            value.addItems(YdbConverter.convertValueToProto(resultSet.getColumn(col)));
-        }
-        return value.build();
+        return YdbConverter.convertRowToProto(resultSet);
     }
 
     private static List<ValueProtos.Column> getColumns(ResultSetReader resultSet) {
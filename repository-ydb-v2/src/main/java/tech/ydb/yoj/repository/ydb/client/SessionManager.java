@@ -2,8 +2,22 @@ package tech.ydb.yoj.repository.ydb.client;
 
 import tech.ydb.table.Session;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface SessionManager {
     Session getSession();
 
+    /**
+     * Asynchronous counterpart of {@link #getSession()}.
+     * <p>Default implementation gets the session synchronously and returns a completed future.
+     */
+    default CompletableFuture<Session> getSessionAsync() {
+        try {
+            return CompletableFuture.completedFuture(getSession());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     void warmup();
 }
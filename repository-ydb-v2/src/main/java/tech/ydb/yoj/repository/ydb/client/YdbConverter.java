@@ -4,6 +4,7 @@ import com.google.protobuf.NullValue;
 import com.google.protobuf.UnsafeByteOperations;
 import tech.ydb.proto.ValueProtos;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.values.DictType;
 import tech.ydb.table.values.ListType;
@@ -207,6 +208,14 @@ public class YdbConverter {
         return ListType.of(typeToSDK(type.getListType().getItem()));
     }
 
+    public static ValueProtos.Value convertRowToProto(ResultSetReader resultSet) {
+        ValueProtos.Value.Builder value = ValueProtos.Value.newBuilder();
+        for (int col = 0; col < resultSet.getColumnCount(); col++) {
+            value.addItems(convertValueToProto(resultSet.getColumn(col)));
+        }
+        return value.build();
+    }
+
     public static ValueProtos.Value.Builder convertValueToProto(ValueReader column) {
         ValueProtos.Value.Builder builder = ValueProtos.Value.newBuilder();
         ValueProtos.Type type = column.getType().toPb();
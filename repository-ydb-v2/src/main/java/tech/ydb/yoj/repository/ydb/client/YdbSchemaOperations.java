@@ -16,15 +16,18 @@ import tech.ydb.scheme.description.DescribePathResult;
 import tech.ydb.scheme.description.EntryType;
 import tech.ydb.scheme.description.ListDirectoryResult;
 import tech.ydb.table.Session;
+import tech.ydb.table.description.KeyRange;
 import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.description.TableIndex;
 import tech.ydb.table.description.TableTtl;
 import tech.ydb.table.settings.AlterTableSettings;
 import tech.ydb.table.settings.Changefeed;
 import tech.ydb.table.settings.CreateTableSettings;
+import tech.ydb.table.settings.DescribeTableSettings;
 import tech.ydb.table.settings.PartitioningPolicy;
 import tech.ydb.table.settings.PartitioningSettings;
 import tech.ydb.table.settings.TtlSettings;
+import tech.ydb.table.values.TupleValue;
 import tech.ydb.table.values.Type;
 import tech.ydb.topic.TopicClient;
 import tech.ydb.topic.description.Consumer;
@@ -45,6 +48,7 @@ import tech.ydb.yoj.repository.ydb.yql.YqlType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -328,6 +332,37 @@ public final class YdbSchemaOperations {
         return describeTableInternal(tablespace + tableName);
     }
 
+    /**
+     * Returns exclusive upper bounds of the table's partitions, in partition (and therefore primary key) order.
+     * A table with {@code N} partitions has {@code N - 1} bounds; the last partition is unbounded.
+     *
+     * @param tableName table name, relative to tablespace
+     * @return list of partition upper bounds; each bound is a tuple of primary key column values,
+     * possibly shorter than the full primary key
+     */
+    @NonNull
+    public List<TupleValue> getPartitionUpperBounds(String tableName) {
+        String path = tablespace + tableName;
+
+        Result<TableDescription> result;
+        try (Session session = sessionManager.getSession()) {
+            result = session.describeTable(path, new DescribeTableSettings().setIncludeShardKeyBounds(true)).join();
+        }
+
+        Status status = result.getStatus();
+        if (SCHEME_ERROR == status.getCode() && YdbIssue.DEFAULT_ERROR.isContainedIn(status.getIssues())) {
+            throw new PathNotFoundException(result.toString());
+        } else if (!result.isSuccess()) {
+            throw new GenericSchemaException("Can't describe table '" + path + "': " + result);
+        }
+
+        return result.getValue().getKeyRanges().stream()
+                .map(KeyRange::getTo)
+                .flatMap(Optional::stream)
+                .map(bound -> (TupleValue) bound.getValue())
+                .toList();
+    }
+
     @NonNull
     private Table describeTableInternal(String path) {
         Result<TableDescription> result;
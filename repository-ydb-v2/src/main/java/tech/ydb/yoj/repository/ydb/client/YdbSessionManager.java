@@ -7,6 +7,7 @@ import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
 import tech.ydb.yoj.repository.db.exception.UnavailableException;
+import tech.ydb.yoj.repository.ydb.YdbOperations;
 
 import java.time.Duration;
 import java.util.concurrent.CancellationException;
@@ -49,6 +50,22 @@ public final class YdbSessionManager implements SessionManager {
         }
     }
 
+    @Override
+    public CompletableFuture<Session> getSessionAsync() {
+        CompletableFuture<Result<Session>> future = tableClient.createSession(sessionTimeout);
+        return YdbOperations.safeAsync(future)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        // We need to cancel the future, otherwise we can get a session leak
+                        future.cancel(false);
+                    }
+                })
+                .thenApply(result -> {
+                    YdbValidator.validate(REQUEST_GET_SESSION, result.getStatus(), result.toString());
+                    return result.getValue();
+                });
+    }
+
     private static Duration getSessionTimeout(Duration timeout) {
         Duration max = Duration.ofMinutes(5);
         if (Duration.ZERO.equals(timeout) || timeout.compareTo(max) > 0) {
@@ -14,6 +14,7 @@ import tech.ydb.yoj.repository.ydb.YdbRepository;
 import tech.ydb.yoj.repository.ydb.exception.YdbRepositoryException;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateColumnsYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
 
@@ -23,6 +24,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 @InternalApi
@@ -39,9 +41,21 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
 
     private final Map<TableDescriptor<?>, TableState> states = new HashMap<>();
     private final RepositoryCache cache;
+    private final boolean dirtyColumnUpdates;
+    // Tables with rows deleted by range or table deletes that precede this group of writes in the transaction.
+    // Cached values of their entities say nothing about the rows that these writes will see: the entities might have
+    // been read before the delete, or after it but still without seeing it, because pending writes are not visible
+    // to reads in the same transaction
+    private final Set<TableDescriptor<?>> deletedTables;
 
     ByEntityYqlQueriesMerger(RepositoryCache cache) {
+        this(cache, false, Set.of());
+    }
+
+    ByEntityYqlQueriesMerger(RepositoryCache cache, boolean dirtyColumnUpdates, Set<TableDescriptor<?>> deletedTables) {
         this.cache = cache;
+        this.dirtyColumnUpdates = dirtyColumnUpdates;
+        this.deletedTables = deletedTables;
     }
 
     @Override
@@ -86,6 +100,7 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
     @Override
     public List<YdbRepository.Query<?>> getQueries() {
         Map<MergingState, List<YdbRepository.Query<?>>> queries = new HashMap<>();
+        List<YdbRepository.Query<?>> columnUpdates = new ArrayList<>();
         List<YdbRepository.Query<?>> specificQueries = new ArrayList<>();
 
         for (TableState tableState : states.values()) {
@@ -95,6 +110,7 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
                 specificQueries.add(tableState.update);
             } else {
                 Map<MergingState, YdbRepository.Query<?>> curQueries = new HashMap<>();
+                Map<Set<String>, YdbRepository.Query<?>> curColumnUpdates = new HashMap<>();
                 for (EntityState entityState : tableState.entityStates.values()) {
                     MergingState curState = entityState.state;
                     if (curState == MergingState.INS_DEL) {
@@ -103,6 +119,17 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
                     } else if (needIgnoreQuery(entityState)) {
                         log.trace("Ignoring query: [{}]", entityState.query.getStatement());
                         continue;
+                    } else if (curState == MergingState.UPSERT && dirtyColumnUpdates) {
+                        Set<String> dirtyColumns = getDirtyColumns(entityState);
+                        if (dirtyColumns != null) {
+                            if (dirtyColumns.isEmpty()) {
+                                log.trace("Ignoring query with no changed columns: [{}]", entityState.query.getStatement());
+                            } else {
+                                curColumnUpdates.merge(dirtyColumns, toColumnUpdate(entityState.query, dirtyColumns),
+                                        (q1, q2) -> q1.merge(q2));
+                            }
+                            continue;
+                        }
                     }
                     updateCurQueries(curQueries, entityState.query, curState);
                 }
@@ -110,12 +137,14 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
                 for (Map.Entry<MergingState, YdbRepository.Query<?>> entry : curQueries.entrySet()) {
                     queries.computeIfAbsent(entry.getKey(), __ -> new ArrayList<>()).add(entry.getValue());
                 }
+                columnUpdates.addAll(curColumnUpdates.values());
             }
         }
 
         List<YdbRepository.Query<?>> result = new ArrayList<>();
         addAllIfNonNull(result, queries.get(MergingState.INSERT));
         addAllIfNonNull(result, queries.get(MergingState.UPSERT));
+        result.addAll(columnUpdates);
         addAllIfNonNull(result, queries.get(MergingState.DELETE));
         result.addAll(specificQueries);
         return result;
@@ -128,6 +157,9 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
             TableDescriptor<?> tableDescriptor = srcStatement.getTableDescriptor();
             Entity.Id<?> entityId = getEntityId(entityState.query);
             RepositoryCache.Key key = new RepositoryCache.Key(entityClass, tableDescriptor, entityId);
+            if (deletedTables.contains(tableDescriptor)) {
+                return false;
+            }
 
             if (entityState.state == MergingState.UPSERT) {
                 boolean newValueEqualsCached = cache.get(key)
@@ -144,6 +176,52 @@ public class ByEntityYqlQueriesMerger implements YqlQueriesMerger {
         return false;
     }
 
+    /**
+     * @return names of the columns that differ between the upserted entity and the entity read from the database
+     * in the same transaction; {@code null} if the entity has not been read, has been found to be absent,
+     * or its row might have been deleted by a range or table delete earlier in the transaction.
+     * An {@code UPDATE} of just these columns does nothing if the row does not exist, so it is only used when the row
+     * is known to exist
+     */
+    private <E extends Entity<E>> Set<String> getDirtyColumns(EntityState entityState) {
+        YqlStatement<?, E, ?> srcStatement = convertQueryToYqlStatement(entityState.query);
+        if (deletedTables.contains(srcStatement.getTableDescriptor())) {
+            return null;
+        }
+
+        EntitySchema<E> schema = srcStatement.getInSchema();
+        RepositoryCache.Key key = new RepositoryCache.Key(srcStatement.getInSchemaType(),
+                srcStatement.getTableDescriptor(), getEntityId(entityState.query));
+
+        Object cached = cache.get(key).orElse(null);
+        if (!schema.getType().isInstance(cached)) {
+            return null;
+        }
+
+        Map<String, Object> oldColumns = schema.flatten(schema.getType().cast(cached));
+        Map<String, Object> newColumns = schema.flatten(schema.getType().cast(entityState.query.getValues().get(0)));
+        Set<String> dirtyColumns = new HashSet<>();
+        for (Map.Entry<String, Object> column : newColumns.entrySet()) {
+            if (!Objects.deepEquals(column.getValue(), oldColumns.get(column.getKey()))) {
+                dirtyColumns.add(column.getKey());
+            }
+        }
+        for (String column : oldColumns.keySet()) {
+            if (!newColumns.containsKey(column)) {
+                dirtyColumns.add(column);
+            }
+        }
+        return dirtyColumns;
+    }
+
+    private static <E extends Entity<E>> YdbRepository.Query<?> toColumnUpdate(YdbRepository.Query<?> query, Set<String> columns) {
+        YqlStatement<?, E, ?> srcStatement = convertQueryToYqlStatement(query);
+        return new YdbRepository.Query<>(
+                new UpdateColumnsYqlStatement<>(srcStatement.getTableDescriptor(), srcStatement.getInSchema(), columns),
+                query.getValues().get(0)
+        );
+    }
+
     private void addAllIfNonNull(List<YdbRepository.Query<?>> result, List<YdbRepository.Query<?>> additional) {
         if (additional != null) {
             result.addAll(additional);
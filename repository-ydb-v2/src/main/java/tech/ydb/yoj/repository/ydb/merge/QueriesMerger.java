@@ -1,13 +1,17 @@
 package tech.ydb.yoj.repository.ydb.merge;
 
 import tech.ydb.yoj.InternalApi;
+import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.statement.Statement;
 import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -15,9 +19,10 @@ import static java.util.stream.Stream.concat;
 
 @InternalApi
 public class QueriesMerger {
-    private final Supplier<YqlQueriesMerger> factory;
+    // Creates a merger for the next group of writes, given the tables with rows deleted by earlier range or table deletes
+    private final Function<Set<TableDescriptor<?>>, YqlQueriesMerger> factory;
 
-    private QueriesMerger(Supplier<YqlQueriesMerger> factory) {
+    private QueriesMerger(Function<Set<TableDescriptor<?>>, YqlQueriesMerger> factory) {
         this.factory = factory;
     }
 
@@ -27,15 +32,23 @@ public class QueriesMerger {
 
     public List<YdbRepository.Query<?>> merge(List<YdbRepository.Query<?>> pendingWrites) {
         List<YdbRepository.Query<?>> res = new ArrayList<>();
+        Set<TableDescriptor<?>> deletedTables = new HashSet<>();
 
-        YqlQueriesMerger currentMerger = factory.get();
+        YqlQueriesMerger currentMerger = factory.apply(Set.of());
         for (YdbRepository.Query<?> query : pendingWrites) {
-            if (query.getStatement() instanceof YqlStatement) {
+            Statement.QueryType queryType = query.getStatement().getQueryType();
+            if ((queryType == Statement.QueryType.DELETE_RANGE || queryType == Statement.QueryType.DELETE_ALL)
+                    && query.getStatement() instanceof YqlStatement<?, ?, ?> statement) {
+                deletedTables.add(statement.getTableDescriptor());
+            }
+
+            // Range deletes affect an unknown set of entities, so they cannot be merged with per-entity writes
+            if (query.getStatement() instanceof YqlStatement && queryType != Statement.QueryType.DELETE_RANGE) {
                 currentMerger.onNext(query);
             } else {
                 res.addAll(currentMerger.getQueries());
                 res.add(query);
-                currentMerger = factory.get();
+                currentMerger = factory.apply(Set.copyOf(deletedTables));
             }
         }
         res.addAll(currentMerger.getQueries());
@@ -44,6 +57,15 @@ public class QueriesMerger {
     }
 
     public static QueriesMerger create(RepositoryCache cache) {
-        return new QueriesMerger(() -> new ByEntityYqlQueriesMerger(cache));
+        return create(cache, false);
+    }
+
+    /**
+     * @param cache              statement result cache of the transaction
+     * @param dirtyColumnUpdates if {@code true}, upserts of entities that have been read in the same transaction are
+     *                           replaced with updates of just the changed columns
+     */
+    public static QueriesMerger create(RepositoryCache cache, boolean dirtyColumnUpdates) {
+        return new QueriesMerger(deletedTables -> new ByEntityYqlQueriesMerger(cache, dirtyColumnUpdates, deletedTables));
     }
 }
@@ -0,0 +1,67 @@
+package tech.ydb.yoj.repository.ydb.merge;
+
+import tech.ydb.yoj.InternalApi;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.WriteBatchStatement;
+import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Combines consecutive merged write queries into {@link WriteBatchStatement multi-statement queries}, so that
+ * they can be sent to YDB in a single request.
+ */
+@InternalApi
+public final class WriteBatcher {
+    private WriteBatcher() {
+    }
+
+    public static List<YdbRepository.Query<?>> batch(List<YdbRepository.Query<?>> queries) {
+        List<YdbRepository.Query<?>> result = new ArrayList<>();
+
+        List<YdbRepository.Query<?>> batch = new ArrayList<>();
+        Set<TableDescriptor<?>> batchTables = new HashSet<>();
+        for (YdbRepository.Query<?> query : queries) {
+            if (!(query.getStatement() instanceof YqlStatement<?, ?, ?> yqlStatement)) {
+                // Custom statement with arbitrary YQL, e.g. with PRAGMAs: execute it separately
+                addBatch(result, batch);
+                batchTables.clear();
+
+                result.add(query);
+                continue;
+            }
+
+            // YDB prohibits reading from a table after it has been modified in the same query. INSERT, UPDATE and
+            // DELETE ... WHERE implicitly read the table, so we never touch the same table twice in a batch
+            if (!batchTables.add(yqlStatement.getTableDescriptor())) {
+                addBatch(result, batch);
+                batchTables.clear();
+                batchTables.add(yqlStatement.getTableDescriptor());
+            }
+            batch.add(query);
+        }
+        addBatch(result, batch);
+
+        return result;
+    }
+
+    private static void addBatch(List<YdbRepository.Query<?>> result, List<YdbRepository.Query<?>> batch) {
+        if (batch.size() == 1) {
+            result.add(batch.get(0));
+        } else if (batch.size() > 1) {
+            List<Statement<?, ?>> statements = new ArrayList<>(batch.size());
+            List<Object> params = new ArrayList<>(batch.size());
+            for (YdbRepository.Query<?> query : batch) {
+                statements.add(query.getStatement());
+                params.add(query.getValues().size() == 1 ? query.getValues().get(0) : query.getValues());
+            }
+            result.add(new YdbRepository.Query<List<?>>(new WriteBatchStatement(statements), params));
+        }
+        batch.clear();
+    }
+}
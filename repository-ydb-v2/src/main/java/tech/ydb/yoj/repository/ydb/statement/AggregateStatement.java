@@ -0,0 +1,82 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.db.Aggregate;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
+import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+public class AggregateStatement<ENTITY extends Entity<ENTITY>, RESULT> extends PredicateStatement<Collection<? extends YqlStatementPart<?>>, ENTITY, RESULT> {
+    private final List<YqlStatementPart<?>> parts;
+    private final List<JavaField> groupBy;
+    private final List<Aggregate> aggregates;
+
+    public AggregateStatement(
+            TableDescriptor<ENTITY> tableDescriptor, EntitySchema<ENTITY> schema, Schema<RESULT> resultSchema,
+            List<YqlStatementPart<?>> parts, List<String> groupBy, List<Aggregate> aggregates
+    ) {
+        super(tableDescriptor, schema, resultSchema, parts, YqlPredicate::from);
+        this.parts = parts;
+        this.groupBy = groupBy.stream().map(this::getFlatField).toList();
+        this.aggregates = List.copyOf(aggregates);
+    }
+
+    private JavaField getFlatField(String fieldPath) {
+        JavaField field = schema.getField(fieldPath);
+        if (!field.isFlat()) {
+            throw new IllegalArgumentException("Cannot aggregate non-flat field: " + fieldPath);
+        }
+        return field.toFlatField();
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        return declarations()
+                + "SELECT " + Stream.concat(
+                        groupBy.stream().map(f -> escape(f.getName())),
+                        aggregates.stream().map(this::toYql)
+                ).collect(joining(", "))
+                + " FROM " + table(tablespace)
+                + " " + mergeParts(parts)
+                .sorted(comparing(YqlStatementPart::getPriority))
+                .map(sp -> sp.toFullYql(schema))
+                .map(this::resolveParamNames)
+                .collect(joining(" "))
+                + (groupBy.isEmpty() ? "" : " GROUP BY " + groupBy.stream()
+                .map(f -> escape(f.getName()))
+                .collect(joining(", ")));
+    }
+
+    private String toYql(Aggregate aggregate) {
+        String expression = switch (aggregate.getFunction()) {
+            case COUNT -> "COUNT(*)";
+            case SUM -> "SUM(" + escape(getFlatField(aggregate.getFieldPath()).getName()) + ")";
+            case MIN -> "MIN(" + escape(getFlatField(aggregate.getFieldPath()).getName()) + ")";
+            case MAX -> "MAX(" + escape(getFlatField(aggregate.getFieldPath()).getName()) + ")";
+        };
+        JavaField resultField = resultSchema.getField(aggregate.getResultField()).toFlatField();
+        return "CAST(" + expression + " AS " + YqlType.of(resultField).getYqlTypeName() + ")"
+                + " AS " + escape(resultField.getName());
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.SELECT;
+    }
+
+    @Override
+    public String toDebugString(Collection<? extends YqlStatementPart<?>> yqlStatementParts) {
+        return "aggregate(" + aggregates + " group by " + groupBy.stream().map(JavaField::getPath).toList() + " " + parts + ")";
+    }
+}
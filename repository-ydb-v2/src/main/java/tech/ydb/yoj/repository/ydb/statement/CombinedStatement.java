@@ -0,0 +1,200 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.base.Preconditions;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Base class for multiple statements combined into a single YQL script, to be executed in a single request to YDB.
+ * <p>Parameters of the {@code i}-th statement are renamed from {@code $name} to {@code $s<i>_name}, so that names
+ * from different statements (e.g., {@code $Input} of multiple {@code UpsertYqlStatement}s) do not clash.
+ * Only the parameters that the statement declares ({@code DECLARE $name AS ...}) are renamed; {@code $} characters
+ * in string literals, quoted identifiers and comments are left as is. A statement that refers to any other
+ * {@code $name}, e.g. to a named expression, cannot be combined with other statements.
+ * <p>The parameter of this statement is the list of the combined statements' parameters, in the same order as the
+ * statements themselves.
+ */
+abstract class CombinedStatement<RESULT> implements Statement<List<?>, RESULT> {
+    private static final Pattern DECLARE_PATTERN = Pattern.compile("(?i)\\bDECLARE\\s+\\z");
+
+    protected final List<Statement<Object, ?>> statements;
+
+    @SuppressWarnings("unchecked")
+    protected CombinedStatement(List<? extends Statement<?, ?>> statements) {
+        Preconditions.checkArgument(!statements.isEmpty(), "statements must not be empty");
+        this.statements = List.copyOf((List<Statement<Object, ?>>) statements);
+    }
+
+    @Override
+    public boolean isPreparable() {
+        return statements.stream().allMatch(Statement::isPreparable);
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            sb.append(renameVars(statements.get(i).getCachedQuery(tablespace), i)).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toDebugString(List<?> params) {
+        checkParams(params);
+
+        StringBuilder sb = new StringBuilder("batch[");
+        for (int i = 0; i < statements.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(statements.get(i).toDebugString(params.get(i)));
+        }
+        return sb.append("]").toString();
+    }
+
+    @Override
+    public Map<String, ValueProtos.TypedValue> toQueryParameters(List<?> params) {
+        return combineParameters(params, Statement::toQueryParameters);
+    }
+
+    @Override
+    public Map<String, Value<?>> toSdkParameters(List<?> params) {
+        return combineParameters(params, Statement::toSdkParameters);
+    }
+
+    private <V> Map<String, V> combineParameters(
+            List<?> params, BiFunction<Statement<Object, ?>, Object, Map<String, V>> statementParameters
+    ) {
+        checkParams(params);
+
+        Map<String, V> result = new HashMap<>();
+        for (int i = 0; i < statements.size(); i++) {
+            Object statementParams = params.get(i);
+            if (statementParams == null) {
+                continue;
+            }
+            for (var e : statementParameters.apply(statements.get(i), statementParams).entrySet()) {
+                result.put(batchVarName(e.getKey(), i), e.getValue());
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    public List<Statement<Object, ?>> getStatements() {
+        return statements;
+    }
+
+    @Override
+    public String toString() {
+        return statements.stream().map(String::valueOf).collect(joining(";\n", "batch[\n", "\n]"));
+    }
+
+    protected final void checkParams(List<?> params) {
+        Preconditions.checkArgument(params.size() == statements.size(),
+                "expected %s statement parameters, got: %s", statements.size(), params.size());
+    }
+
+    private static String batchVarName(String var, int statementIndex) {
+        Preconditions.checkArgument(var.startsWith("$"), "statement parameter names must start with '$', got: %s", var);
+        return "$s" + statementIndex + "_" + var.substring(1);
+    }
+
+    /**
+     * @throws IllegalArgumentException the statement refers to a {@code $name} that it does not declare as a parameter
+     */
+    private static String renameVars(String yql, int statementIndex) {
+        List<VarRef> vars = findVars(yql);
+
+        Set<String> params = new HashSet<>();
+        int prevEnd = 0;
+        for (VarRef var : vars) {
+            if (DECLARE_PATTERN.matcher(yql).region(prevEnd, var.start()).find()) {
+                params.add(var.name(yql));
+            }
+            prevEnd = var.end();
+        }
+
+        StringBuilder sb = new StringBuilder(yql.length() + 4 * vars.size());
+        prevEnd = 0;
+        for (VarRef var : vars) {
+            String name = var.name(yql);
+            Preconditions.checkArgument(params.contains(name),
+                    "statements referring to %s, which is not a declared parameter, cannot be combined: %s", name, yql);
+            sb.append(yql, prevEnd, var.start()).append(batchVarName(name, statementIndex));
+            prevEnd = var.end();
+        }
+        return sb.append(yql, prevEnd, yql.length()).toString();
+    }
+
+    /**
+     * @return {@code $name} references in the YQL, except those in string literals, quoted identifiers and comments
+     */
+    private static List<VarRef> findVars(String yql) {
+        List<VarRef> vars = new ArrayList<>();
+        int i = 0;
+        while (i < yql.length()) {
+            char c = yql.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(yql, i);
+            } else if (yql.startsWith("--", i)) {
+                int eol = yql.indexOf('\n', i);
+                i = eol < 0 ? yql.length() : eol + 1;
+            } else if (yql.startsWith("/*", i)) {
+                int end = yql.indexOf("*/", i + 2);
+                i = end < 0 ? yql.length() : end + 2;
+            } else if (c == '$') {
+                int end = i + 1;
+                while (end < yql.length() && isNameChar(yql.charAt(end))) {
+                    end++;
+                }
+                vars.add(new VarRef(i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return vars;
+    }
+
+    private static int skipQuoted(String yql, int start) {
+        char quote = yql.charAt(start);
+        int i = start + 1;
+        while (i < yql.length()) {
+            char c = yql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return yql.length();
+    }
+
+    private static boolean isNameChar(char c) {
+        return c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private record VarRef(int start, int end) {
+        String name(String yql) {
+            return yql.substring(start, end);
+        }
+    }
+}
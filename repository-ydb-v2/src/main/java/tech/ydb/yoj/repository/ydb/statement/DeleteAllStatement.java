@@ -14,6 +14,12 @@ public class DeleteAllStatement<PARAMS, ENTITY extends Entity<ENTITY>> extends Y
         return "DELETE FROM " + table(tablespace);
     }
 
+    @Override
+    protected Object getQueryKey() {
+        // YQL depends only on the table and the schemas
+        return null;
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.DELETE_ALL;
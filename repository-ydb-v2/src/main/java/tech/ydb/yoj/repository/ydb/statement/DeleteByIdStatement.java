@@ -12,6 +12,12 @@ public class DeleteByIdStatement<IN, T extends Entity<T>> extends MultipleVarsYq
         super(tableDescriptor, schema);
     }
 
+    @Override
+    protected Object getQueryKey() {
+        // YQL depends only on the table and the schemas
+        return null;
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.DELETE;
@@ -0,0 +1,34 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+
+/**
+ * Deletes all entities with IDs in the specified {@link Range range}, in a single {@code DELETE FROM ... WHERE} statement,
+ * without reading the entities first.
+ */
+public class DeleteRangeStatement<ENTITY extends Entity<ENTITY>, ID extends Entity.Id<ENTITY>> extends FindRangeStatement<ENTITY, ID, ENTITY> {
+    public DeleteRangeStatement(TableDescriptor<ENTITY> tableDescriptor, EntitySchema<ENTITY> schema, Range<ID> range) {
+        super(tableDescriptor, schema, schema, range);
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.DELETE_RANGE;
+    }
+
+    @Override
+    public String toDebugString(Range<ID> idRange) {
+        return "deleteRange(" + idRange + ")";
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        String where = predicationVars();
+        return declarations()
+                + "DELETE FROM " + table(tablespace)
+                + (where.isEmpty() ? "" : " WHERE " + where);
+    }
+}
@@ -21,6 +21,12 @@ public class FindAllYqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT>
                 + " " + ORDER_BY_ID_ASCENDING.toFullYql(schema);
     }
 
+    @Override
+    protected Object getQueryKey() {
+        // YQL depends only on the table and the schemas
+        return null;
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.SELECT;
@@ -8,6 +8,7 @@ import com.google.common.collect.Streams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression.SortKey;
@@ -362,6 +363,18 @@ public final class FindInStatement<IN, T extends Entity<T>, RESULT> extends Mult
         return super.toQueryParameters(in);
     }
 
+    @Override
+    public Map<String, Value<?>> toSdkParameters(IN in) {
+        if (hasPredicate()) {
+            return ImmutableMap.<String, Value<?>>builder()
+                    .putAll(super.toSdkParameters(in))
+                    .putAll(predicate.toSdkParameters(Void.TYPE))
+                    .build();
+        }
+
+        return super.toSdkParameters(in);
+    }
+
     @Override
     protected String declarations() {
         return super.declarations() + predicateClauseDeclarations();
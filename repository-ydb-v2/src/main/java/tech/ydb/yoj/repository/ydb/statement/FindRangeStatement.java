@@ -71,7 +71,7 @@ public class FindRangeStatement<ENTITY extends Entity<ENTITY>, ID extends Entity
                 + " " + ORDER_BY_ID_ASCENDING.toFullYql(schema);
     }
 
-    private String predicationVars() {
+    protected final String predicationVars() {
         return getParams().stream()
                 .map(YqlStatementRangeParam.class::cast)
                 .map(p -> "(" + escape(p.rangeName) + p.rangeBound.op + p.getVar() + ")")
@@ -3,8 +3,10 @@ package tech.ydb.yoj.repository.ydb.statement;
 import lombok.NonNull;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntityIdSchema;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlLimit;
 import tech.ydb.yoj.repository.ydb.yql.YqlOrderBy;
 import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
 import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
@@ -61,6 +63,44 @@ public class FindStatement<ENTITY extends Entity<ENTITY>, RESULT> extends Predic
                 .collect(joining(" "));
     }
 
+    /**
+     * @return {@code true} if a truncated result of this statement can be read to the end by
+     * {@link #continueAfter(Collection, Object) continuation statements}: that is, if this statement reads whole
+     * entities ordered by Entity ID, without {@code DISTINCT}, {@code LIMIT} or {@code OFFSET}
+     */
+    public boolean isContinuable() {
+        return !distinct
+                && resultSchema.getType().equals(schema.getType())
+                && parts.contains(ORDER_BY_ID_ASCENDING)
+                && parts.stream().noneMatch(p -> p instanceof YqlLimit);
+    }
+
+    /**
+     * Returns statement parts for a statement reading the results that come after {@code lastResult}, to be used
+     * both for creating the continuation statement with {@link #withParts(Collection)} and as its parameters.
+     *
+     * @param params     parameters of this statement
+     * @param lastResult last result read by this statement
+     * @return parts of the continuation statement
+     * @throws IllegalStateException this statement is not {@link #isContinuable() continuable}
+     */
+    public List<YqlStatementPart<?>> continueAfter(Collection<? extends YqlStatementPart<?>> params, RESULT lastResult) {
+        if (!isContinuable()) {
+            throw new IllegalStateException("Statement cannot be continued: " + toDebugString(params));
+        }
+
+        List<YqlStatementPart<?>> continuationParts = new ArrayList<>(params);
+        continuationParts.add(YqlPredicate.where(EntityIdSchema.ID_FIELD_NAME).gt(((Entity<?>) lastResult).getId()));
+        return continuationParts;
+    }
+
+    /**
+     * @return statement reading the same table into the same result type as this statement, with the specified parts
+     */
+    public FindStatement<ENTITY, RESULT> withParts(@NonNull Collection<? extends YqlStatementPart<?>> parts) {
+        return from(tableDescriptor, schema, resultSchema, parts, distinct);
+    }
+
     @Override
     public Statement.QueryType getQueryType() {
         return Statement.QueryType.SELECT;
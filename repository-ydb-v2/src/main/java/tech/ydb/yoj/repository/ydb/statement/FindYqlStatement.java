@@ -53,6 +53,12 @@ public class FindYqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT> ext
         cache.put(key, result.stream().findFirst().orElse(null));
     }
 
+    @Override
+    protected Object getQueryKey() {
+        // YQL depends only on the table and the schemas
+        return null;
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.SELECT;
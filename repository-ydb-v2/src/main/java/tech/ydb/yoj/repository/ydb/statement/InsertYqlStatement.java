@@ -12,6 +12,12 @@ public class InsertYqlStatement<PARAMS, ENTITY extends Entity<ENTITY>> extends M
         super(tableDescriptor, schema);
     }
 
+    @Override
+    protected Object getQueryKey() {
+        // YQL depends only on the table and the schemas
+        return null;
+    }
+
     @Override
     public QueryType getQueryType() {
         return QueryType.INSERT;
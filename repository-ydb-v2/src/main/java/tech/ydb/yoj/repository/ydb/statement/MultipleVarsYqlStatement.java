@@ -1,13 +1,19 @@
 package tech.ydb.yoj.repository.ydb.statement;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -22,6 +28,9 @@ import static tech.ydb.yoj.repository.db.EntityIdSchema.isIdField;
 public abstract class MultipleVarsYqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT> extends YqlStatement<PARAMS, ENTITY, RESULT> {
     public static final String listName = "$Input";
 
+    // Lazily computed from getParams(); benign data race, since the list type is immutable and always the same
+    private ListType sdkListType;
+
     /**
      * @deprecated Use constructor with {@link TableDescriptor} for selecting correct entity table
      */
@@ -88,6 +97,44 @@ public abstract class MultipleVarsYqlStatement<PARAMS, ENTITY extends Entity<ENT
         );
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Value<?>> toSdkParameters(PARAMS params) {
+        List<YqlStatementParam> yqlParams = getParams();
+        ListType listType = getSdkListType(yqlParams);
+        StructType structType = (StructType) listType.getItemType();
+
+        Collection<PARAMS> rows = params instanceof Collection ? (Collection<PARAMS>) params : singleton(params);
+        if (rows.isEmpty()) {
+            return singletonMap(listName, listType.emptyValue());
+        }
+
+        Function<PARAMS, Map<String, Object>> flattener = flattenInputVariables();
+        List<Value<?>> items = new ArrayList<>(rows.size());
+        for (PARAMS row : rows) {
+            Map<String, Object> fieldValues = flattener.apply(row);
+            Map<String, Value<?>> members = new HashMap<>();
+            for (YqlStatementParam p : yqlParams) {
+                members.put(p.getName(), createSdkQueryParameter(p.getType(), fieldValues.get(p.getName()), p.isOptional()));
+            }
+            items.add(structType.newValue(members));
+        }
+        return singletonMap(listName, listType.newValue(items));
+    }
+
+    private ListType getSdkListType(List<YqlStatementParam> yqlParams) {
+        ListType listType = sdkListType;
+        if (listType == null) {
+            Map<String, tech.ydb.table.values.Type> memberTypes = new LinkedHashMap<>();
+            for (YqlStatementParam p : yqlParams) {
+                memberTypes.put(p.getName(), getSdkType(p.getType(), p.isOptional()));
+            }
+            listType = ListType.of(StructType.of(memberTypes));
+            sdkListType = listType;
+        }
+        return listType;
+    }
+
     protected abstract Function<PARAMS, Map<String, Object>> flattenInputVariables();
 
     protected String toDebugParams(PARAMS params) {
@@ -0,0 +1,106 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+import tech.ydb.yoj.repository.ydb.table.YdbTable;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of read statements executed in a single request to YDB, e.g. to load an entity together with its
+ * child entities from several tables in one round trip:
+ * <pre>{@code
+ * var findParent = ...;
+ * var findChildren = ...;
+ * QueryBatch.Results results = tx.batch()
+ *         .add(findParent, parentId)
+ *         .add(findChildren, childrenParts)
+ *         .execute();
+ * List<Parent> parents = results.get(findParent);
+ * List<Child> children = results.get(findChildren);
+ * }</pre>
+ * Each statement must return exactly one result set. Statement results are read as-is: unlike the {@code Table}
+ * methods, batch execution does not call {@link tech.ydb.yoj.repository.db.Entity#postLoad() postLoad()} on
+ * the entities read.
+ *
+ * @see ReadBatchStatement
+ */
+public final class QueryBatch {
+    private final YdbTable.QueryExecutor executor;
+    private final List<Statement<?, ?>> statements = new ArrayList<>();
+    private final List<Object> params = new ArrayList<>();
+
+    public QueryBatch(@NonNull YdbTable.QueryExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Adds a read statement to the batch.
+     *
+     * @param statement read statement of {@link Statement.QueryType#SELECT SELECT} type; a statement instance
+     *                  can only be added to the batch once
+     * @param params    statement parameters
+     * @return this batch
+     * @throws IllegalArgumentException if the statement is not a {@code SELECT} statement, or is already in the batch
+     */
+    public <PARAMS> QueryBatch add(@NonNull Statement<PARAMS, ?> statement, @Nullable PARAMS params) {
+        Statement.QueryType queryType = statement.getQueryType();
+        Preconditions.checkArgument(queryType == Statement.QueryType.SELECT,
+                "Only SELECT statements can be batched, got %s statement: %s", queryType, statement);
+        Preconditions.checkArgument(statements.stream().noneMatch(s -> s == statement),
+                "Statement is already in the batch: %s", statement);
+
+        statements.add(statement);
+        this.params.add(params);
+        return this;
+    }
+
+    /**
+     * Adds a read statement without parameters to the batch.
+     *
+     * @see #add(Statement, Object)
+     */
+    public QueryBatch add(@NonNull Statement<?, ?> statement) {
+        return add(statement, null);
+    }
+
+    /**
+     * Executes all statements of the batch in a single request to YDB.
+     *
+     * @return results of the batched statements
+     */
+    public Results execute() {
+        Preconditions.checkState(!statements.isEmpty(), "Query batch is empty");
+
+        List<List<?>> resultSets = executor.execute(new ReadBatchStatement(statements), new ArrayList<>(params));
+
+        Map<Statement<?, ?>, List<?>> results = new IdentityHashMap<>();
+        for (int i = 0; i < statements.size(); i++) {
+            results.put(statements.get(i), resultSets.get(i));
+        }
+        return new Results(results);
+    }
+
+    public static final class Results {
+        private final Map<Statement<?, ?>, List<?>> results;
+
+        private Results(Map<Statement<?, ?>, List<?>> results) {
+            this.results = results;
+        }
+
+        /**
+         * @param statement statement that has been added to the batch
+         * @return results of the statement
+         */
+        @SuppressWarnings("unchecked")
+        public <RESULT> List<RESULT> get(@NonNull Statement<?, RESULT> statement) {
+            List<?> result = results.get(statement);
+            Preconditions.checkArgument(result != null, "Statement is not in the batch: %s", statement);
+            return (List<RESULT>) result;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.base.Preconditions;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.yoj.InternalApi;
+import tech.ydb.yoj.repository.db.cache.RepositoryCache;
+import tech.ydb.yoj.repository.ydb.client.ResultSetConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Multiple read statements combined into a single YQL script, to be executed in a single request to YDB.
+ * Each of the combined statements must return exactly one result set.
+ * <p>The parameter of this statement is the list of the combined statements' parameters, and its result is
+ * the list of the combined statements' results, in the same order as the statements themselves:
+ * the {@code i}-th result set is read by the {@code i}-th statement.
+ *
+ * @see WriteBatchStatement
+ */
+@InternalApi
+public final class ReadBatchStatement extends CombinedStatement<List<?>> {
+    public ReadBatchStatement(List<? extends Statement<?, ?>> statements) {
+        super(statements);
+    }
+
+    /**
+     * Reads the results of each combined statement from its result set.
+     *
+     * @param resultSets result sets returned by YDB, one for each combined statement
+     * @return results of each combined statement
+     */
+    public List<List<?>> readResultSets(List<ResultSetReader> resultSets) {
+        Preconditions.checkState(resultSets.size() == statements.size(),
+                "expected %s result sets, got: %s", statements.size(), resultSets.size());
+
+        List<List<?>> results = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            results.add(readResultSet(statements.get(i), resultSets.get(i)));
+        }
+        return results;
+    }
+
+    private static <R> List<R> readResultSet(Statement<?, R> statement, ResultSetReader resultSet) {
+        return new ResultSetConverter(resultSet).streamRows(statement::rowReader).collect(toList());
+    }
+
+    @Override
+    public List<?> readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
+        throw new UnsupportedOperationException("Read batch results must be read by readResultSets()");
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void storeToCache(List<?> params, List<List<?>> result, RepositoryCache cache) {
+        if (result == null) {
+            return;
+        }
+        for (int i = 0; i < statements.size(); i++) {
+            ((Statement) statements.get(i)).storeToCache(params.get(i), result.get(i), cache);
+        }
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.SELECT;
+    }
+}
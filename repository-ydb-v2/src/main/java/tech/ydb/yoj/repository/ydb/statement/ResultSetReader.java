@@ -2,52 +2,139 @@ package tech.ydb.yoj.repository.ydb.statement;
 
 import lombok.NonNull;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ValueReader;
 import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.exception.ConversionException;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toMap;
 import static tech.ydb.yoj.repository.db.EntityIdSchema.isIdFieldName;
-import static tech.ydb.yoj.util.lang.BetterCollectors.toMapNullFriendly;
 
 @InternalApi
 public class ResultSetReader<RESULT> {
-    private final Map<String, YqlType> fields;
+    private final List<String> fieldNames;
+    private final Map<String, Integer> fieldIndexes;
+    private final YqlType[] fieldTypes;
     protected final Schema<RESULT> resultSchema;
 
+    // Result sets of the same statement almost always have the same columns, so we only remember the last layout
+    private volatile RowLayout lastLayout;
+
     public ResultSetReader(@NonNull Schema<RESULT> resultSchema) {
-        this.fields = resultSchema.flattenFields().stream().collect(toMap(Schema.JavaField::getName, YqlType::of));
+        List<Schema.JavaField> flatFields = resultSchema.flattenFields();
+        this.fieldNames = flatFields.stream().map(Schema.JavaField::getName).toList();
+        this.fieldIndexes = new HashMap<>();
+        this.fieldTypes = new YqlType[flatFields.size()];
+        for (int i = 0; i < flatFields.size(); i++) {
+            fieldIndexes.put(fieldNames.get(i), i);
+            fieldTypes[i] = YqlType.of(flatFields.get(i));
+        }
         this.resultSchema = resultSchema;
     }
 
     public RESULT readResult(List<ValueProtos.Column> columnList, ValueProtos.Value value) {
+        RowLayout layout = getLayout(columnList);
         List<ValueProtos.Value> row = value.getItemsList();
-        Map<String, Object> cells = IntStream.range(0, row.size()).boxed().collect(toMapNullFriendly(
-                i -> columnList.get(i).getName(),
-                i -> fields.get(columnList.get(i).getName()).fromYql(row.get(i)))
-        );
 
+        Object[] flatValues = new Object[fieldTypes.length];
+        for (int i = 0; i < row.size(); i++) {
+            int fieldIndex = layout.fieldIndexes()[i];
+            flatValues[fieldIndex] = fieldTypes[fieldIndex].fromYql(row.get(i));
+        }
+        return newInstance(flatValues);
+    }
+
+    /**
+     * Returns a function that reads the current row of YDB SDK result set having the specified columns.
+     * <p>Column-to-field mapping is computed once per result set, and each row is decoded by column index
+     * directly into constructor arguments by {@link YqlType#columnReader(ValueProtos.Type) column readers}, without building
+     * intermediate protobuf rows, protobuf cell values or a {@code Map} of cells.
+     *
+     * @param columnList result set columns
+     * @return function that reads the current row of the result set
+     */
+    public Function<tech.ydb.table.result.ResultSetReader, RESULT> rowReader(List<ValueProtos.Column> columnList) {
+        int[] fieldIndexes = getLayout(columnList).fieldIndexes();
+        @SuppressWarnings("unchecked")
+        Function<ValueReader, Object>[] columnReaders = new Function[fieldIndexes.length];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            columnReaders[i] = fieldTypes[fieldIndexes[i]].columnReader(columnList.get(i).getType());
+        }
+        return resultSet -> {
+            Object[] flatValues = new Object[fieldTypes.length];
+            for (int i = 0; i < fieldIndexes.length; i++) {
+                flatValues[fieldIndexes[i]] = columnReaders[i].apply(resultSet.getColumn(i));
+            }
+            return newInstance(flatValues);
+        };
+    }
+
+    private RESULT newInstance(Object[] flatValues) {
         try {
-            return resultSchema.newInstance(cells);
+            return resultSchema.newInstance(flatValues);
         } catch (Exception e) {
             throw new ConversionException(
-                    format("Could not convert <%s> value %s: %s", resultSchema.getTypeName(), id(cells), e.getMessage()),
+                    format("Could not convert <%s> value %s: %s", resultSchema.getTypeName(), id(flatValues), e.getMessage()),
                     e
             );
         }
     }
 
-    private static String id(Map<String, Object> cells) {
-        return cells.entrySet().stream()
-                .filter(e -> isIdFieldName(e.getKey()))
-                .map(e -> format("%s=%s", e.getKey(), e.getValue()))
+    private RowLayout getLayout(List<ValueProtos.Column> columnList) {
+        RowLayout layout = lastLayout;
+        if (layout == null || !layout.matches(columnList)) {
+            layout = new RowLayout(columnList.stream().map(ValueProtos.Column::getName).toList());
+            lastLayout = layout;
+        }
+        return layout;
+    }
+
+    private String id(Object[] flatValues) {
+        return IntStream.range(0, flatValues.length)
+                .filter(i -> isIdFieldName(fieldNames.get(i)))
+                .mapToObj(i -> format("%s=%s", fieldNames.get(i), flatValues[i]))
                 .collect(joining(",", "{", "}"));
     }
+
+    private final class RowLayout {
+        private final List<String> columnNames;
+        private final int[] fieldIndexes;
+
+        private RowLayout(List<String> columnNames) {
+            this.columnNames = columnNames;
+            this.fieldIndexes = new int[columnNames.size()];
+            for (int i = 0; i < fieldIndexes.length; i++) {
+                Integer fieldIndex = ResultSetReader.this.fieldIndexes.get(columnNames.get(i));
+                if (fieldIndex == null) {
+                    throw new ConversionException(format("Unexpected column in <%s> result set: %s",
+                            resultSchema.getTypeName(), columnNames.get(i)));
+                }
+                fieldIndexes[i] = fieldIndex;
+            }
+        }
+
+        private int[] fieldIndexes() {
+            return fieldIndexes;
+        }
+
+        private boolean matches(List<ValueProtos.Column> columnList) {
+            if (columnList.size() != columnNames.size()) {
+                return false;
+            }
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (!columnNames.get(i).equals(columnList.get(i).getName())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
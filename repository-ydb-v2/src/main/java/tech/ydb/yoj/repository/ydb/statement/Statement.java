@@ -1,11 +1,15 @@
 package tech.ydb.yoj.repository.ydb.statement;
 
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.ydb.YdbRepositoryTransaction;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Represents a statement that can be executed in a {@link YdbRepositoryTransaction}.
@@ -38,6 +42,18 @@ public interface Statement<PARAMS, RESULT> {
      */
     String getQuery(String tablespace);
 
+    /**
+     * Returns parameterized YQL for this query, possibly cached from an earlier call.
+     * <p>The default implementation simply calls {@link #getQuery(String)}. Immutable statements can override this
+     * method to generate YQL text only once.
+     *
+     * @param tablespace base path for all tables referenced in the query
+     * @return YQL
+     */
+    default String getCachedQuery(String tablespace) {
+        return getQuery(tablespace);
+    }
+
     /**
      * Returns debug representation of this query with the specified parameter values.
      *
@@ -58,6 +74,22 @@ public interface Statement<PARAMS, RESULT> {
      */
     Map<String, ValueProtos.TypedValue> toQueryParameters(PARAMS params);
 
+    /**
+     * Returns the query's parameter values as YDB SDK values. These are the values actually sent to YDB.
+     * <p>The default implementation converts the result of {@link #toQueryParameters(Object)}. Statements with many
+     * parameter values (e.g., bulk upserts and {@code FindInStatement}) should override this method to build the SDK
+     * values directly, skipping the intermediate protobuf representation. If you override
+     * {@link #toQueryParameters(Object) toQueryParameters()} in a subclass of such a statement, you must override
+     * this method as well.
+     *
+     * @param params parameter values
+     *               Might be {@code null} depending on the statement type, e.g. for DELETE statements.
+     * @return map: parameter name -> value as YDB SDK value
+     */
+    default Map<String, Value<?>> toSdkParameters(PARAMS params) {
+        return YdbConverter.convertToParams(toQueryParameters(params)).values();
+    }
+
     // Results
 
     /**
@@ -69,6 +101,21 @@ public interface Statement<PARAMS, RESULT> {
      */
     RESULT readResult(List<ValueProtos.Column> columns, ValueProtos.Value value);
 
+    /**
+     * Returns a function that converts the current row of YDB SDK result set into the query result.
+     * The function is created once per result set, so it can precompute everything that depends only on
+     * the result set's columns.
+     * <p>The default implementation converts each row to a YDB protobuf structure and calls
+     * {@link #readResult(List, ValueProtos.Value) readResult()}. {@link YqlStatement} decodes rows directly
+     * from the result set, unless its subclass overrides {@code readResult()}.
+     *
+     * @param columns result set columns
+     * @return function that reads the current row of the result set
+     */
+    default Function<ResultSetReader, RESULT> rowReader(List<ValueProtos.Column> columns) {
+        return resultSet -> readResult(columns, YdbConverter.convertRowToProto(resultSet));
+    }
+
     // First level cache
 
     /**
@@ -117,6 +164,7 @@ public interface Statement<PARAMS, RESULT> {
         UPSERT,
         UPDATE,
         DELETE,
-        DELETE_ALL
+        DELETE_ALL,
+        DELETE_RANGE
     }
 }
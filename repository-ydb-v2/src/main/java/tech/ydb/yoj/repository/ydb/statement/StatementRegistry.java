@@ -0,0 +1,66 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import tech.ydb.yoj.InternalApi;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Canonical instances of statements whose YQL depends only on the statement kind, the table and the entity and
+ * result schemas, e.g. {@link FindYqlStatement} or {@link UpsertYqlStatement}.
+ * <p>Reusing the same statement instance for each {@code find()}/{@code save()} call allows to generate
+ * its YQL text only once (see {@link YqlStatement#getCachedQuery(String)}), and makes statement comparison
+ * during query merging trivial.
+ * <p>The registry is bounded: it holds at most {@value #MAX_STATEMENTS} statements, and forgets statements that have
+ * not been used for an hour. So statements of entity classes from discarded class loaders eventually become
+ * unreachable, together with their schemas and class loaders. An evicted statement is simply created anew when
+ * it is needed again.
+ */
+@InternalApi
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StatementRegistry {
+    private static final int MAX_STATEMENTS = 10_000;
+
+    private static final Map<Key, YqlStatement<?, ?, ?>> statements = CacheBuilder.newBuilder()
+            .maximumSize(MAX_STATEMENTS)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .<Key, YqlStatement<?, ?, ?>>build()
+            .asMap();
+
+    /**
+     * Returns the canonical statement instance, creating it with {@code factory} if it does not exist yet.
+     *
+     * @param kind            statement class
+     * @param tableDescriptor table descriptor
+     * @param schema          entity schema
+     * @param resultSchema    result schema
+     * @param factory         creates the statement; must return an instance of {@code kind} for the specified table
+     *                        and schemas
+     * @return canonical statement instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Entity<E>, S extends YqlStatement<?, E, ?>> S get(
+            @NonNull Class<?> kind,
+            @NonNull TableDescriptor<E> tableDescriptor,
+            @NonNull EntitySchema<E> schema,
+            @NonNull Schema<?> resultSchema,
+            @NonNull Supplier<S> factory
+    ) {
+        return (S) statements.computeIfAbsent(
+                new Key(kind, tableDescriptor, schema, resultSchema),
+                __ -> factory.get()
+        );
+    }
+
+    private record Key(Class<?> kind, TableDescriptor<?> tableDescriptor, Schema<?> schema, Schema<?> resultSchema) {
+    }
+}
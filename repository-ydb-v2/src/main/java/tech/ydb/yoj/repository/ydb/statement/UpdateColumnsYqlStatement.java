@@ -0,0 +1,62 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import lombok.NonNull;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static tech.ydb.yoj.repository.db.EntityIdSchema.isIdField;
+
+/**
+ * Writes only the specified columns of existing entities:
+ * {@code UPDATE table ON SELECT * FROM AS_TABLE($Input)}, where {@code $Input} has the ID columns and the
+ * {@code columns} to update.
+ * <p>Used to write only the dirty columns of entities that have been read and then saved in the same transaction.
+ * Rows that do not exist are not affected, so this statement must only be used for entities that are known to exist.
+ */
+public class UpdateColumnsYqlStatement<IN, T extends Entity<T>> extends MultipleVarsYqlStatement.Simple<IN, T> {
+    private final Set<String> columns;
+
+    public UpdateColumnsYqlStatement(TableDescriptor<T> tableDescriptor, EntitySchema<T> schema,
+                                     @NonNull Set<String> columns) {
+        super(tableDescriptor, schema);
+        this.columns = Set.copyOf(columns);
+    }
+
+    @Override
+    public List<YqlStatementParam> getParams() {
+        return schema.flattenFields().stream()
+                .filter(c -> isIdField(c) || columns.contains(c.getName()))
+                .map(c -> new YqlStatementParam(YqlType.of(c), c.getName(), !isIdField(c)))
+                .collect(toList());
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.UPDATE;
+    }
+
+    @Override
+    public String toDebugString(IN in) {
+        return "updateColumns(" + toDebugParams(in) + ")";
+    }
+
+    @Override
+    public String getQuery(String tablespace) {
+        return declarations() +
+                "UPDATE " + table(tablespace) + " ON SELECT * FROM AS_TABLE(" + listName + ")";
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected Function<IN, Map<String, Object>> flattenInputVariables() {
+        return t -> schema.flatten((T) t);
+    }
+}
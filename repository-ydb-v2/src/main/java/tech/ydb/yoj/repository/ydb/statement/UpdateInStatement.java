@@ -2,28 +2,36 @@ package tech.ydb.yoj.repository.ydb.statement;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.yoj.databind.FieldValueType;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.statement.Changeset;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static java.util.stream.Stream.concat;
 
 /**
  * <p>Creates statement for {@code UPDATE table SET values=values WHERE PK IN (PK1, PK2, ...)}.</p>
+ * <p>{@link Changeset.Operation Field operations} are computed from the current column value on the server side,
+ * e.g. {@code UPDATE table SET counter=COALESCE(counter + $counter, $counter) WHERE PK IN (PK1, PK2, ...)}.</p>
  */
 @SuppressWarnings("DuplicatedCode")
 public class UpdateInStatement<T extends Entity<T>, RESULT>
@@ -31,6 +39,7 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
     public static final String keysParam = "$input_ids";
 
     private final Map<JavaField, Object> values;
+    private final Map<JavaField, Changeset.Operation.Kind> operations;
     private final Set<String> keyFields;
 
     public UpdateInStatement(
@@ -47,6 +56,19 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
         for (var entry : in.values.entrySet()) {
             values.put(schema.getField(entry.getKey()), entry.getValue());
         }
+
+        this.operations = new LinkedHashMap<>(in.operations.size());
+        for (var entry : in.operations.entrySet()) {
+            var field = schema.getField(entry.getKey());
+            var kind = entry.getValue().kind();
+            Preconditions.checkArgument(field.isFlat(), "Can only apply %s to a flat field, got: %s", kind, field);
+            Preconditions.checkArgument(kind != Changeset.Operation.Kind.INCREMENT
+                            || field.getValueType() == FieldValueType.INTEGER || field.getValueType() == FieldValueType.REAL,
+                    "Can only increment a numeric field, got: %s", field);
+            operations.put(field, kind);
+        }
+        Preconditions.checkArgument(!values.isEmpty() || !operations.isEmpty(),
+                "update must contain a change to at least one entity field");
     }
 
     private Set<String> collectKeyFields(Collection<? extends Entity.Id<T>> ids) {
@@ -65,7 +87,7 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
 
     @Override
     protected String declarations() {
-        var valuesDeclaration = values.keySet().stream()
+        var valuesDeclaration = changedFields()
                 .map(e -> getDeclaration("$" + e.getPath(), YqlType.of(e).getYqlTypeName()))
                 .collect(joining());
 
@@ -89,9 +111,10 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
                 .map(p -> this.escape(p.getName()))
                 .collect(Collectors.joining(",", "", keyParams.size() == 1 ? "," : ""));
 
-        var setSection = values.keySet().stream()
-                .map(x -> x.getName() + "=$" + x.getPath())
-                .collect(Collectors.joining(", "));
+        var setSection = concat(
+                values.keySet().stream().map(x -> x.getName() + "=$" + x.getPath()),
+                operations.entrySet().stream().map(e -> e.getKey().getName() + "=" + operationExpression(e.getKey(), e.getValue()))
+        ).collect(Collectors.joining(", "));
 
         return String.format(
                 "%sUPDATE%s\nSET %s\nWHERE (%s) IN %s",
@@ -99,6 +122,21 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
         );
     }
 
+    private String operationExpression(JavaField field, Changeset.Operation.Kind kind) {
+        var column = escape(field.getName());
+        var operand = "$" + field.getPath();
+        return switch (kind) {
+            case INCREMENT -> String.format("COALESCE(%s + %s, %s)", column, operand, operand);
+            case MIN -> String.format("MIN_OF(COALESCE(%s, %s), %s)", column, operand, operand);
+            case MAX -> String.format("MAX_OF(COALESCE(%s, %s), %s)", column, operand, operand);
+            case COALESCE -> String.format("COALESCE(%s, %s)", column, operand);
+        };
+    }
+
+    private Stream<JavaField> changedFields() {
+        return concat(values.keySet().stream(), operations.keySet().stream());
+    }
+
     @Override
     public List<YqlStatementParam> getParams() {
         var params = getValuesParams();
@@ -107,7 +145,7 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
     }
 
     private List<YqlStatementParam> getValuesParams() {
-        return this.values.keySet().stream()
+        return changedFields()
                 .map(x -> new YqlStatementParam(YqlType.of(x), x.getPath(), false))
                 .collect(Collectors.toList());
     }
@@ -125,7 +163,7 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
 
         var valuesParams = getValuesParams().stream()
                 .collect(toMap(YqlStatementParam::getVar, p -> createTQueryParameter(p.getType(),
-                        params.values.get(p.getName()), p.isOptional())));
+                        params.getFieldValue(p.getName()), p.isOptional())));
 
         valuesParams.put(keysParam, idsParam);
 
@@ -181,8 +219,19 @@ public class UpdateInStatement<T extends Entity<T>, RESULT>
     }
 
     @Value
+    @AllArgsConstructor
     public static class UpdateInStatementInput<T extends Entity<T>> {
         Collection<? extends Entity.Id<T>> ids;
         Map<String, ?> values;
+        Map<String, Changeset.Operation> operations;
+
+        public UpdateInStatementInput(Collection<? extends Entity.Id<T>> ids, Map<String, ?> values) {
+            this(ids, values, Map.of());
+        }
+
+        private Object getFieldValue(String fieldPath) {
+            var operation = operations.get(fieldPath);
+            return operation != null ? operation.operand() : values.get(fieldPath);
+        }
     }
 }
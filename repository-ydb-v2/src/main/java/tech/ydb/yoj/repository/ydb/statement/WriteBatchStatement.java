@@ -0,0 +1,27 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.yoj.InternalApi;
+
+import java.util.List;
+
+/**
+ * Multiple write statements combined into a single YQL script, to be executed in a single request to YDB.
+ * <p>See {@link CombinedStatement} for how the statements' parameters are renamed and passed.
+ */
+@InternalApi
+public final class WriteBatchStatement extends CombinedStatement<Void> {
+    public WriteBatchStatement(List<? extends Statement<?, ?>> statements) {
+        super(statements);
+    }
+
+    @Override
+    public Void readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
+        throw new UnsupportedOperationException("Write batches do not return results");
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return QueryType.UNTYPED;
+    }
+}
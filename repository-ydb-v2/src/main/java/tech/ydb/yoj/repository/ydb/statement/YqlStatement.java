@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import com.google.protobuf.NullValue;
 import lombok.Getter;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.Value;
 import tech.ydb.yoj.DeprecationWarnings;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
@@ -11,14 +12,19 @@ import tech.ydb.yoj.repository.db.EntityIdSchema;
 import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 import tech.ydb.yoj.repository.ydb.yql.YqlOrderBy;
 import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
 import tech.ydb.yoj.repository.ydb.yql.YqlType;
 
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
@@ -36,12 +42,29 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
 
     protected static final YqlOrderBy ORDER_BY_ID_ASCENDING = YqlOrderBy.orderBy(EntityIdSchema.ID_FIELD_NAME);
 
+    // Statement classes that override readResult(), and therefore must read each row with it
+    private static final ClassValue<Boolean> OVERRIDES_READ_RESULT = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Method readResult = type.getMethod("readResult", List.class, ValueProtos.Value.class);
+                return readResult.getDeclaringClass() != YqlStatement.class;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     protected final EntitySchema<ENTITY> schema;
     protected final Schema<RESULT> resultSchema;
     protected final ResultSetReader<RESULT> resultSetReader;
     @Getter
     protected final TableDescriptor<ENTITY> tableDescriptor;
 
+    // Lazily generated YQL text. Data races are benign here: the text is always the same for the same statement
+    private volatile CachedQuery cachedQuery;
+    private volatile String canonicalQuery;
+
     /**
      * @deprecated Use constructor with {@link TableDescriptor} for selecting correct entity table
      */
@@ -154,22 +177,98 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
         return value == null ? ValueProtos.Value.newBuilder().setNullFlagValue(NullValue.NULL_VALUE) : type.toYql(value);
     }
 
+    protected Value<?> createSdkQueryParameter(YqlType type, Object o, boolean optional) {
+        if (!optional) {
+            return o == null ? YdbConverter.toSDK(createTQueryParameter(type, null, false)) : type.toSdk(o);
+        }
+        return o == null ? type.getSdkOptionalType().emptyValue() : type.getSdkOptionalType().newValue(type.toSdk(o));
+    }
+
+    protected tech.ydb.table.values.Type getSdkType(YqlType yqlType, boolean optional) {
+        return optional ? yqlType.getSdkOptionalType() : yqlType.getSdkType();
+    }
+
     @Override
     public RESULT readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
         return resultSetReader.readResult(columns, value);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If a subclass overrides {@link #readResult(List, ValueProtos.Value) readResult()}, rows are read by it,
+     * so that custom result conversion is never bypassed. Otherwise, rows are decoded directly from the result set.
+     */
+    @Override
+    public Function<tech.ydb.table.result.ResultSetReader, RESULT> rowReader(List<ValueProtos.Column> columns) {
+        if (OVERRIDES_READ_RESULT.get(getClass())) {
+            return Statement.super.rowReader(columns);
+        }
+        return resultSetReader.rowReader(columns);
+    }
+
+    /**
+     * Returns YQL for this query, generating it only once per tablespace.
+     * <p>Statements are immutable, so their YQL text never changes. We remember the text for the last tablespace
+     * used, because a repository always uses the same tablespace.
+     *
+     * @param tablespace base path for all tables referenced in the query
+     * @return YQL
+     */
+    @Override
+    public String getCachedQuery(String tablespace) {
+        CachedQuery cached = cachedQuery;
+        if (cached == null || !cached.tablespace().equals(tablespace)) {
+            cached = new CachedQuery(tablespace, getQuery(tablespace));
+            cachedQuery = cached;
+        }
+        return cached.yql();
+    }
+
+    private String getCanonicalQuery() {
+        String query = canonicalQuery;
+        if (query == null) {
+            query = getQuery("");
+            canonicalQuery = query;
+        }
+        return query;
+    }
+
     @Override
     public String toString() {
-        return getQuery("");
+        return getCanonicalQuery();
+    }
+
+    /**
+     * Returns what determines the YQL of this statement, in addition to the statement class, the table and the entity
+     * and result schemas. Statements of the same class are {@link #equals(Object) equal} if they have the same table,
+     * schemas and query keys.
+     * <p>The default implementation returns the YQL text itself, which is always correct but needs to be generated.
+     * Statements whose YQL depends only on the statement class, the table and the schemas return {@code null}.
+     * Subclasses of such statements that add state affecting the YQL must override this method again.
+     *
+     * @return query key, or {@code null} if the statement YQL depends only on the statement class, table and schemas
+     */
+    @Nullable
+    protected Object getQueryKey() {
+        return getCanonicalQuery();
     }
 
     public boolean equals(Object o) {
-        return o == this || o instanceof YqlStatement && ((YqlStatement<?, ?, ?>) o).getQuery("").equals(getQuery(""));
+        if (o == this) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        YqlStatement<?, ?, ?> other = (YqlStatement<?, ?, ?>) o;
+        return Objects.equals(tableDescriptor, other.tableDescriptor)
+                && Objects.equals(schema, other.schema)
+                && Objects.equals(resultSchema, other.resultSchema)
+                && Objects.equals(getQueryKey(), other.getQueryKey());
     }
 
     public int hashCode() {
-        return getQuery("").hashCode();
+        return Objects.hash(getClass(), tableDescriptor, schema, resultSchema, getQueryKey());
     }
 
     public EntitySchema<ENTITY> getInSchema() {
@@ -278,4 +377,7 @@ public abstract class YqlStatement<PARAMS, ENTITY extends Entity<ENTITY>, RESULT
 
         return newYql.toString();
     }
+
+    private record CachedQuery(String tablespace, String yql) {
+    }
 }
@@ -1,5 +1,6 @@
 package tech.ydb.yoj.repository.ydb.table;
 
+import com.google.common.base.Preconditions;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntityIdSchema;
@@ -8,11 +9,16 @@ import tech.ydb.yoj.repository.ydb.yql.YqlLimit;
 import tech.ydb.yoj.repository.ydb.yql.YqlOrderBy;
 import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
 import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
+import tech.ydb.yoj.util.lang.Exceptions;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -21,6 +27,7 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
     private final YqlOrderBy orderById;
     private final YqlLimit top;
     private final int batchSize;
+    private final int prefetchBatches;
     private final EntityIdSchema<ID> idSchema;
 
     private List<YqlPredicate> initialPartialPredicates = List.of();
@@ -28,12 +35,33 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
     private List<R> remainingItems = List.of();
     private boolean finished = false;
 
+    // Batches that are already requested from the database, in order. Only used if prefetchBatches > 0
+    private final Deque<CompletableFuture<Batch<R>>> prefetched = new ArrayDeque<>();
+
     protected abstract ID getId(R r);
 
     protected abstract List<R> find(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts);
 
+    /**
+     * Asynchronously finds the next batch. Only called if read-ahead is enabled ({@code prefetchBatches > 0}).
+     */
+    protected CompletableFuture<List<R>> findAsync(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts) {
+        return CompletableFuture.completedFuture(find(part, otherParts));
+    }
+
     BatchFindSpliterator(EntityIdSchema<ID> idSchema, ID partial, int batchSize) {
+        this(idSchema, partial, batchSize, 0);
+    }
+
+    /**
+     * @param prefetchBatches maximum number of batches to read ahead of the consumer. If {@code > 0},
+     *                        the next batch is requested asynchronously as soon as the previous batch arrives,
+     *                        instead of waiting for the consumer to process the previous batch.
+     */
+    BatchFindSpliterator(EntityIdSchema<ID> idSchema, ID partial, int batchSize, int prefetchBatches) {
+        Preconditions.checkArgument(prefetchBatches >= 0, "prefetchBatches must be >= 0, got %s", prefetchBatches);
         this.batchSize = batchSize;
+        this.prefetchBatches = prefetchBatches;
         this.idSchema = idSchema;
         this.orderById = YqlOrderBy.orderBy(this.idSchema
                 .flattenFields().stream()
@@ -56,18 +84,10 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
     public boolean tryAdvance(Consumer<? super R> action) {
         List<R> result = remainingItems;
         while (result.isEmpty() && !finished) {
-            result = next();
-
-            if (!result.isEmpty()) {
-                R lastResult = result.get(result.size() - 1);
-                lastPartialId = idSchema.flattenToList(getId(lastResult));
-            }
-
-            if (result.size() < batchSize && !lastPartialId.isEmpty()) {
-                lastPartialId.remove(lastPartialId.size() - 1);
-            }
-
-            finished = !(lastPartialId.size() > initialPartialPredicates.size());
+            Batch<R> batch = prefetchBatches > 0 ? nextPrefetched() : toBatch(lastPartialId, next(lastPartialId));
+            result = batch.items();
+            lastPartialId = batch.lastPartialId();
+            finished = batch.finished();
         }
 
         boolean foundSomething = !result.isEmpty();
@@ -79,13 +99,66 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
         return foundSomething;
     }
 
-    private List<R> next() {
-        if (!lastPartialId.isEmpty() && lastPartialId.size() <= initialPartialPredicates.size()) {
-            // We need this short-circuiting because certain versions of YDB had a bug for queries like
-            // SELECT * FROM table WHERE id = 'id' AND id > 'id'
+    /**
+     * Waits for the batch currently being read ahead, if any, so that no query of this spliterator
+     * is running after this method returns. Remaining prefetched batches are discarded.
+     */
+    void close() {
+        finished = true;
+        remainingItems = List.of();
+        CompletableFuture<Batch<R>> last = prefetched.peekLast();
+        prefetched.clear();
+        if (last != null) {
+            last.exceptionally(__ -> null).join();
+        }
+    }
+
+    private Batch<R> nextPrefetched() {
+        if (prefetched.isEmpty()) {
+            prefetched.add(nextAsync(lastPartialId));
+        }
+
+        Batch<R> batch;
+        try {
+            batch = prefetched.poll().join();
+        } catch (CompletionException e) {
+            prefetched.clear();
+            throw Exceptions.unwrapCompletionException(e) instanceof RuntimeException re ? re : e;
+        }
+
+        while (prefetched.size() < prefetchBatches) {
+            CompletableFuture<Batch<R>> tail = prefetched.isEmpty()
+                    ? CompletableFuture.completedFuture(batch)
+                    : prefetched.peekLast();
+            prefetched.add(tail.thenCompose(b -> b.finished()
+                    ? CompletableFuture.completedFuture(b.exhausted())
+                    : nextAsync(b.lastPartialId())));
+        }
+        return batch;
+    }
+
+    private CompletableFuture<Batch<R>> nextAsync(List<Schema.JavaFieldValue> lastPartialId) {
+        if (isExhausted(lastPartialId)) {
+            return CompletableFuture.completedFuture(toBatch(lastPartialId, List.of()));
+        }
+        List<YqlPredicate> predicates = predicates(lastPartialId);
+        return findAsync(YqlPredicate.and(predicates), orderById, top).thenApply(result -> toBatch(lastPartialId, result));
+    }
+
+    private List<R> next(List<Schema.JavaFieldValue> lastPartialId) {
+        if (isExhausted(lastPartialId)) {
             return List.of();
         }
+        return find(YqlPredicate.and(predicates(lastPartialId)), orderById, top);
+    }
 
+    private boolean isExhausted(List<Schema.JavaFieldValue> lastPartialId) {
+        // We need this short-circuiting because certain versions of YDB had a bug for queries like
+        // SELECT * FROM table WHERE id = 'id' AND id > 'id'
+        return !lastPartialId.isEmpty() && lastPartialId.size() <= initialPartialPredicates.size();
+    }
+
+    private List<YqlPredicate> predicates(List<Schema.JavaFieldValue> lastPartialId) {
         List<YqlPredicate> predicates = new ArrayList<>(initialPartialPredicates);
         for (int i = 0; i < lastPartialId.size(); i++) {
             Schema.JavaFieldValue e = lastPartialId.get(i);
@@ -93,8 +166,19 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
                     ? YqlPredicate.gt(e.getFieldPath(), e.getValue())
                     : YqlPredicate.eq(e.getFieldPath(), e.getValue()));
         }
+        return predicates;
+    }
+
+    private Batch<R> toBatch(List<Schema.JavaFieldValue> prevLastPartialId, List<R> result) {
+        List<Schema.JavaFieldValue> newLastPartialId = new ArrayList<>(result.isEmpty()
+                ? prevLastPartialId
+                : idSchema.flattenToList(getId(result.get(result.size() - 1))));
+        if (result.size() < batchSize && !newLastPartialId.isEmpty()) {
+            newLastPartialId.remove(newLastPartialId.size() - 1);
+        }
 
-        return find(YqlPredicate.and(predicates), orderById, top);
+        boolean newFinished = !(newLastPartialId.size() > initialPartialPredicates.size());
+        return new Batch<>(result, newLastPartialId, newFinished);
     }
 
     @Override
@@ -111,4 +195,10 @@ abstract class BatchFindSpliterator<R, T extends Entity<T>, ID extends Entity.Id
     public int characteristics() {
         return ORDERED | NONNULL;
     }
+
+    private record Batch<R>(List<R> items, List<Schema.JavaFieldValue> lastPartialId, boolean finished) {
+        private Batch<R> exhausted() {
+            return new Batch<>(List.of(), lastPartialId, true);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package tech.ydb.yoj.repository.ydb.table;
+
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntityIdSchema;
+import tech.ydb.yoj.repository.db.IsolationLevel;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.Tx;
+import tech.ydb.yoj.repository.db.TxManager;
+import tech.ydb.yoj.repository.ydb.YdbRepositoryTransaction;
+import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
+import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Spliterator over key ranges {@code [bounds[i - 1], bounds[i])} of the first primary key column, {@code i = from..to-1}.
+ * Each key range is read by a {@link BatchFindSpliterator} with keyset pagination; each batch is read in a separate
+ * read-only snapshot transaction, so reads of a key range are not consistent with each other. Splitting hands out the first half of the remaining key ranges, so encounter order
+ * is the primary key order.
+ */
+final class KeyRangeSpliterator<T extends Entity<T>> implements Spliterator<T> {
+    private final TxManager txManager;
+    private final TableDescriptor<T> tableDescriptor;
+    private final EntityIdSchema<Entity.Id<T>> idSchema;
+    private final String keyPath;
+    private final List<?> bounds;
+    private final int batchSize;
+
+    private int from;
+    private final int to;
+    private Spliterator<T> current;
+
+    /**
+     * @param bounds exclusive upper bounds of key ranges for the first primary key column, in ascending order;
+     *               {@code bounds.size() + 1} key ranges in total, the first and the last of them being unbounded
+     */
+    KeyRangeSpliterator(TxManager txManager, TableDescriptor<T> tableDescriptor, EntityIdSchema<Entity.Id<T>> idSchema,
+                        List<?> bounds, int batchSize) {
+        this(txManager, tableDescriptor, idSchema, bounds, batchSize, 0, bounds.size() + 1, null);
+    }
+
+    private KeyRangeSpliterator(TxManager txManager, TableDescriptor<T> tableDescriptor, EntityIdSchema<Entity.Id<T>> idSchema,
+                                List<?> bounds, int batchSize, int from, int to, Spliterator<T> current) {
+        this.txManager = txManager;
+        this.tableDescriptor = tableDescriptor;
+        this.idSchema = idSchema;
+        this.keyPath = idSchema.flattenFields().get(0).getPath();
+        this.bounds = bounds;
+        this.batchSize = batchSize;
+        this.from = from;
+        this.to = to;
+        this.current = current;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (current == null) {
+                if (from >= to) {
+                    return false;
+                }
+                current = keyRange(from++);
+            }
+            if (current.tryAdvance(action)) {
+                return true;
+            }
+            current = null;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int started = current == null ? 0 : 1;
+        int remaining = to - from + started;
+        if (remaining < 2) {
+            return null;
+        }
+
+        int mid = from + remaining / 2 - started;
+        var prefix = new KeyRangeSpliterator<>(txManager, tableDescriptor, idSchema, bounds, batchSize, from, mid, current);
+        this.from = mid;
+        this.current = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private Spliterator<T> keyRange(int i) {
+        List<YqlPredicate> rangePredicates = new ArrayList<>(2);
+        if (i > 0) {
+            rangePredicates.add(YqlPredicate.gte(keyPath, bounds.get(i - 1)));
+        }
+        if (i < bounds.size()) {
+            rangePredicates.add(YqlPredicate.lt(keyPath, bounds.get(i)));
+        }
+
+        return new BatchFindSpliterator<T, T, Entity.Id<T>>(idSchema, null, batchSize) {
+            @Override
+            protected Entity.Id<T> getId(T t) {
+                return t.getId();
+            }
+
+            @Override
+            protected List<T> find(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts) {
+                List<YqlStatementPart<?>> parts = new ArrayList<>(rangePredicates);
+                parts.add(part);
+                parts.addAll(asList(otherParts));
+                return txManager.readOnly()
+                        .withStatementIsolationLevel(IsolationLevel.SNAPSHOT_READ_ONLY)
+                        .run(() -> new YdbTable<>(tableDescriptor, currentTransaction()).find(parts));
+            }
+        };
+    }
+
+    private static YdbRepositoryTransaction<?> currentTransaction() {
+        return (YdbRepositoryTransaction<?>) Tx.Current.get().getRepositoryTransaction();
+    }
+}
@@ -0,0 +1,96 @@
+package tech.ydb.yoj.repository.ydb.table;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Value;
+import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntityIdSchema;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.db.TxManager;
+import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splittable full table scan, suitable for {@link Stream#parallel() parallel streams}.
+ * <p>Unlike {@link YdbTable#streamAll(int) Table.streamAll()}, which reads the whole table sequentially in a single
+ * transaction, this scan divides the key space by the table's partition boundaries, so that each key range can be
+ * read by a separate fork-join task.
+ * <p><strong>Consistency.</strong> Each batch of {@code batchSize} entities is read in its own
+ * {@link tech.ydb.yoj.repository.db.IsolationLevel#SNAPSHOT_READ_ONLY read-only snapshot} transaction. So each batch
+ * is consistent in itself, but neither a key range nor the scan as a whole is a point-in-time read: entities changed
+ * concurrently with the scan might be seen in either state, entities inserted or deleted concurrently might or might
+ * not be seen, and an entity whose ID changes might be seen twice or not at all.
+ * <p><strong>Skew.</strong> Key ranges are split by the values of the <em>first</em> primary key column in the
+ * partition boundaries only. Partitions whose boundaries have the same first column value fall into a single key range,
+ * so a table with few distinct values of the first primary key column (e.g., a tenant ID with one large tenant)
+ * is divided into fewer and unevenly sized key ranges, and is read with less parallelism than it has partitions.
+ * <p>If the stream is ordered (the default), entities are returned in primary key order, same as {@code Table.streamAll()}.
+ */
+public final class ParallelTableScan {
+    private ParallelTableScan() {
+    }
+
+    /**
+     * Returns a splittable stream of all entities in the table. Must be called outside of a transaction.
+     * The returned stream is sequential; call {@link Stream#parallel()} on it to read key ranges in parallel.
+     * Each batch is read in a separate snapshot, see the {@link ParallelTableScan class description} for the consistency
+     * guarantees and the limits of splitting.
+     *
+     * @param repository      YDB repository, used to get the table's partition boundaries
+     * @param txManager       transaction manager to run read-only transactions with
+     * @param tableDescriptor table to scan
+     * @param batchSize       number of entities to read per query, in range {@code [1, 5000]}
+     * @return stream of all entities in the table
+     */
+    public static <T extends Entity<T>> Stream<T> streamAll(
+            @NonNull YdbRepository repository,
+            @NonNull TxManager txManager,
+            @NonNull TableDescriptor<T> tableDescriptor,
+            int batchSize
+    ) {
+        Preconditions.checkArgument(1 <= batchSize && batchSize <= 5000, "batchSize must be in range [1, 5000], got %s", batchSize);
+
+        EntityIdSchema<Entity.Id<T>> idSchema = EntitySchema.of(tableDescriptor.entityType()).getIdSchema();
+        List<TupleValue> partitionBounds = repository.getSchemaOperations().getPartitionUpperBounds(tableDescriptor.tableName());
+        List<Object> keyBounds = firstKeyColumnBounds(idSchema.flattenFields().get(0), partitionBounds);
+
+        return StreamSupport.stream(new KeyRangeSpliterator<>(txManager, tableDescriptor, idSchema, keyBounds, batchSize), false);
+    }
+
+    // Partition bounds are full or partial primary key tuples. We split by the first primary key column only,
+    // so several partitions with the same first column value in their bound are merged into a single key range.
+    private static List<Object> firstKeyColumnBounds(JavaField keyField, List<TupleValue> partitionBounds) {
+        YqlType keyType = YqlType.of(keyField);
+
+        List<Object> bounds = new ArrayList<>(partitionBounds.size());
+        for (TupleValue bound : partitionBounds) {
+            if (bound.size() == 0) {
+                continue;
+            }
+
+            Value<?> value = bound.get(0);
+            if (value instanceof OptionalValue optional) {
+                if (!optional.isPresent()) {
+                    continue;
+                }
+                value = optional.get();
+            }
+
+            Object keyValue = keyType.fromYql(value.toPb());
+            if (keyValue != null && (bounds.isEmpty() || !Objects.equals(bounds.get(bounds.size() - 1), keyValue))) {
+                bounds.add(keyValue);
+            }
+        }
+        return bounds;
+    }
+}
@@ -1,12 +1,16 @@
 package tech.ydb.yoj.repository.ydb.table;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import lombok.NonNull;
 import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
+import tech.ydb.yoj.databind.schema.Schema;
+import tech.ydb.yoj.repository.db.Aggregate;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.Entity.Id;
 import tech.ydb.yoj.repository.db.EntityIdSchema;
@@ -20,6 +24,10 @@ import tech.ydb.yoj.repository.db.ViewSchema;
 import tech.ydb.yoj.repository.db.bulk.BulkParams;
 import tech.ydb.yoj.repository.db.cache.FirstLevelCache;
 import tech.ydb.yoj.repository.db.cache.TransactionLocal;
+import tech.ydb.yoj.repository.db.list.InMemoryQueries;
+import tech.ydb.yoj.repository.db.list.ListRequest;
+import tech.ydb.yoj.repository.db.list.ListResult;
+import tech.ydb.yoj.repository.db.list.ViewListResult;
 import tech.ydb.yoj.repository.db.internal.TableQueryImpl;
 import tech.ydb.yoj.repository.db.readtable.ReadTableParams;
 import tech.ydb.yoj.repository.db.statement.Changeset;
@@ -27,16 +35,21 @@ import tech.ydb.yoj.repository.ydb.bulk.BulkMapper;
 import tech.ydb.yoj.repository.ydb.bulk.BulkMapperImpl;
 import tech.ydb.yoj.repository.ydb.readtable.EntityIdKeyMapper;
 import tech.ydb.yoj.repository.ydb.readtable.ReadTableMapper;
+import tech.ydb.yoj.repository.ydb.statement.AggregateStatement;
+import tech.ydb.yoj.repository.ydb.statement.Count;
 import tech.ydb.yoj.repository.ydb.statement.CountAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.DeleteRangeStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindAllYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindInStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindRangeStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindStatement;
 import tech.ydb.yoj.repository.ydb.statement.FindYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.InsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.ReadBatchStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.StatementRegistry;
 import tech.ydb.yoj.repository.ydb.statement.UpdateByIdStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpdateInStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpdateModel;
@@ -49,12 +62,16 @@ import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
 import tech.ydb.yoj.repository.ydb.yql.YqlView;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -66,6 +83,14 @@ import static java.util.stream.Stream.concat;
 import static tech.ydb.yoj.repository.db.EntityExpressions.defaultOrder;
 
 public class YdbTable<T extends Entity<T>> implements Table<T> {
+    /**
+     * Default maximum number of keys looked up by a single {@code SELECT ... WHERE key IN ...} statement.
+     * Matches the default YDB result row limit, so that a chunk of Entity IDs never has a truncated result.
+     *
+     * @see #getFindInChunkSize()
+     */
+    public static final int DEFAULT_FIND_IN_CHUNK_SIZE = 1_000;
+
     private final Class<T> type;
     private final TableDescriptor<T> tableDescriptor;
     private final EntitySchema<T> schema;
@@ -111,6 +136,16 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return executor;
     }
 
+    /**
+     * Returns the maximum number of keys looked up by a single {@code SELECT ... WHERE key IN ...} statement, used
+     * by {@code find(Set<ID>)}, {@code findIds(Set<ID>)} and secondary index key lookups. Larger key sets are split
+     * into chunks of this size, so that each request and its result stay reasonably small.
+     * <p>Override this method to tune the chunk size for your table, e.g. for very small or very large entities.
+     */
+    protected int getFindInChunkSize() {
+        return DEFAULT_FIND_IN_CHUNK_SIZE;
+    }
+
     @SuppressWarnings("unchecked")
     private Class<T> resolveEntityType() {
         return (Class<T>) (new TypeToken<T>(getClass()) {
@@ -124,7 +159,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
 
     @Override
     public List<T> findAll() {
-        var statement = new FindAllYqlStatement<>(tableDescriptor, schema, schema);
+        var statement = findAllYqlStatement(schema);
         return TableQueryImpl.postLoad(this, executor.execute(statement, null));
     }
 
@@ -162,7 +197,18 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
      */
     @Override
     public <ID extends Entity.Id<T>> Stream<T> streamPartial(ID partial, int batchSize) {
-        return streamPartial(partial, batchSize, Entity::getId, YdbTable.this::find);
+        return streamPartial(partial, batchSize, 0);
+    }
+
+    @Override
+    public Stream<T> streamAll(int batchSize, int prefetchBatches) {
+        return streamPartial(null, batchSize, prefetchBatches);
+    }
+
+    @Override
+    public <ID extends Entity.Id<T>> Stream<T> streamPartial(ID partial, int batchSize, int prefetchBatches) {
+        return streamPartial(partial, batchSize, prefetchBatches, Entity::getId, YdbTable.this::find,
+                (part, parts) -> YdbTable.this.findAsync(toList(part, parts)));
     }
 
     /**
@@ -170,16 +216,18 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
      */
     @Override
     public <ID extends Entity.Id<T>, V extends ViewId<T>> Stream<V> streamPartial(Class<V> viewType, ID partial, int batchSize) {
-        return streamPartial(partial, batchSize, ViewId::getId, (part, parts) -> YdbTable.this.find(viewType, part, parts));
+        return streamPartial(partial, batchSize, 0, ViewId::getId,
+                (part, parts) -> YdbTable.this.find(viewType, part, parts), null);
     }
 
     private <R> Stream<R> streamPartial(
-            Entity.Id<T> partial, int batchSize,
+            Entity.Id<T> partial, int batchSize, int prefetchBatches,
             Function<R, Entity.Id<T>> idMapper,
-            BiFunction<YqlStatementPart<?>, YqlStatementPart<?>[], List<R>> findMethod
+            BiFunction<YqlStatementPart<?>, YqlStatementPart<?>[], List<R>> findMethod,
+            @Nullable BiFunction<YqlStatementPart<?>, YqlStatementPart<?>[], CompletableFuture<List<R>>> findAsyncMethod
     ) {
         Preconditions.checkArgument(1 <= batchSize && batchSize <= 5000, "batchSize must be in range [1, 5000], got %s", batchSize);
-        return StreamSupport.stream(new BatchFindSpliterator<>(schema.getIdSchema(), partial, batchSize) {
+        var spliterator = new BatchFindSpliterator<R, T, Entity.Id<T>>(schema.getIdSchema(), partial, batchSize, prefetchBatches) {
             @Override
             protected Entity.Id<T> getId(R r) {
                 return idMapper.apply(r);
@@ -189,7 +237,13 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             protected List<R> find(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts) {
                 return findMethod.apply(part, otherParts);
             }
-        }, false);
+
+            @Override
+            protected CompletableFuture<List<R>> findAsync(YqlStatementPart<?> part, YqlStatementPart<?>... otherParts) {
+                return findAsyncMethod != null ? findAsyncMethod.apply(part, otherParts) : super.findAsync(part, otherParts);
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     @Override
@@ -216,13 +270,13 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public <V extends View> List<V> findAll(Class<V> viewType) {
         ViewSchema<V> viewSchema = schema.getViewSchema(viewType);
-        var statement = new FindAllYqlStatement<>(tableDescriptor, schema, viewSchema);
+        var statement = findAllYqlStatement(viewSchema);
         return executor.execute(statement, null);
     }
 
     @Override
     public void deleteAll() {
-        executor.pendingExecute(new DeleteAllStatement<>(tableDescriptor, schema), null);
+        executor.pendingExecute(deleteAllStatement(), null);
     }
 
     @Override
@@ -231,6 +285,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         executor.bulkUpsert(mapper, input, params);
     }
 
+    @Override
+    public void bulkUpsert(Stream<T> input, BulkParams params) {
+        var mapper = new BulkMapperImpl<>(tableDescriptor, schema);
+        executor.bulkUpsert(mapper, input, params);
+    }
+
     @Override
     public <ID extends Entity.Id<T>> Stream<T> readTable(ReadTableParams<ID> params) {
         ReadTableMapper<ID, T> mapper = new EntityIdKeyMapper<>(tableDescriptor, schema, schema);
@@ -266,7 +326,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             throw new IllegalArgumentException("Cannot use partial id in find method");
         }
         return executor.getTransactionLocal().firstLevelCache(tableDescriptor).get(id, __ -> {
-            var statement = new FindYqlStatement<>(tableDescriptor, schema, schema);
+            var statement = findYqlStatement(schema);
             List<T> res = TableQueryImpl.postLoad(this, executor.execute(statement, id));
             return res.isEmpty() ? null : res.get(0);
         });
@@ -277,10 +337,67 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return TableQueryImpl.find(this, schema, getFirstLevelCache(), ids);
     }
 
+    @Override
+    public CompletableFuture<T> findAsync(Entity.Id<T> id) {
+        return async(() -> {
+            if (id.isPartial()) {
+                throw new IllegalArgumentException("Cannot use partial id in find method");
+            }
+            FirstLevelCache<T> cache = getFirstLevelCache();
+            if (cache.containsKey(id)) {
+                return CompletableFuture.completedFuture(cache.peek(id).orElse(null));
+            }
+            var statement = findYqlStatement(schema);
+            return executor.executeAsync(statement, id).thenApply(found -> {
+                List<T> res = TableQueryImpl.postLoad(this, found);
+                if (res.isEmpty()) {
+                    cache.putEmpty(id);
+                    return null;
+                }
+                return res.get(0);
+            });
+        });
+    }
+
+    @Override
+    public <ID extends Entity.Id<T>> CompletableFuture<List<T>> findAsync(Set<ID> ids) {
+        return async(() -> {
+            OrderExpression<T> orderBy = defaultOrder(schema);
+            return TableQueryImpl.findAsync(this, schema, getFirstLevelCache(), ids, remainingIds -> {
+                if (remainingIds.isEmpty()) {
+                    return CompletableFuture.completedFuture(List.of());
+                }
+                var statement = FindInStatement.from(tableDescriptor, schema, schema, remainingIds, null, orderBy, null);
+                return executor.executeAsync(statement, remainingIds);
+            });
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAsync(
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit, @Nullable Long offset
+    ) {
+        return async(() -> {
+            List<YqlStatementPart<?>> parts = buildStatementParts(indexName, filter, orderBy, limit, offset);
+            var statement = FindStatement.from(tableDescriptor, schema, schema, parts, false);
+            return executor.executeAsync(statement, parts).thenApply(found -> TableQueryImpl.postLoad(this, found));
+        });
+    }
+
+    private static <R> CompletableFuture<R> async(Supplier<CompletableFuture<R>> call) {
+        try {
+            return call.get();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     public <V extends View> V find(Class<V> viewType, Entity.Id<T> id) {
         ViewSchema<V> viewSchema = schema.getViewSchema(viewType);
-        var statement = new FindYqlStatement<>(tableDescriptor, schema, viewSchema);
+        var statement = findYqlStatement(viewSchema);
         List<V> res = executor.execute(statement, id);
         return res.isEmpty() ? null : res.get(0);
     }
@@ -288,7 +405,10 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public <ID extends Entity.Id<T>> List<T> find(Range<ID> range) {
         var statement = new FindRangeStatement<>(tableDescriptor, schema, schema, range);
-        return TableQueryImpl.postLoad(this, executor.execute(statement, range));
+        List<T> found = executor.execute(statement, range).stream()
+                .filter(e -> !isDeleted(e.getId()))
+                .toList();
+        return TableQueryImpl.postLoad(this, found);
     }
 
     @Override
@@ -312,6 +432,13 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return TableQueryImpl.postLoad(this, executor.execute(statement, parts));
     }
 
+    public CompletableFuture<List<T>> findAsync(Collection<? extends YqlStatementPart<?>> parts) {
+        return async(() -> {
+            var statement = FindStatement.from(tableDescriptor, schema, schema, parts, false);
+            return executor.executeAsync(statement, parts).thenApply(found -> TableQueryImpl.postLoad(this, found));
+        });
+    }
+
     @Override
     public long countAll() {
         return count();
@@ -329,6 +456,81 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return count(statementParts);
     }
 
+    @Override
+    public <V extends View> List<V> aggregate(
+            Class<V> resultType, @Nullable String indexName, @Nullable FilterExpression<T> filter,
+            List<String> groupBy, List<Aggregate> aggregates
+    ) {
+        YqlPredicate yqlFilter = filter == null ? null : YqlListingQuery.toYqlPredicate(filter);
+        YqlView yqlView = indexName == null ? null : YqlView.index(indexName);
+
+        List<YqlStatementPart<?>> parts = Stream.<YqlStatementPart<?>>of(yqlView, yqlFilter)
+                .filter(Objects::nonNull)
+                .toList();
+        var statement = new AggregateStatement<>(
+                tableDescriptor, schema, schema.getViewSchema(resultType), parts, groupBy, aggregates
+        );
+        return executor.execute(statement, parts);
+    }
+
+    @Override
+    public ListResult<T> list(ListRequest<T> request) {
+        if (!request.isTotalCount()) {
+            return Table.super.list(request);
+        }
+
+        List<YqlStatementPart<?>> pageParts = listPageParts(request);
+        var page = FindStatement.from(tableDescriptor, schema, schema, pageParts, false);
+        List<List<?>> results = listWithTotalCount(request, page, pageParts);
+
+        @SuppressWarnings("unchecked")
+        List<T> nextPage = (List<T>) results.get(0);
+        return ListResult.forPage(request, TableQueryImpl.postLoad(this, nextPage), totalCount(results));
+    }
+
+    @Override
+    public <V extends View> ViewListResult<T, V> list(Class<V> viewType, ListRequest<T> request) {
+        if (!request.isTotalCount()) {
+            return Table.super.list(viewType, request);
+        }
+
+        List<YqlStatementPart<?>> pageParts = listPageParts(request);
+        var page = FindStatement.from(tableDescriptor, schema, schema.getViewSchema(viewType), pageParts, false);
+        List<List<?>> results = listWithTotalCount(request, page, pageParts);
+
+        @SuppressWarnings("unchecked")
+        List<V> nextPage = (List<V>) results.get(0);
+        return ViewListResult.forPage(request, viewType, nextPage, totalCount(results));
+    }
+
+    private List<YqlStatementPart<?>> listPageParts(ListRequest<T> request) {
+        return buildStatementParts(request.getIndex(), request.getFilter(), request.getOrderBy(),
+                request.getPageSize() + 1, request.getOffset());
+    }
+
+    /**
+     * Reads the listing page and counts all entities matching the listing filter (without the keyset pagination
+     * {@link ListRequest#getSeekFilter() seek filter}) in a single request to YDB,
+     * instead of running two queries one after another.
+     */
+    private List<List<?>> listWithTotalCount(
+            ListRequest<T> request, Statement<?, ?> page, List<YqlStatementPart<?>> pageParts
+    ) {
+        FilterExpression<T> countFilter = request.getCountFilter();
+        YqlPredicate yqlFilter = countFilter == null ? null : YqlListingQuery.toYqlPredicate(countFilter);
+        YqlView yqlView = request.getIndex() == null ? null : YqlView.index(request.getIndex());
+        List<YqlStatementPart<?>> countParts = Stream.<YqlStatementPart<?>>of(yqlView, yqlFilter)
+                .filter(Objects::nonNull)
+                .toList();
+        var count = new CountAllStatement<>(tableDescriptor, schema, countParts);
+
+        return executor.execute(new ReadBatchStatement(List.of(page, count)), List.of(pageParts, countParts));
+    }
+
+    private static long totalCount(List<List<?>> results) {
+        return ((Count) results.get(1).get(0)).getCount();
+    }
+
     @Override
     public List<T> find(
             @Nullable String indexName,
@@ -392,8 +594,11 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         if (ids.isEmpty()) {
             return List.of();
         }
-        var statement = FindInStatement.from(tableDescriptor, schema, schema, ids, filter, orderBy, limit);
-        return executor.execute(statement, ids);
+        boolean isPartialIdMode = ids.iterator().next().isPartial();
+        return findInChunks(ids, schema, orderBy, limit, isPartialIdMode, chunk -> {
+            var statement = FindInStatement.from(tableDescriptor, schema, schema, chunk, filter, orderBy, limit);
+            return executor.execute(statement, chunk);
+        });
     }
 
     @Override
@@ -407,10 +612,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             return List.of();
         }
         ViewSchema<V> viewSchema = schema.getViewSchema(viewType);
-        var statement = FindInStatement.from(
-                tableDescriptor, schema, viewSchema, ids, filter, orderBy, limit
-        );
-        return executor.execute(statement, ids);
+        return findInChunks(ids, viewSchema, orderBy, limit, false, chunk -> {
+            var statement = FindInStatement.from(
+                    tableDescriptor, schema, viewSchema, chunk, filter, orderBy, limit
+            );
+            return executor.execute(statement, chunk);
+        });
     }
 
     @Override
@@ -422,10 +629,13 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         if (keys.isEmpty()) {
             return List.of();
         }
-        var statement = FindInStatement.from(
-                tableDescriptor, schema, schema, indexName, keys, filter, orderBy, limit
-        );
-        return TableQueryImpl.postLoad(this, executor.execute(statement, keys));
+        List<T> found = findInChunks(keys, schema, orderBy, limit, true, chunk -> {
+            var statement = FindInStatement.from(
+                    tableDescriptor, schema, schema, indexName, chunk, filter, orderBy, limit
+            );
+            return executor.execute(statement, chunk);
+        });
+        return TableQueryImpl.postLoad(this, found);
     }
 
     @Override
@@ -440,10 +650,56 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             return List.of();
         }
         ViewSchema<V> viewSchema = schema.getViewSchema(viewType);
-        var statement = FindInStatement.from(
-                tableDescriptor, schema, viewSchema, indexName, keys, filter, orderBy, limit
-        );
-        return executor.execute(statement, keys);
+        return findInChunks(keys, viewSchema, orderBy, limit, false, chunk -> {
+            var statement = FindInStatement.from(
+                    tableDescriptor, schema, viewSchema, indexName, chunk, filter, orderBy, limit
+            );
+            return executor.execute(statement, chunk);
+        });
+    }
+
+    /**
+     * Looks up {@code keys} by statements of at most {@link #getFindInChunkSize()} keys each. All chunks are read
+     * by the same prepared query, one after another, since statements of a transaction share a single session.
+     * Chunk results are merged in {@code orderBy} order, and then {@code limit} is applied to the merged result.
+     * <p>Merging requires the results to have all the {@code orderBy} columns: if they don't (e.g., a view that does
+     * not include the columns it is ordered by), looking up more than {@link #getFindInChunkSize()} keys in a
+     * specific order fails with an {@code IllegalArgumentException}.
+     *
+     * @param distinct whether to remove duplicate results, which are found for overlapping keys (e.g., for a partial ID
+     *                 and a full ID having it as a prefix) that end up in different chunks. Results must be
+     *                 equal if and only if they are read from the same row, so this is not suitable for views
+     */
+    private <K, R> List<R> findInChunks(
+            Set<K> keys, Schema<R> resultSchema,
+            @Nullable OrderExpression<T> orderBy, @Nullable Integer limit, boolean distinct,
+            Function<Set<K>, List<R>> findChunk
+    ) {
+        int chunkSize = getFindInChunkSize();
+        if (keys.size() <= chunkSize) {
+            return findChunk.apply(keys);
+        }
+
+        boolean ordered = orderBy != null && !orderBy.isUnordered();
+        if (ordered) {
+            List<String> orderColumns = orderBy.getKeys().stream()
+                    .flatMap(k -> k.getField().flatten())
+                    .map(Schema.JavaField::getName)
+                    .toList();
+            Preconditions.checkArgument(resultSchema.flattenFieldNames().containsAll(orderColumns),
+                    "Cannot look up more than %s keys in %s order: results of %s lack some of the ordering columns",
+                    chunkSize, orderBy, resultSchema.getType().getName());
+        }
+
+        Collection<R> found = distinct ? new LinkedHashSet<>() : new ArrayList<>();
+        for (List<K> chunk : Iterables.partition(keys, chunkSize)) {
+            found.addAll(findChunk.apply(new LinkedHashSet<>(chunk)));
+        }
+        List<R> merged = new ArrayList<>(found);
+        if (ordered) {
+            merged.sort(InMemoryQueries.toComparator(orderBy, resultSchema));
+        }
+        return limit == null || merged.size() <= limit ? merged : new ArrayList<>(merged.subList(0, limit));
     }
 
     public static <T extends Entity<T>> List<YqlStatementPart<? extends YqlStatementPart<?>>> buildStatementParts(
@@ -507,7 +763,15 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     public <ID extends Entity.Id<T>> List<ID> findIds(Range<ID> range) {
         EntityIdSchema<ID> idSchema = schema.getIdSchema();
         var statement = new FindRangeStatement<>(tableDescriptor, schema, idSchema, range);
-        return executor.execute(statement, range);
+        return executor.execute(statement, range).stream()
+                .filter(id -> !isDeleted(id))
+                .toList();
+    }
+
+    // Entities deleted in this transaction are still in the database until the transaction commits
+    private boolean isDeleted(Entity.Id<T> id) {
+        FirstLevelCache<T> cache = getFirstLevelCache();
+        return cache.containsKey(id) && cache.peek(id).isEmpty();
     }
 
     @Override
@@ -517,13 +781,27 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         }
         OrderExpression<T> order = defaultOrder(schema);
         EntityIdSchema<ID> idSchema = schema.getIdSchema();
-        var statement = FindInStatement.from(tableDescriptor, schema, idSchema, partialIds, null, order, null);
-        return executor.execute(statement, partialIds);
+        return findInChunks(partialIds, idSchema, order, null, true, chunk -> {
+            var statement = FindInStatement.from(tableDescriptor, schema, idSchema, chunk, null, order, null);
+            return executor.execute(statement, chunk);
+        });
     }
 
+    /**
+     * @deprecated Blindly setting entity fields is not recommended. Use {@code Table.modifyIfPresent()} instead, unless you
+     * have specific requirements.
+     * <p>If the changeset has {@link Changeset#getOperations() field operations} (e.g. increments), they are computed
+     * by the database from the current field values, in a single {@code UPDATE ... SET ... WHERE} statement.
+     */
     @Override
     @Deprecated
     public void update(Entity.Id<T> id, Changeset changeset) {
+        if (changeset.hasOperations()) {
+            updateIn(List.of(id), changeset);
+            executor.getTransactionLocal().firstLevelCache(tableDescriptor).remove(id);
+            return;
+        }
+
         UpdateModel.ById<Id<T>> model = new UpdateModel.ById<>(id, changeset.toMap());
         executor.pendingExecute(new UpdateByIdStatement<>(tableDescriptor, schema, model), model);
         executor.getTransactionLocal().firstLevelCache(tableDescriptor).remove(id);
@@ -532,7 +810,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public T insert(T t) {
         T entityToSave = t.preSave();
-        executor.pendingExecute(new InsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        executor.pendingExecute(insertYqlStatement(), entityToSave);
         executor.getTransactionLocal().firstLevelCache(tableDescriptor).put(entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
         return entityToSave;
@@ -541,7 +819,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     @Override
     public T save(T t) {
         T entityToSave = t.preSave();
-        executor.pendingExecute(new UpsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        executor.pendingExecute(upsertYqlStatement(), entityToSave);
         executor.getTransactionLocal().firstLevelCache(tableDescriptor).put(entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
         return entityToSave;
@@ -549,11 +827,66 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
 
     @Override
     public void delete(Entity.Id<T> id) {
-        executor.pendingExecute(new DeleteByIdStatement<>(tableDescriptor, schema), id);
+        executor.pendingExecute(deleteByIdStatement(), id);
         executor.getTransactionLocal().firstLevelCache(tableDescriptor).putEmpty(id);
         executor.getTransactionLocal().projectionCache().delete(id);
     }
 
+    /**
+     * Deletes all entities with the specified IDs without reading them first. The deletes are merged into
+     * a single {@code DELETE FROM ... ON SELECT * FROM AS_TABLE($ids)} statement on commit.
+     * <p>If the entity has projections, falls back to {@link Table#deleteAll(Set) reading the entities first},
+     * so that their projections are also deleted.
+     */
+    @Override
+    public <ID extends Entity.Id<T>> void deleteAll(Set<ID> ids) {
+        if (TableQueryImpl.hasProjections(type)) {
+            Table.super.deleteAll(ids);
+        } else {
+            ids.forEach(this::delete);
+        }
+    }
+
+    /**
+     * Deletes all entities with IDs in the specified range by a single {@code DELETE ... WHERE} statement,
+     * without reading them first. The whole range is marked as deleted in the first-level cache, so entities
+     * in the range are not found by ID or by ID range later in this transaction, unless they are saved again.
+     * <p>If the entity has projections, falls back to {@link Table#deleteAll(Range) reading the entities and deleting
+     * them one by one}, so that their projections are also deleted.
+     */
+    @Override
+    public <ID extends Entity.Id<T>> void deleteAll(Range<ID> range) {
+        if (TableQueryImpl.hasProjections(type)) {
+            Table.super.deleteAll(range);
+        } else {
+            deleteRange(range);
+        }
+    }
+
+    /**
+     * Deletes all entities with IDs in the specified range by a single {@code DELETE ... WHERE} statement,
+     * without reading them first. The whole range is marked as deleted in the first-level cache,
+     * see {@link #deleteAll(Range)}.
+     */
+    @Override
+    public <ID extends Entity.Id<T>> void delete(Range<ID> range) {
+        deleteRange(range);
+    }
+
+    private <ID extends Entity.Id<T>> void deleteRange(Range<ID> range) {
+        executor.pendingExecute(new DeleteRangeStatement<>(tableDescriptor, schema, range), range);
+
+        FirstLevelCache<T> cache = getFirstLevelCache();
+        for (T cached : cache.snapshot()) {
+            @SuppressWarnings("unchecked")
+            ID id = (ID) cached.getId();
+            if (range.contains(id)) {
+                executor.getTransactionLocal().projectionCache().delete(id);
+            }
+        }
+        cache.putEmpty(range);
+    }
+
     /**
      * Migrates the specified entity and its projections, if any. Does nothing if the entity does not exist.
      * <br>
@@ -571,14 +904,14 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
      */
     @Deprecated(forRemoval = true)
     public <ID extends Id<T>> void migrate(ID id) {
-        var statement = new FindYqlStatement<>(tableDescriptor, schema, schema);
+        var statement = findYqlStatement(schema);
         List<T> foundRaw = executor.execute(statement, id);
         if (foundRaw.isEmpty()) {
             return;
         }
         T rawEntity = foundRaw.get(0);
         T entityToSave = rawEntity.postLoad().preSave();
-        executor.pendingExecute(new UpsertYqlStatement<>(tableDescriptor, schema), entityToSave);
+        executor.pendingExecute(upsertYqlStatement(), entityToSave);
         executor.getTransactionLocal().projectionCache().save(entityToSave);
     }
 
@@ -587,6 +920,36 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
         return new TableQueryBuilder<>(this, schema);
     }
 
+    private <PARAMS, RESULT> FindYqlStatement<PARAMS, T, RESULT> findYqlStatement(Schema<RESULT> resultSchema) {
+        return StatementRegistry.get(FindYqlStatement.class, tableDescriptor, schema, resultSchema,
+                () -> new FindYqlStatement<>(tableDescriptor, schema, resultSchema));
+    }
+
+    private <PARAMS, RESULT> FindAllYqlStatement<PARAMS, T, RESULT> findAllYqlStatement(Schema<RESULT> resultSchema) {
+        return StatementRegistry.get(FindAllYqlStatement.class, tableDescriptor, schema, resultSchema,
+                () -> new FindAllYqlStatement<>(tableDescriptor, schema, resultSchema));
+    }
+
+    private <PARAMS> DeleteAllStatement<PARAMS, T> deleteAllStatement() {
+        return StatementRegistry.get(DeleteAllStatement.class, tableDescriptor, schema, schema,
+                () -> new DeleteAllStatement<>(tableDescriptor, schema));
+    }
+
+    private <PARAMS> InsertYqlStatement<PARAMS, T> insertYqlStatement() {
+        return StatementRegistry.get(InsertYqlStatement.class, tableDescriptor, schema, schema,
+                () -> new InsertYqlStatement<>(tableDescriptor, schema));
+    }
+
+    private <IN> UpsertYqlStatement<IN, T> upsertYqlStatement() {
+        return StatementRegistry.get(UpsertYqlStatement.class, tableDescriptor, schema, schema,
+                () -> new UpsertYqlStatement<>(tableDescriptor, schema));
+    }
+
+    private <IN> DeleteByIdStatement<IN, T> deleteByIdStatement() {
+        return StatementRegistry.get(DeleteByIdStatement.class, tableDescriptor, schema, schema,
+                () -> new DeleteByIdStatement<>(tableDescriptor, schema));
+    }
+
     public FirstLevelCache<T> getFirstLevelCache() {
         return executor.getTransactionLocal().firstLevelCache(tableDescriptor);
     }
@@ -603,6 +966,19 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
     public interface QueryExecutor {
         <PARAMS, RESULT> List<RESULT> execute(Statement<PARAMS, RESULT> statement, PARAMS params);
 
+        /**
+         * Asynchronous counterpart of {@link #execute(Statement, Object)}. Asynchronous statements of the same transaction
+         * must be executed sequentially: the next statement may be started only after the previous one has completed.
+         * <p>Default implementation executes the statement synchronously and returns a completed future.
+         */
+        default <PARAMS, RESULT> CompletableFuture<List<RESULT>> executeAsync(Statement<PARAMS, RESULT> statement, PARAMS params) {
+            try {
+                return CompletableFuture.completedFuture(execute(statement, params));
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
         <PARAMS, RESULT> Stream<RESULT> executeScanQuery(Statement<PARAMS, RESULT> statement, PARAMS params);
 
         <PARAMS> void pendingExecute(Statement<PARAMS, ?> statement, PARAMS value);
@@ -611,6 +987,15 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Bulk upserts the {@code input} stream in batches bounded by {@link BulkParams#getMaxBatchRows()} rows.
+         * <p>Default implementation upserts the batches one by one, by {@link #bulkUpsert(BulkMapper, List, BulkParams)}.
+         */
+        default <IN> void bulkUpsert(BulkMapper<IN> mapper, Stream<IN> input, BulkParams params) {
+            Iterators.partition(input.iterator(), params.getMaxBatchRows())
+                    .forEachRemaining(batch -> bulkUpsert(mapper, batch, params));
+        }
+
         <IN, OUT> Stream<OUT> readTable(ReadTableMapper<IN, OUT> mapper, ReadTableParams<IN> params);
 
         TransactionLocal getTransactionLocal();
@@ -635,6 +1020,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             return delegate.execute(statement, params);
         }
 
+        @Override
+        public <PARAMS, RESULT> CompletableFuture<List<RESULT>> executeAsync(Statement<PARAMS, RESULT> statement, PARAMS params) {
+            check();
+            return delegate.executeAsync(statement, params);
+        }
+
         @Override
         public <PARAMS, RESULT> Stream<RESULT> executeScanQuery(Statement<PARAMS, RESULT> statement, PARAMS params) {
             return delegate.executeScanQuery(statement, params);
@@ -652,6 +1043,12 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
             delegate.bulkUpsert(mapper, input, params);
         }
 
+        @Override
+        public <IN> void bulkUpsert(BulkMapper<IN> mapper, Stream<IN> input, BulkParams params) {
+            check();
+            delegate.bulkUpsert(mapper, input, params);
+        }
+
         @Override
         public <IN, OUT> Stream<OUT> readTable(ReadTableMapper<IN, OUT> mapper, ReadTableParams<IN> params) {
             check();
@@ -675,7 +1072,7 @@ public class YdbTable<T extends Entity<T>> implements Table<T> {
      */
     @Deprecated
     public <ID extends Id<T>> void updateIn(Collection<ID> ids, Changeset changeset) {
-        var params = new UpdateInStatement.UpdateInStatementInput<>(ids, changeset.toMap());
+        var params = new UpdateInStatement.UpdateInStatementInput<>(ids, changeset.toMap(), changeset.getOperations());
 
         executor.pendingExecute(
                 new UpdateInStatement<>(tableDescriptor, schema, schema, params),
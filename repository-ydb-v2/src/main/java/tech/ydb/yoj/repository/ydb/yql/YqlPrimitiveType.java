@@ -1,7 +1,6 @@
 package tech.ydb.yoj.repository.ydb.yql;
 
 import com.google.common.primitives.Primitives;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.UnsafeByteOperations;
 import lombok.AllArgsConstructor;
@@ -13,6 +12,10 @@ import org.slf4j.LoggerFactory;
 import tech.ydb.proto.ValueProtos;
 import tech.ydb.proto.ValueProtos.Type.PrimitiveTypeId;
 import tech.ydb.proto.ValueProtos.Value.ValueCase;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.table.values.proto.ProtoValue;
 import tech.ydb.yoj.DeprecationWarnings;
 import tech.ydb.yoj.ExperimentalApi;
@@ -32,28 +35,31 @@ import tech.ydb.yoj.repository.db.exception.ConversionException;
 import tech.ydb.yoj.util.lang.BetterCollectors;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static lombok.AccessLevel.PRIVATE;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.enumToStringValueGetter;
-import static tech.ydb.yoj.repository.db.common.CommonConverters.enumToStringValueSetter;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.enumValueGetter;
-import static tech.ydb.yoj.repository.db.common.CommonConverters.enumValueSetter;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.opaqueObjectValueGetter;
-import static tech.ydb.yoj.repository.db.common.CommonConverters.opaqueObjectValueSetter;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeEnumToStringValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeEnumValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeOpaqueObjectValue;
+import static tech.ydb.yoj.repository.db.common.CommonConverters.serializeUuidValue;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.uuidValue;
 import static tech.ydb.yoj.repository.db.common.CommonConverters.uuidValueGetter;
-import static tech.ydb.yoj.repository.db.common.CommonConverters.uuidValueSetter;
 
 @Value
 @AllArgsConstructor(access = PRIVATE)
@@ -83,84 +89,112 @@ public class YqlPrimitiveType implements YqlType {
             Map.entry(PrimitiveTypeId.UUID, "Uuid")
     );
 
-    private static final Setter BOOL_SETTER = (b, v) -> b.setBoolValue((Boolean) v);
-    private static final Setter BYTE_SETTER = (b, v) -> b.setInt32Value(((Number) v).byteValue());
-    private static final Setter BYTE_UINT_SETTER = (b, v) -> b.setUint32Value(((Number) v).byteValue());
-    private static final Setter SHORT_SETTER = (b, v) -> b.setInt32Value(((Number) v).shortValue());
-    private static final Setter INT_SETTER = (b, v) -> b.setInt32Value(((Number) v).intValue());
-    private static final Setter UINT_SETTER = (b, v) -> b.setUint32Value(((Number) v).intValue());
-    private static final Setter LONG_SETTER = (b, v) -> b.setInt64Value(((Number) v).longValue());
-    private static final Setter ULONG_SETTER = (b, v) -> b.setUint64Value(((Number) v).longValue());
-    private static final Setter FLOAT_SETTER = (b, v) -> b.setFloatValue(((Number) v).floatValue());
-    private static final Setter DOUBLE_SETTER = (b, v) -> b.setDoubleValue(((Number) v).doubleValue());
-    private static final Setter STRING_SETTER = (b, v) -> b.setBytesValue(ByteString.copyFromUtf8((String) v));
-    private static final Setter TEXT_SETTER = (b, v) -> b.setTextValue((String) v);
-    private static final Setter BYTES_SETTER = (b, v) -> b.setBytesValue(UnsafeByteOperations.unsafeWrap((byte[]) v));
-    private static final Setter BYTE_ARRAY_SETTER = (b, v) -> b.setBytesValue(UnsafeByteOperations.unsafeWrap(((ByteArray) v).getArray()));
-
-    private static final Setter INSTANT_SETTER = (b, v) -> b.setInt64Value(((Instant) v).toEpochMilli());
-    private static final Setter INSTANT_UINT_SETTER = (b, v) -> b.setUint64Value(((Instant) v).toEpochMilli());
-    private static final Setter INSTANT_SECOND_SETTER = (b, v) -> b.setInt64Value(((Instant) v).getEpochSecond());
-    private static final Setter INSTANT_UINT_SECOND_SETTER = (b, v) -> b.setUint64Value(((Instant) v).getEpochSecond());
-    private static final Setter TIMESTAMP_SETTER = (b, v) -> b.setUint64Value(ProtoValue.fromTimestamp((Instant) v).getUint64Value());
-    private static final Setter TIMESTAMP_SECONDS_SETTER = (b, v) -> b.setUint64Value(ProtoValue.fromTimestamp(((Instant) v).truncatedTo(ChronoUnit.SECONDS)).getUint64Value());
-    private static final Setter TIMESTAMP_MILLI_SETTER = (b, v) -> b.setUint64Value(ProtoValue.fromTimestamp(((Instant) v).truncatedTo(ChronoUnit.MILLIS)).getUint64Value());
-
-    private static final Setter DURATION_SETTER = (b, v) -> b.setInt64Value(ProtoValue.fromInterval((Duration) v).getInt64Value());
-    private static final Setter DURATION_UINT_SETTER = (b, v) -> b.setUint64Value(ProtoValue.fromInterval((Duration) v).getInt64Value());
-    private static final Setter DURATION_MILLI_SETTER = (b, v) -> b.setInt64Value(((Duration) v).toMillis());
-    private static final Setter DURATION_MILLI_UINT_SETTER = (b, v) -> b.setUint64Value(((Duration) v).toMillis());
-    private static final Setter DURATION_SECOND_SETTER = (b, v) -> b.setInt32Value(Math.toIntExact(((Duration) v).toSeconds()));
-    private static final Setter DURATION_SECOND_UINT_SETTER = (b, v) -> b.setUint32Value(Math.toIntExact(((Duration) v).toSeconds()));
-    private static final Setter DURATION_UTF8_SETTER = (b, v) -> b.setTextValue(((Duration) v).truncatedTo(ChronoUnit.MICROS).toString());
-    private static final Setter UUID_STRING_SETTER = uuidValueSetter(STRING_SETTER)::accept;
-    private static final Setter UUID_UTF8_SETTER = uuidValueSetter(TEXT_SETTER)::accept;
-    private static final Setter UUID_NATIVE_SETTER = (b, v) -> b.mergeFrom(ProtoValue.fromUuid(uuidValue(v)));
-
-    private static final Function<Type, Setter> ENUM_NAME_STRING_SETTERS = type -> enumValueSetter(type, STRING_SETTER)::accept;
-    private static final Function<Type, Setter> ENUM_NAME_UTF8_SETTERS = type -> enumValueSetter(type, TEXT_SETTER)::accept;
-    private static final Function<Type, Setter> ENUM_TO_STRING_STRING_SETTERS = type -> enumToStringValueSetter(type, STRING_SETTER)::accept;
-    private static final Function<Type, Setter> ENUM_TO_STRING_UTF8_SETTERS = type -> enumToStringValueSetter(type, TEXT_SETTER)::accept;
-    private static final Function<Type, Setter> JSON_STRING_SETTERS = type -> opaqueObjectValueSetter(type, STRING_SETTER)::accept;
-    private static final Function<Type, Setter> JSON_UTF8_SETTERS = type -> opaqueObjectValueSetter(type, TEXT_SETTER)::accept;
-    private static final Function<Type, Setter> STRING_VALUE_STRING_SETTERS = type -> (d, v) -> STRING_SETTER.accept(d, v.toString());
-    private static final Function<Type, Setter> STRING_VALUE_UTF8_SETTERS = type -> (d, v) -> TEXT_SETTER.accept(d, v.toString());
-
-    private static final Getter BOOL_GETTER = ValueProtos.Value::getBoolValue;
-    private static final Getter BYTE_GETTER = value -> (byte) value.getInt32Value();
-    private static final Getter BYTE_UINT_GETTER = value -> (byte) value.getUint32Value();
-    private static final Getter SHORT_GETTER = value -> (short) value.getInt32Value();
-    private static final Getter INT_GETTER = ValueProtos.Value::getInt32Value;
-    private static final Getter UINT_GETTER = ValueProtos.Value::getUint32Value;
-    private static final Getter LONG_GETTER = ValueProtos.Value::getInt64Value;
-    private static final Getter ULONG_GETTER = ValueProtos.Value::getUint64Value;
-    private static final Getter U32LONG_GETTER = value -> Integer.toUnsignedLong(value.getUint32Value());
-    private static final Getter FLOAT_GETTER = ValueProtos.Value::getFloatValue;
-    private static final Getter DOUBLE_GETTER = ValueProtos.Value::getDoubleValue;
-    private static final Getter STRING_GETTER = v -> v.getBytesValue().toStringUtf8();
-    private static final Getter TEXT_GETTER = ValueProtos.Value::getTextValue;
-    private static final Getter BYTES_GETTER = v -> v.getBytesValue().toByteArray();
-    private static final Getter BYTE_ARRAY_GETTER = v -> ByteArray.wrap(v.getBytesValue().toByteArray());
-
-    private static final Getter INSTANT_GETTER = v -> Instant.ofEpochMilli(v.getInt64Value());
-    private static final Getter INSTANT_UINT_GETTER = v -> Instant.ofEpochMilli(v.getUint64Value());
-    private static final Getter INSTANT_SECOND_GETTER = v -> Instant.ofEpochSecond(v.getInt64Value());
-    private static final Getter INSTANT_UINT_SECOND_GETTER = v -> Instant.ofEpochSecond(v.getUint64Value());
-    private static final Getter TIMESTAMP_GETTER = ProtoValue::toTimestamp;
-    private static final Getter TIMESTAMP_SECONDS_GETTER = v -> ProtoValue.toTimestamp(v).truncatedTo(ChronoUnit.SECONDS);
-    private static final Getter TIMESTAMP_MILLI_GETTER = v -> ProtoValue.toTimestamp(v).truncatedTo(ChronoUnit.MILLIS);
-    private static final Getter DURATION_GETTER = ProtoValue::toInterval;
-    private static final Getter DURATION_UINT_GETTER = v -> Duration.of(v.getUint64Value(), ChronoUnit.MICROS);
-    private static final Getter DURATION_MILLI_GETTER = v -> Duration.ofMillis(v.getInt64Value());
-    private static final Getter DURATION_MILLI_UINT_GETTER = v -> Duration.ofMillis(v.getUint64Value());
-    private static final Getter DURATION_SECOND_GETTER = v -> Duration.ofSeconds(v.getInt32Value());
-    private static final Getter DURATION_SECOND_UINT_GETTER = v -> Duration.ofSeconds(v.getUint32Value());
-    private static final Getter DURATION_UTF8_GETTER = v -> Duration.parse(v.getTextValue());
+    // SDK types are immutable, so we cache them instead of converting getYqlTypeBuilder() for each parameter value
+    private static final Map<PrimitiveTypeId, PrimitiveType> SDK_TYPES = new EnumMap<>(Map.ofEntries(
+            Map.entry(PrimitiveTypeId.BOOL, PrimitiveType.Bool),
+            Map.entry(PrimitiveTypeId.UINT8, PrimitiveType.Uint8),
+            Map.entry(PrimitiveTypeId.INT32, PrimitiveType.Int32),
+            Map.entry(PrimitiveTypeId.UINT32, PrimitiveType.Uint32),
+            Map.entry(PrimitiveTypeId.INT64, PrimitiveType.Int64),
+            Map.entry(PrimitiveTypeId.UINT64, PrimitiveType.Uint64),
+            Map.entry(PrimitiveTypeId.FLOAT, PrimitiveType.Float),
+            Map.entry(PrimitiveTypeId.DOUBLE, PrimitiveType.Double),
+            Map.entry(PrimitiveTypeId.DATE, PrimitiveType.Date),
+            Map.entry(PrimitiveTypeId.DATETIME, PrimitiveType.Datetime),
+            Map.entry(PrimitiveTypeId.TIMESTAMP, PrimitiveType.Timestamp),
+            Map.entry(PrimitiveTypeId.INTERVAL, PrimitiveType.Interval),
+            Map.entry(PrimitiveTypeId.STRING, PrimitiveType.Bytes),
+            Map.entry(PrimitiveTypeId.UTF8, PrimitiveType.Text),
+            Map.entry(PrimitiveTypeId.JSON, PrimitiveType.Json),
+            Map.entry(PrimitiveTypeId.JSON_DOCUMENT, PrimitiveType.JsonDocument),
+            Map.entry(PrimitiveTypeId.UUID, PrimitiveType.Uuid)
+    ));
+    private static final Map<PrimitiveTypeId, OptionalType> SDK_OPTIONAL_TYPES = new EnumMap<>(
+            SDK_TYPES.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().makeOptional()))
+    );
+
+    // Setters convert Java values to raw column values, see writeRawValue() and toSdk()
+    private static final Setter BOOL_SETTER = v -> (Boolean) v;
+    private static final Setter BYTE_SETTER = v -> (int) ((Number) v).byteValue();
+    private static final Setter BYTE_UINT_SETTER = v -> (int) ((Number) v).byteValue();
+    private static final Setter SHORT_SETTER = v -> (int) ((Number) v).shortValue();
+    private static final Setter INT_SETTER = v -> ((Number) v).intValue();
+    private static final Setter UINT_SETTER = v -> ((Number) v).intValue();
+    private static final Setter LONG_SETTER = v -> ((Number) v).longValue();
+    private static final Setter ULONG_SETTER = v -> ((Number) v).longValue();
+    private static final Setter FLOAT_SETTER = v -> ((Number) v).floatValue();
+    private static final Setter DOUBLE_SETTER = v -> ((Number) v).doubleValue();
+    private static final Setter STRING_SETTER = v -> ((String) v).getBytes(StandardCharsets.UTF_8);
+    private static final Setter TEXT_SETTER = v -> (String) v;
+    private static final Setter BYTES_SETTER = v -> (byte[]) v;
+    private static final Setter BYTE_ARRAY_SETTER = v -> ((ByteArray) v).getArray();
+
+    private static final Setter INSTANT_SETTER = v -> ((Instant) v).toEpochMilli();
+    private static final Setter INSTANT_UINT_SETTER = v -> ((Instant) v).toEpochMilli();
+    private static final Setter INSTANT_SECOND_SETTER = v -> ((Instant) v).getEpochSecond();
+    private static final Setter INSTANT_UINT_SECOND_SETTER = v -> ((Instant) v).getEpochSecond();
+    private static final Setter TIMESTAMP_SETTER = v -> (Instant) v;
+    private static final Setter TIMESTAMP_SECONDS_SETTER = v -> ((Instant) v).truncatedTo(ChronoUnit.SECONDS);
+    private static final Setter TIMESTAMP_MILLI_SETTER = v -> ((Instant) v).truncatedTo(ChronoUnit.MILLIS);
+
+    private static final Setter DURATION_SETTER = v -> (Duration) v;
+    private static final Setter DURATION_INT_SETTER = v -> toMicros((Duration) v);
+    private static final Setter DURATION_UINT_SETTER = v -> toMicros((Duration) v);
+    private static final Setter DURATION_MILLI_SETTER = v -> ((Duration) v).toMillis();
+    private static final Setter DURATION_MILLI_UINT_SETTER = v -> ((Duration) v).toMillis();
+    private static final Setter DURATION_SECOND_SETTER = v -> Math.toIntExact(((Duration) v).toSeconds());
+    private static final Setter DURATION_SECOND_UINT_SETTER = v -> Math.toIntExact(((Duration) v).toSeconds());
+    private static final Setter DURATION_UTF8_SETTER = v -> ((Duration) v).truncatedTo(ChronoUnit.MICROS).toString();
+    private static final Setter UUID_STRING_SETTER = v -> STRING_SETTER.apply(serializeUuidValue(v));
+    private static final Setter UUID_UTF8_SETTER = v -> TEXT_SETTER.apply(serializeUuidValue(v));
+    private static final Setter UUID_NATIVE_SETTER = v -> uuidValue(v);
+
+    private static final Function<Type, Setter> ENUM_NAME_STRING_SETTERS = type -> v -> STRING_SETTER.apply(serializeEnumValue(type, v));
+    private static final Function<Type, Setter> ENUM_NAME_UTF8_SETTERS = type -> v -> TEXT_SETTER.apply(serializeEnumValue(type, v));
+    private static final Function<Type, Setter> ENUM_TO_STRING_STRING_SETTERS = type -> v -> STRING_SETTER.apply(serializeEnumToStringValue(type, v));
+    private static final Function<Type, Setter> ENUM_TO_STRING_UTF8_SETTERS = type -> v -> TEXT_SETTER.apply(serializeEnumToStringValue(type, v));
+    private static final Function<Type, Setter> JSON_STRING_SETTERS = type -> v -> STRING_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, Setter> JSON_UTF8_SETTERS = type -> v -> TEXT_SETTER.apply(serializeOpaqueObjectValue(type, v));
+    private static final Function<Type, Setter> STRING_VALUE_STRING_SETTERS = type -> v -> STRING_SETTER.apply(v.toString());
+    private static final Function<Type, Setter> STRING_VALUE_UTF8_SETTERS = type -> v -> TEXT_SETTER.apply(v.toString());
+
+    // Getters convert raw column values, see readRawValue()
+    private static final Getter BOOL_GETTER = v -> (Boolean) v;
+    private static final Getter BYTE_GETTER = v -> ((Integer) v).byteValue();
+    private static final Getter BYTE_UINT_GETTER = v -> ((Integer) v).byteValue();
+    private static final Getter SHORT_GETTER = v -> ((Integer) v).shortValue();
+    private static final Getter INT_GETTER = v -> (Integer) v;
+    private static final Getter UINT_GETTER = v -> (Integer) v;
+    private static final Getter LONG_GETTER = v -> (Long) v;
+    private static final Getter ULONG_GETTER = v -> (Long) v;
+    private static final Getter U32LONG_GETTER = v -> Integer.toUnsignedLong((Integer) v);
+    private static final Getter FLOAT_GETTER = v -> (Float) v;
+    private static final Getter DOUBLE_GETTER = v -> (Double) v;
+    private static final Getter STRING_GETTER = v -> new String((byte[]) v, StandardCharsets.UTF_8);
+    private static final Getter TEXT_GETTER = v -> (String) v;
+    private static final Getter BYTES_GETTER = v -> (byte[]) v;
+    private static final Getter BYTE_ARRAY_GETTER = v -> ByteArray.wrap((byte[]) v);
+
+    private static final Getter INSTANT_GETTER = v -> Instant.ofEpochMilli((Long) v);
+    private static final Getter INSTANT_UINT_GETTER = v -> Instant.ofEpochMilli((Long) v);
+    private static final Getter INSTANT_SECOND_GETTER = v -> Instant.ofEpochSecond((Long) v);
+    private static final Getter INSTANT_UINT_SECOND_GETTER = v -> Instant.ofEpochSecond((Long) v);
+    private static final Getter TIMESTAMP_GETTER = v -> (Instant) v;
+    private static final Getter TIMESTAMP_SECONDS_GETTER = v -> ((Instant) v).truncatedTo(ChronoUnit.SECONDS);
+    private static final Getter TIMESTAMP_MILLI_GETTER = v -> ((Instant) v).truncatedTo(ChronoUnit.MILLIS);
+    private static final Getter DURATION_GETTER = v -> (Duration) v;
+    private static final Getter DURATION_INT_GETTER = v -> Duration.of((Long) v, ChronoUnit.MICROS);
+    private static final Getter DURATION_UINT_GETTER = v -> Duration.of((Long) v, ChronoUnit.MICROS);
+    private static final Getter DURATION_MILLI_GETTER = v -> Duration.ofMillis((Long) v);
+    private static final Getter DURATION_MILLI_UINT_GETTER = v -> Duration.ofMillis((Long) v);
+    private static final Getter DURATION_SECOND_GETTER = v -> Duration.ofSeconds((Integer) v);
+    private static final Getter DURATION_SECOND_UINT_GETTER = v -> Duration.ofSeconds((Integer) v);
+    private static final Getter DURATION_UTF8_GETTER = v -> Duration.parse((String) v);
     private static final Getter UUID_STRING_GETTER = uuidValueGetter(STRING_GETTER)::apply;
     private static final Getter UUID_UTF8_GETTER = uuidValueGetter(TEXT_GETTER)::apply;
-    private static final Getter UUID_NATIVE_GETTER = ProtoValue::toUuid;
+    private static final Getter UUID_NATIVE_GETTER = v -> (UUID) v;
 
-    private static final Getter CONTAINER_VALUE_GETTER = new YqlPrimitiveType.YdbContainerValueGetter();
+    private static final YdbContainerValueGetter CONTAINER_VALUE_GETTER = new YdbContainerValueGetter();
 
     private static final Function<Type, Getter> ENUM_NAME_STRING_GETTERS = type -> enumValueGetter(type, STRING_GETTER)::apply;
     private static final Function<Type, Getter> ENUM_NAME_UTF8_GETTERS = type -> enumValueGetter(type, TEXT_GETTER)::apply;
@@ -205,7 +239,7 @@ public class YqlPrimitiveType implements YqlType {
         registerYqlType(Instant.class, PrimitiveTypeId.TIMESTAMP, DbTypeQualifier.MILLISECONDS, false, TIMESTAMP_MILLI_SETTER, TIMESTAMP_MILLI_GETTER);
 
         registerYqlType(Duration.class, PrimitiveTypeId.INTERVAL, null, true, DURATION_SETTER, DURATION_GETTER);
-        registerYqlType(Duration.class, PrimitiveTypeId.INT64, null, false, DURATION_SETTER, DURATION_GETTER);
+        registerYqlType(Duration.class, PrimitiveTypeId.INT64, null, false, DURATION_INT_SETTER, DURATION_INT_GETTER);
         registerYqlType(Duration.class, PrimitiveTypeId.UINT64, null, false, DURATION_UINT_SETTER, DURATION_UINT_GETTER);
         registerYqlType(Duration.class, PrimitiveTypeId.INT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_SETTER, DURATION_MILLI_GETTER);
         registerYqlType(Duration.class, PrimitiveTypeId.UINT64, DbTypeQualifier.MILLISECONDS, false, DURATION_MILLI_UINT_SETTER, DURATION_MILLI_UINT_GETTER);
@@ -240,9 +274,20 @@ public class YqlPrimitiveType implements YqlType {
 
     PrimitiveTypeId yqlType;
 
-    BiConsumer<ValueProtos.Value.Builder, Object> setter;
+    /**
+     * Converts Java value to raw value of a YDB column of {@link #getYqlType() this type}, of the same Java type as
+     * the {@link #getGetter() getter} accepts.
+     */
+    Function<Object, Object> setter;
 
-    Function<ValueProtos.Value, Object> getter;
+    /**
+     * Converts raw value of a YDB column of {@link #getYqlType() this type} to Java value: {@code Boolean} for {@code Bool},
+     * {@code Integer} for {@code Int32}, {@code Uint8} and {@code Uint32}, {@code Long} for {@code Int64} and {@code Uint64},
+     * {@code Float}, {@code Double}, {@code byte[]} for {@code String}, {@code String} for {@code Utf8}, {@code Json}
+     * and {@code JsonDocument}, {@code Instant} for {@code Timestamp}, {@code Duration} for {@code Interval} and
+     * {@code UUID} for {@code Uuid}.
+     */
+    Function<Object, Object> getter;
 
     private static void checkSupportedYqlType(PrimitiveTypeId primitiveTypeId) {
         if (YQL_TYPE_NAMES.containsKey(primitiveTypeId)) {
@@ -508,7 +553,7 @@ public class YqlPrimitiveType implements YqlType {
         return new YqlPrimitiveType(
                 javaType,
                 underlyingType.yqlType,
-                (b, o) -> underlyingType.setter.accept(b, CustomValueTypes.preconvert(column, o)),
+                o -> underlyingType.setter.apply(CustomValueTypes.preconvert(column, o)),
                 v -> CustomValueTypes.postconvert(column, underlyingType.getter.apply(v))
         );
     }
@@ -608,7 +653,7 @@ public class YqlPrimitiveType implements YqlType {
     public ValueProtos.Value.Builder toYql(Object value) {
         ValueProtos.Value.Builder builder = ValueProtos.Value.newBuilder();
         try {
-            setter.accept(builder, value);
+            writeRawValue(yqlType, setter.apply(value), builder);
         } catch (Exception e) {
             throw new ConversionException(format(
                     "Could not convert Java value of type \"%s\" to YDB value of type \"%s\": %s",
@@ -617,6 +662,27 @@ public class YqlPrimitiveType implements YqlType {
         return builder;
     }
 
+    @Override
+    public PrimitiveValue toSdk(Object value) {
+        try {
+            return toSdkValue(yqlType, setter.apply(value));
+        } catch (Exception e) {
+            throw new ConversionException(format(
+                    "Could not convert Java value of type \"%s\" to YDB value of type \"%s\": %s",
+                    javaType.getTypeName(), getYqlTypeName(), value), e);
+        }
+    }
+
+    @Override
+    public PrimitiveType getSdkType() {
+        return SDK_TYPES.get(yqlType);
+    }
+
+    @Override
+    public OptionalType getSdkOptionalType() {
+        return SDK_OPTIONAL_TYPES.get(yqlType);
+    }
+
     private static Descriptors.FieldDescriptor getValueDescriptor(String name) {
         return ValueProtos.Value.getDescriptor().findFieldByName(name);
     }
@@ -640,7 +706,7 @@ public class YqlPrimitiveType implements YqlType {
                 if (hasContainer) {
                     throw new IllegalArgumentException("both primitive and container types are found in the same message");
                 } else {
-                    return getter.apply(value);
+                    return getter.apply(readRawValue(yqlType, value));
                 }
             }
         } catch (Exception e) {
@@ -650,10 +716,127 @@ public class YqlPrimitiveType implements YqlType {
         }
     }
 
-    private interface Setter extends BiConsumer<ValueProtos.Value.Builder, Object> {
+    @Override
+    public Function<ValueReader, Object> columnReader(ValueProtos.Type columnType) {
+        boolean optional = columnType.hasOptionalType();
+        ValueProtos.Type itemType = optional ? columnType.getOptionalType().getItem() : columnType;
+        if (itemType.getTypeCase() != ValueProtos.Type.TypeCase.TYPE_ID || itemType.getTypeId() != yqlType) {
+            // Containers and values of unexpected types are read by fromYql(), which handles them leniently
+            return YqlType.super.columnReader(columnType);
+        }
+        return column -> {
+            ValueReader item = column;
+            if (optional) {
+                if (!column.isOptionalItemPresent()) {
+                    return null;
+                }
+                item = column.getOptionalItem();
+            }
+            try {
+                return getter.apply(readRawValue(yqlType, item));
+            } catch (Exception e) {
+                throw new ConversionException(format(
+                        "Could not convert YDB value of type \"%s\" to Java value of type \"%s\": %s",
+                        getYqlTypeName(), javaType.getTypeName(), item), e);
+            }
+        };
+    }
+
+    private static void writeRawValue(PrimitiveTypeId type, Object value, ValueProtos.Value.Builder builder) {
+        switch (type) {
+            case BOOL -> builder.setBoolValue((Boolean) value);
+            case INT32 -> builder.setInt32Value((Integer) value);
+            case UINT8, UINT32, DATE, DATETIME -> builder.setUint32Value((Integer) value);
+            case INT64 -> builder.setInt64Value((Long) value);
+            case UINT64 -> builder.setUint64Value((Long) value);
+            case FLOAT -> builder.setFloatValue((Float) value);
+            case DOUBLE -> builder.setDoubleValue((Double) value);
+            case STRING -> builder.setBytesValue(UnsafeByteOperations.unsafeWrap((byte[]) value));
+            case UTF8, JSON, JSON_DOCUMENT -> builder.setTextValue((String) value);
+            case TIMESTAMP -> builder.setUint64Value(toMicros((Instant) value));
+            case INTERVAL -> builder.setInt64Value(toMicros((Duration) value));
+            case UUID -> builder.mergeFrom(ProtoValue.fromUuid((UUID) value));
+            default -> throw new IllegalArgumentException("Unsupported YDB primitive type: " + type);
+        }
+    }
+
+    // Same values as ProtoValue.fromPb() would return for the protobuf values built by writeRawValue()
+    private static PrimitiveValue toSdkValue(PrimitiveTypeId type, Object value) {
+        return switch (type) {
+            case BOOL -> PrimitiveValue.newBool((Boolean) value);
+            case INT32 -> PrimitiveValue.newInt32((Integer) value);
+            case UINT8 -> PrimitiveValue.newUint8((Integer) value);
+            case UINT32 -> PrimitiveValue.newUint32((Integer) value);
+            case DATE -> PrimitiveValue.newDate(Integer.toUnsignedLong((Integer) value));
+            case DATETIME -> PrimitiveValue.newDatetime(Integer.toUnsignedLong((Integer) value));
+            case INT64 -> PrimitiveValue.newInt64((Long) value);
+            case UINT64 -> PrimitiveValue.newUint64((Long) value);
+            case FLOAT -> PrimitiveValue.newFloat((Float) value);
+            case DOUBLE -> PrimitiveValue.newDouble((Double) value);
+            case STRING -> PrimitiveValue.newBytesOwn((byte[]) value);
+            case UTF8 -> PrimitiveValue.newText((String) value);
+            case JSON -> PrimitiveValue.newJson((String) value);
+            case JSON_DOCUMENT -> PrimitiveValue.newJsonDocument((String) value);
+            case TIMESTAMP -> PrimitiveValue.newTimestamp(toMicros((Instant) value));
+            case INTERVAL -> PrimitiveValue.newInterval(toMicros((Duration) value));
+            case UUID -> PrimitiveValue.newUuid((UUID) value);
+            default -> throw new IllegalArgumentException("Unsupported YDB primitive type: " + type);
+        };
+    }
+
+    private static long toMicros(Instant instant) {
+        return TimeUnit.SECONDS.toMicros(instant.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+    }
+
+    private static long toMicros(Duration duration) {
+        return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
     }
 
-    private interface Getter extends Function<ValueProtos.Value, Object> {
+    private static Object readRawValue(PrimitiveTypeId type, ValueProtos.Value value) {
+        return switch (type) {
+            case BOOL -> value.getBoolValue();
+            case INT32 -> value.getInt32Value();
+            case UINT8, UINT32, DATE, DATETIME -> value.getUint32Value();
+            case INT64 -> value.getInt64Value();
+            case UINT64 -> value.getUint64Value();
+            case FLOAT -> value.getFloatValue();
+            case DOUBLE -> value.getDoubleValue();
+            case STRING -> value.getBytesValue().toByteArray();
+            case UTF8, JSON, JSON_DOCUMENT -> value.getTextValue();
+            case TIMESTAMP -> ProtoValue.toTimestamp(value);
+            case INTERVAL -> ProtoValue.toInterval(value);
+            case UUID -> ProtoValue.toUuid(value);
+            default -> throw new IllegalArgumentException("Unsupported YDB primitive type: " + type);
+        };
+    }
+
+    private static Object readRawValue(PrimitiveTypeId type, ValueReader column) {
+        return switch (type) {
+            case BOOL -> column.getBool();
+            case INT32 -> column.getInt32();
+            case UINT8 -> column.getUint8();
+            case UINT32 -> (int) column.getUint32();
+            case DATE -> (int) column.getDate().toEpochDay();
+            case DATETIME -> (int) column.getDatetime().toEpochSecond(ZoneOffset.UTC);
+            case INT64 -> column.getInt64();
+            case UINT64 -> column.getUint64();
+            case FLOAT -> column.getFloat();
+            case DOUBLE -> column.getDouble();
+            case STRING -> column.getBytes();
+            case UTF8 -> column.getText();
+            case JSON -> column.getJson();
+            case JSON_DOCUMENT -> column.getJsonDocument();
+            case TIMESTAMP -> column.getTimestamp();
+            case INTERVAL -> column.getInterval();
+            case UUID -> column.getUuid();
+            default -> throw new IllegalArgumentException("Unsupported YDB primitive type: " + type);
+        };
+    }
+
+    private interface Setter extends Function<Object, Object> {
+    }
+
+    private interface Getter extends Function<Object, Object> {
     }
 
     @Value
@@ -685,21 +868,7 @@ public class YqlPrimitiveType implements YqlType {
         private final Function<Type, Getter> getters;
     }
 
-    private static class YdbContainerValueGetter implements Getter {
-
-        private static final Map<ValueCase, Getter> VALUE_CASE_GETTERS = Map.ofEntries(
-                Map.entry(ValueCase.NULL_FLAG_VALUE, x -> null),
-                Map.entry(ValueCase.BOOL_VALUE, BOOL_GETTER),
-                Map.entry(ValueCase.INT32_VALUE, INT_GETTER),
-                Map.entry(ValueCase.UINT32_VALUE, UINT_GETTER),
-                Map.entry(ValueCase.INT64_VALUE, LONG_GETTER),
-                Map.entry(ValueCase.UINT64_VALUE, ULONG_GETTER),
-                Map.entry(ValueCase.TEXT_VALUE, TEXT_GETTER),
-                Map.entry(ValueCase.BYTES_VALUE, STRING_GETTER),
-                Map.entry(ValueCase.FLOAT_VALUE, FLOAT_GETTER),
-                Map.entry(ValueCase.DOUBLE_VALUE, DOUBLE_GETTER)
-        );
-
+    private static class YdbContainerValueGetter implements Function<ValueProtos.Value, Object> {
         @Override
         public Object apply(ValueProtos.Value value) {
             if (value.getRepeatedFieldCount(ITEMS_FIELD) > 0) {
@@ -710,12 +879,19 @@ public class YqlPrimitiveType implements YqlType {
                         pair -> apply(pair.getPayload())
                 ));
             } else {
-                Getter getter = VALUE_CASE_GETTERS.get(value.getValueCase());
-                if (getter == null) {
-                    throw new IllegalArgumentException("value type is unsupported for " + value.getValueCase());
-                } else {
-                    return getter.apply(value);
-                }
+                return switch (value.getValueCase()) {
+                    case NULL_FLAG_VALUE -> null;
+                    case BOOL_VALUE -> value.getBoolValue();
+                    case INT32_VALUE -> value.getInt32Value();
+                    case UINT32_VALUE -> value.getUint32Value();
+                    case INT64_VALUE -> value.getInt64Value();
+                    case UINT64_VALUE -> value.getUint64Value();
+                    case TEXT_VALUE -> value.getTextValue();
+                    case BYTES_VALUE -> value.getBytesValue().toStringUtf8();
+                    case FLOAT_VALUE -> value.getFloatValue();
+                    case DOUBLE_VALUE -> value.getDoubleValue();
+                    default -> throw new IllegalArgumentException("value type is unsupported for " + value.getValueCase());
+                };
             }
         }
     }
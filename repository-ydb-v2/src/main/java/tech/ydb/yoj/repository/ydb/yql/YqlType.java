@@ -2,10 +2,17 @@ package tech.ydb.yoj.repository.ydb.yql;
 
 import lombok.NonNull;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.Value;
+import tech.ydb.table.values.proto.ProtoType;
+import tech.ydb.table.values.proto.ProtoValue;
 import tech.ydb.yoj.databind.schema.Column;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import java.lang.reflect.Type;
+import java.util.function.Function;
 
 public interface YqlType {
     ValueProtos.Type.Builder getYqlTypeBuilder();
@@ -39,4 +46,41 @@ public interface YqlType {
     ValueProtos.Value.Builder toYql(Object value);
 
     Object fromYql(ValueProtos.Value value);
+
+    /**
+     * @return YDB SDK type corresponding to this YQL type
+     */
+    default tech.ydb.table.values.Type getSdkType() {
+        return ProtoType.fromPb(getYqlTypeBuilder().build());
+    }
+
+    /**
+     * @return YDB SDK type corresponding to the optional version of this YQL type ({@code T?})
+     */
+    default OptionalType getSdkOptionalType() {
+        return getSdkType().makeOptional();
+    }
+
+    /**
+     * Converts a non-{@code null} Java value directly to a YDB SDK value of {@link #getSdkType() this type}.
+     *
+     * @param value Java value
+     * @return YDB SDK value
+     */
+    default Value<?> toSdk(Object value) {
+        return ProtoValue.fromPb(getSdkType(), toYql(value).build());
+    }
+
+    /**
+     * Returns a function that reads values of a YDB SDK result set column of the specified type as Java values of this type.
+     * <p>The default implementation converts each value to a YDB protobuf structure and calls
+     * {@link #fromYql(ValueProtos.Value) fromYql()}. Implementations should read primitive values directly from
+     * the {@link ValueReader}, without allocating an intermediate protobuf structure for each value.
+     *
+     * @param columnType result set column type
+     * @return function that reads a column value
+     */
+    default Function<ValueReader, Object> columnReader(ValueProtos.Type columnType) {
+        return column -> fromYql(YdbConverter.convertValueToProto(column).build());
+    }
 }
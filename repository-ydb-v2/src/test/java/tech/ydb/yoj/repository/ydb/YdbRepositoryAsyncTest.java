@@ -0,0 +1,205 @@
+package tech.ydb.yoj.repository.ydb;
+
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.yoj.repository.db.bulk.BulkParams;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+import tech.ydb.yoj.repository.ydb.client.SessionManager;
+import tech.ydb.yoj.repository.ydb.client.YdbSchemaOperations;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class YdbRepositoryAsyncTest {
+    private static final String SDK_THREAD_NAME = "sdk-thread";
+    private static final String TX_ID = "tx-1";
+
+    private static final Project P1 = new Project(new Project.Id("p1"), "Project 1");
+    private static final Project P2 = new Project(new Project.Id("p2"), "Project 2");
+
+    @Mock
+    private Session session;
+    @Mock
+    private SessionManager sessionManager;
+    @Mock
+    private YdbSchemaOperations schemaOperations;
+    @Mock
+    private TestYdbRepository testYdbRepository;
+
+    private AutoCloseable mockitoCloseable;
+    private ScheduledExecutorService sdkThread;
+
+    // Batches returned by the queries of a batched find stream, and the number of queries currently running
+    private final Deque<List<Project>> streamBatches = new ArrayDeque<>();
+    private final AtomicInteger runningQueries = new AtomicInteger();
+    private final AtomicBoolean queriesOverlapped = new AtomicBoolean();
+
+    @Before
+    public void setUp() {
+        mockitoCloseable = MockitoAnnotations.openMocks(this);
+        sdkThread = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, SDK_THREAD_NAME));
+
+        when(testYdbRepository.getSessionManager()).thenReturn(sessionManager);
+        when(testYdbRepository.getSchemaOperations()).thenReturn(schemaOperations);
+        when(sessionManager.getSessionAsync()).thenReturn(CompletableFuture.completedFuture(session));
+    }
+
+    @After
+    @SneakyThrows
+    public void tearDown() {
+        sdkThread.shutdownNow();
+        if (mockitoCloseable != null) {
+            mockitoCloseable.close();
+        }
+    }
+
+    @Test
+    public void callbacksDoNotRunOnSdkThreads() throws Exception {
+        var sdkResult = new CompletableFuture<Result<DataQueryResult>>();
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(sdkResult);
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        var callbackThread = tx.projects().findAsync(new Project.Id("p"))
+                .thenApply(__ -> Thread.currentThread().getName());
+
+        sdkThread.execute(() -> sdkResult.complete(emptyResult()));
+
+        assertThat(callbackThread.get(10, SECONDS)).isNotEqualTo(SDK_THREAD_NAME);
+    }
+
+    @Test
+    public void queriesWhileIteratingDoNotOverlapWithPrefetch() {
+        mockSlowQueries();
+        streamBatches.addAll(List.of(List.of(P1), List.of(P2), List.of()));
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        var found = new ArrayList<Project>();
+        try (var stream = tx.projects().streamAll(1, 2)) {
+            stream.forEach(p -> {
+                found.add(p);
+                tx.projects().find(new Project.Id("other-" + p.getId().getValue()));
+            });
+        }
+        tx.commit();
+
+        assertThat(found).containsExactly(P1, P2);
+        assertThat(queriesOverlapped).isFalse();
+    }
+
+    @Test
+    public void commitWaitsForPrefetch() {
+        mockSlowQueries();
+        streamBatches.addAll(List.of(List.of(P1), List.of(P2), List.of()));
+        var queriesRunningAtCommit = new AtomicInteger(-1);
+        when(session.commitTransaction(any(), any())).thenAnswer(__ -> {
+            queriesRunningAtCommit.set(runningQueries.get());
+            return CompletableFuture.completedFuture(Status.SUCCESS);
+        });
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        var stream = tx.projects().streamAll(1, 2);
+        // The next batches are read ahead, and the commit must not be sent while they are being read
+        assertThat(stream.iterator().next()).isEqualTo(P1);
+        tx.commit();
+
+        assertThat(queriesRunningAtCommit).hasValue(0);
+        assertThat(queriesOverlapped).isFalse();
+    }
+
+    @Test
+    public void failedBulkUpsertStreamWaitsForSentRequests() {
+        when(sessionManager.getSession()).thenReturn(session);
+        var requests = new ArrayList<CompletableFuture<Status>>();
+        when(session.executeBulkUpsert(any(), any(), any())).thenAnswer(__ -> {
+            var request = new CompletableFuture<Status>();
+            sdkThread.schedule(() -> request.complete(Status.SUCCESS), 50, MILLISECONDS);
+            requests.add(request);
+            return request;
+        });
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        Stream<Project> failingStream = Stream.concat(Stream.of(P1, P2), Stream.generate(() -> {
+            throw new IllegalStateException("could not read the next project");
+        }));
+        var params = BulkParams.builder().maxBatchRows(1).build();
+        assertThatThrownBy(() -> tx.projects().bulkUpsert(failingStream, params));
+
+        assertThat(requests).hasSize(2).allMatch(CompletableFuture::isDone);
+    }
+
+    // Each query completes 50 ms after it is sent. Queries of the batched find stream (ordered by ID) return
+    // the next of streamBatches, and all other queries return nothing
+    private void mockSlowQueries() {
+        when(sessionManager.getSession()).thenReturn(session);
+        when(session.executeDataQuery(any(), any(), any(), any())).thenAnswer(invocation -> {
+            if (runningQueries.incrementAndGet() > 1) {
+                queriesOverlapped.set(true);
+            }
+            String yql = invocation.getArgument(0);
+            List<Project> rows = yql.contains("ORDER BY") ? streamBatches.poll() : List.of();
+
+            var sdkResult = new CompletableFuture<Result<DataQueryResult>>();
+            sdkThread.schedule(() -> {
+                runningQueries.decrementAndGet();
+                sdkResult.complete(projectsResult(rows));
+            }, 50, MILLISECONDS);
+            return sdkResult;
+        });
+    }
+
+    private static Result<DataQueryResult> projectsResult(List<Project> projects) {
+        var resultSet = ValueProtos.ResultSet.newBuilder()
+                .addColumns(utf8Column("id"))
+                .addColumns(utf8Column("name"));
+        for (Project project : projects) {
+            resultSet.addRows(ValueProtos.Value.newBuilder()
+                    .addItems(ValueProtos.Value.newBuilder().setTextValue(project.getId().getValue()))
+                    .addItems(ValueProtos.Value.newBuilder().setTextValue(project.getName())));
+        }
+        var result = YdbTable.ExecuteQueryResult.newBuilder()
+                .addResultSets(resultSet)
+                .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(TX_ID))
+                .build();
+        return Result.success(new DataQueryResult(result));
+    }
+
+    private static ValueProtos.Column utf8Column(String name) {
+        var utf8 = ValueProtos.Type.newBuilder().setTypeId(ValueProtos.Type.PrimitiveTypeId.UTF8);
+        return ValueProtos.Column.newBuilder()
+                .setName(name)
+                .setType(ValueProtos.Type.newBuilder().setOptionalType(ValueProtos.OptionalType.newBuilder().setItem(utf8)))
+                .build();
+    }
+
+    private static Result<DataQueryResult> emptyResult() {
+        var result = YdbTable.ExecuteQueryResult.newBuilder()
+                .addResultSets(ValueProtos.ResultSet.getDefaultInstance())
+                .build();
+        return Result.success(new DataQueryResult(result));
+    }
+}
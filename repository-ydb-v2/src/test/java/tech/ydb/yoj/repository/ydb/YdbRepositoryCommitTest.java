@@ -0,0 +1,135 @@
+package tech.ydb.yoj.repository.ydb;
+
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
+import tech.ydb.yoj.repository.db.exception.UnavailableException;
+import tech.ydb.yoj.repository.test.sample.model.Complex;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+import tech.ydb.yoj.repository.ydb.client.SessionManager;
+import tech.ydb.yoj.repository.ydb.client.YdbSchemaOperations;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class YdbRepositoryCommitTest {
+    private static final String TX_ID = "tx-1";
+
+    @Mock
+    private Session session;
+    @Mock
+    private SessionManager sessionManager;
+    @Mock
+    private YdbSchemaOperations schemaOperations;
+    @Mock
+    private TestYdbRepository testYdbRepository;
+
+    private AutoCloseable mockitoCloseable;
+
+    @Before
+    public void setUp() {
+        mockitoCloseable = MockitoAnnotations.openMocks(this);
+
+        when(testYdbRepository.getSessionManager()).thenReturn(sessionManager);
+        when(testYdbRepository.getSchemaOperations()).thenReturn(schemaOperations);
+        when(sessionManager.getSession()).thenReturn(session);
+        when(session.commitTransaction(any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        when(session.rollbackTransaction(any(), any())).thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+    }
+
+    @After
+    @SneakyThrows
+    public void tearDown() {
+        if (mockitoCloseable != null) {
+            mockitoCloseable.close();
+        }
+    }
+
+    @Test
+    public void commitWithLastWrite() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(success());
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        tx.complexes().save(new Complex(new Complex.Id(1, 2L, "c", Complex.Status.OK)));
+        tx.projects().save(new Project(new Project.Id("p"), "name"));
+        tx.commit();
+
+        var txControls = ArgumentCaptor.forClass(TxControl.class);
+        verify(session, times(2)).executeDataQuery(any(), txControls.capture(), any(), any());
+        assertThat(txControls.getAllValues()).extracting(TxControl::isCommitTx).containsExactly(false, true);
+        verify(session, never()).commitTransaction(any(), any());
+    }
+
+    @Test
+    public void commitSeparatelyWithoutWrites() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(success());
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        tx.projects().find(new Project.Id("p"));
+        tx.commit();
+
+        var txControls = ArgumentCaptor.forClass(TxControl.class);
+        verify(session).executeDataQuery(any(), txControls.capture(), any(), any());
+        assertThat(txControls.getValue().isCommitTx()).isFalse();
+        verify(session).commitTransaction(any(), any());
+    }
+
+    @Test
+    public void lastWriteWithCommitUnavailable() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(failure(StatusCode.UNAVAILABLE));
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        tx.projects().save(new Project(new Project.Id("p"), "name"));
+        assertThatExceptionOfType(UnavailableException.class).isThrownBy(tx::commit);
+
+        verify(session, times(1)).executeDataQuery(any(), any(), any(), any());
+        verify(session, never()).commitTransaction(any(), any());
+    }
+
+    @Test
+    public void writeBeforeLastFails() {
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(failure(StatusCode.ABORTED));
+
+        var tx = new TestYdbRepository.TestYdbRepositoryTransaction(testYdbRepository);
+        tx.complexes().save(new Complex(new Complex.Id(1, 2L, "c", Complex.Status.OK)));
+        tx.projects().save(new Project(new Project.Id("p"), "name"));
+        assertThatExceptionOfType(OptimisticLockException.class).isThrownBy(tx::commit);
+
+        var txControls = ArgumentCaptor.forClass(TxControl.class);
+        verify(session, times(1)).executeDataQuery(any(), txControls.capture(), any(), any());
+        assertThat(txControls.getValue().isCommitTx()).isFalse();
+        verify(session, never()).commitTransaction(any(), any());
+    }
+
+    private static CompletableFuture<Result<DataQueryResult>> success() {
+        var result = YdbTable.ExecuteQueryResult.newBuilder()
+                .addResultSets(ValueProtos.ResultSet.getDefaultInstance())
+                .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(TX_ID))
+                .build();
+        return CompletableFuture.completedFuture(Result.success(new DataQueryResult(result)));
+    }
+
+    private static CompletableFuture<Result<DataQueryResult>> failure(StatusCode code) {
+        return CompletableFuture.completedFuture(Result.fail(Status.of(code)));
+    }
+}
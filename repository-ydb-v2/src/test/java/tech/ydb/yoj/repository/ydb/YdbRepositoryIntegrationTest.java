@@ -54,6 +54,7 @@ import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.IndexOrder;
 import tech.ydb.yoj.repository.db.IsolationLevel;
 import tech.ydb.yoj.repository.db.QueryStatsMode;
+import tech.ydb.yoj.repository.db.Range;
 import tech.ydb.yoj.repository.db.RecordEntity;
 import tech.ydb.yoj.repository.db.Repository;
 import tech.ydb.yoj.repository.db.RepositoryTransaction;
@@ -73,6 +74,7 @@ import tech.ydb.yoj.repository.test.sample.TestDb;
 import tech.ydb.yoj.repository.test.sample.TestDbImpl;
 import tech.ydb.yoj.repository.test.sample.model.Bubble;
 import tech.ydb.yoj.repository.test.sample.model.ChangefeedEntity;
+import tech.ydb.yoj.repository.test.sample.model.Complex;
 import tech.ydb.yoj.repository.test.sample.model.EntityWithNullableField;
 import tech.ydb.yoj.repository.test.sample.model.IndexedEntity;
 import tech.ydb.yoj.repository.test.sample.model.MultiWrappedEntity;
@@ -104,6 +106,7 @@ import tech.ydb.yoj.repository.ydb.sample.model.HintTablePreset;
 import tech.ydb.yoj.repository.ydb.sample.model.HintUniform;
 import tech.ydb.yoj.repository.ydb.statement.FindStatement;
 import tech.ydb.yoj.repository.ydb.statement.YqlStatement;
+import tech.ydb.yoj.repository.ydb.table.ParallelTableScan;
 import tech.ydb.yoj.repository.ydb.table.YdbTable;
 import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
 import tech.ydb.yoj.repository.ydb.yql.YqlPrimitiveType;
@@ -113,6 +116,7 @@ import tech.ydb.yoj.repository.ydb.yql.YqlView;
 import java.lang.reflect.Field;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -123,10 +127,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -221,6 +227,84 @@ public class YdbRepositoryIntegrationTest extends RepositoryTest {
         );
     }
 
+    @Test
+    public void parallelTableScan() {
+        List<HintInt64Range> entities = savePartitionedEntities();
+
+        var tableDescriptor = TableDescriptor.from(EntitySchema.of(HintInt64Range.class));
+        assertThat(((YdbRepository) repository).getSchemaOperations().getPartitionUpperBounds(tableDescriptor.tableName())).hasSize(31);
+
+        List<HintInt64Range> scanned;
+        try (var stream = ParallelTableScan.streamAll((YdbRepository) repository, db, tableDescriptor, 3)) {
+            scanned = stream.parallel().toList();
+        }
+        assertThat(scanned).containsExactlyElementsOf(entities);
+    }
+
+    @Test
+    public void parallelReadTableOrdered() {
+        List<HintInt64Range> entities = savePartitionedEntities();
+
+        var params = ReadTableParams.<HintInt64Range.Id>builder().useNewSpliterator(true).ordered().parallelism(4).batchLimitRows(3).build();
+        List<HintInt64Range> read = db.readOnly().run(() -> db.table(HintInt64Range.class).readTable(params).toList());
+        assertThat(read).containsExactlyElementsOf(entities);
+    }
+
+    @Test
+    public void parallelReadTableUnordered() {
+        List<HintInt64Range> entities = savePartitionedEntities();
+
+        var params = ReadTableParams.<HintInt64Range.Id>builder().useNewSpliterator(true).parallelism(4).batchLimitRows(3).build();
+        List<HintInt64Range> read = db.readOnly().run(() -> db.table(HintInt64Range.class).readTable(params).toList());
+        assertThat(read).containsExactlyInAnyOrderElementsOf(entities);
+    }
+
+    @Test
+    public void dirtyColumnUpdates() {
+        Project project = new Project(new Project.Id("dirty"), "name");
+        Project other = new Project(new Project.Id("dirty-other"), "other");
+        db.tx(() -> db.projects().insert(project, other));
+
+        db.dirtyColumnUpdates().tx(() -> {
+            db.projects().find(project.getId());
+            db.projects().find(other.getId());
+            db.projects().save(project.withName("renamed"));
+            db.projects().save(other);
+        });
+
+        db.tx(() -> {
+            assertThat(db.projects().find(project.getId())).isEqualTo(project.withName("renamed"));
+            assertThat(db.projects().find(other.getId())).isEqualTo(other);
+        });
+    }
+
+    @Test
+    public void dirtyColumnUpdatesAfterDeleteRange() {
+        Project project = new Project(new Project.Id("dirty-range"), "name");
+        db.tx(() -> db.projects().insert(project));
+
+        db.dirtyColumnUpdates().tx(() -> {
+            db.projects().find(project.getId());
+            db.projects().deleteAll(Range.create(project.getId(), project.getId()));
+            db.projects().save(project.withName("renamed"));
+        });
+
+        db.tx(() -> assertThat(db.projects().find(project.getId())).isEqualTo(project.withName("renamed")));
+    }
+
+    private List<HintInt64Range> savePartitionedEntities() {
+        var schema = repository.schema(HintInt64Range.class);
+        if (!schema.exists()) {
+            schema.create();
+        }
+
+        List<HintInt64Range> entities = LongStream.range(-5, 45)
+                .mapToObj(i -> new HintInt64Range(new HintInt64Range.Id(i), "entity " + i))
+                .toList();
+        db.tx(() -> entities.forEach(db.table(HintInt64Range.class)::save));
+        return entities;
+    }
+
     @Test
     public void throwConversionExceptionOnSerializationProblem() {
         NonSerializableEntity nonSerializableEntity = new NonSerializableEntity(
@@ -302,8 +386,12 @@ public class YdbRepositoryIntegrationTest extends RepositoryTest {
             db.projects().save(new Project(new Project.Id("1"), "p1"));
             db.projects().save(new Project(new Project.Id("2"), "p2"));
         });
+        assertThatExceptionOfType(ResultTruncatedException.class)
+                .isThrownBy(() -> db.scan().withUseNewSpliterator(true).withMaxSize(1).run(() -> {
+                    db.projects().findAll();
+                }));
         assertThatExceptionOfType(YdbRepositoryException.class)
-                .isThrownBy(() -> db.scan().withMaxSize(1).run(() -> {
+                .isThrownBy(() -> db.scan().withUseNewSpliterator(false).withMaxSize(1).run(() -> {
                     db.projects().findAll();
                 }))
                 .satisfies(e -> assertThat(e).hasCauseInstanceOf(ResultTruncatedException.class));
@@ -399,6 +487,36 @@ public class YdbRepositoryIntegrationTest extends RepositoryTest {
         testRowLimitNotEnforced(db);
     }
 
+    @Test
+    public void truncatedContinuedTableService() {
+        YdbRepository ydbRepository = new TestYdbRepository(
+                getRealYdbConfig(),
+                YdbRepository.Settings.builder()
+                        .queryImplementation(new QueryImplementation.TableService())
+                        .build(),
+                ydbEnvAndTransport.getGrpcTransport()
+        );
+        TestDb db = new TestDbImpl<>(ydbRepository);
+
+        int rowLimit = YdbEnvAndTransportRule.TABLESERVICE_ROW_LIMIT;
+        int rowCount = 2 * rowLimit + 1;
+        db.tx(() -> IntStream.range(0, rowCount)
+                .forEach(i -> db.projects().save(new Project(new Project.Id("id_" + i), "name"))));
+
+        List<Project> found = db.continueTruncatedResults(rowCount + 1)
+                .tx(() -> db.projects().query().where("name").eq("name").find());
+        assertThat(found)
+                .hasSize(rowCount)
+                .extracting(Project::getId)
+                .doesNotHaveDuplicates();
+
+        assertThatExceptionOfType(ResultTruncatedException.class)
+                .isThrownBy(() -> db.continueTruncatedResults(rowLimit + 1)
+                        .tx(() -> db.projects().query().where("name").eq("name").find()));
+        assertThatExceptionOfType(ResultTruncatedException.class)
+                .isThrownBy(() -> db.tx(() -> db.projects().query().where("name").eq("name").find()));
+    }
+
     @SneakyThrows
     private void testRowLimitEnforced(TestDb db) {
         int rowLimit = YdbEnvAndTransportRule.TABLESERVICE_ROW_LIMIT;
@@ -920,6 +1038,84 @@ public class YdbRepositoryIntegrationTest extends RepositoryTest {
         assertThat(db.tx(() -> db.supabubbles2().findLessThan(sc.getId()))).containsOnly(sa, sb);
     }
 
+    @Test
+    public void findInChunks() {
+        int count = 2 * YdbTable.DEFAULT_FIND_IN_CHUNK_SIZE + 1;
+        List<Project> projects = IntStream.range(0, count)
+                .mapToObj(i -> new Project(new Project.Id("chunk_%05d".formatted(i)), "name_%05d".formatted(count - i)))
+                .toList();
+        db.tx(() -> projects.forEach(db.projects()::insert));
+
+        Set<Project.Id> ids = projects.stream().map(Project::getId).collect(Collectors.toSet());
+        assertThat(db.tx(() -> db.projects().find(ids))).containsExactlyElementsOf(projects);
+        assertThat(db.tx(() -> db.projects().findIds(ids))).containsExactlyElementsOf(projects.stream().map(Project::getId).toList());
+        assertThat(db.tx(() -> db.projects().query()
+                .ids(ids)
+                .orderBy(ob -> ob.orderBy("name").descending())
+                .limit(10)
+                .find()
+        )).containsExactlyElementsOf(projects.subList(0, 10));
+    }
+
+    @Test
+    public void findInChunksOverlappingPartialIds() {
+        Complex c = new Complex(new Complex.Id(0, 15L, "AAA", Complex.Status.OK));
+        db.tx(() -> db.complexes().insert(c));
+
+        // The first chunk consists of IDs with just the `a` field, and the second chunk has an ID with `a` and `b`
+        // fields that overlaps with the first chunk
+        Set<Complex.Id> ids = new LinkedHashSet<>();
+        IntStream.range(0, YdbTable.DEFAULT_FIND_IN_CHUNK_SIZE).forEach(a -> ids.add(new Complex.Id(a, null, null, null)));
+        ids.add(new Complex.Id(0, 15L, null, null));
+
+        assertThat(db.tx(() -> db.complexes().find(ids))).containsExactly(c);
+        assertThat(db.tx(() -> db.complexes().findIds(ids))).containsExactly(c.getId());
+    }
+
+    @Test
+    public void findInChunksOrderedByColumnsNotInView() {
+        Set<Complex.Id> ids = IntStream.range(0, YdbTable.DEFAULT_FIND_IN_CHUNK_SIZE + 1)
+                .mapToObj(a -> new Complex.Id(a, 15L, "AAA", Complex.Status.OK))
+                .collect(Collectors.toSet());
+        var orderBy = newOrderBuilder(Complex.class).orderBy("id.b").descending().build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> db.tx(() ->
+                db.complexes().find(Complex.View.class, ids, null, orderBy, null)
+        ));
+    }
+
+    @Test
+    public void queryBatch() {
+        Project p1 = new Project(new Project.Id("batch1"), "AAA");
+        Project p2 = new Project(new Project.Id("batch2"), "BBB");
+        UniqueProject up = new UniqueProject(new UniqueProject.Id("batch3"), "CCC", 1);
+        db.tx(() -> {
+            db.projects().insert(p1, p2);
+            db.table(UniqueProject.class).insert(up);
+        });
+
+        EntitySchema<Project> projectSchema = EntitySchema.of(Project.class);
+        List<YqlStatementPart<?>> projectParts = List.of(YqlPredicate.where("name").in("AAA", "BBB"));
+        var findProjects = FindStatement.from(
+                TableDescriptor.from(projectSchema), projectSchema, projectSchema, projectParts, false
+        );
+
+        EntitySchema<UniqueProject> uniqueProjectSchema = EntitySchema.of(UniqueProject.class);
+        List<YqlStatementPart<?>> uniqueProjectParts = List.of(YqlPredicate.where("name").eq("CCC"));
+        var findUniqueProjects = FindStatement.from(
+                TableDescriptor.from(uniqueProjectSchema), uniqueProjectSchema, uniqueProjectSchema, uniqueProjectParts, false
+        );
+
+        db.tx(() -> {
+            var results = ((YdbRepositoryTransaction<?>) Tx.Current.get().getRepositoryTransaction()).batch()
+                    .add(findProjects, projectParts)
+                    .add(findUniqueProjects, uniqueProjectParts)
+                    .execute();
+            assertThat(results.get(findProjects)).containsExactlyInAnyOrder(p1, p2);
+            assertThat(results.get(findUniqueProjects)).containsExactly(up);
+        });
+    }
+
     private void executeQuery(String expectSqlQuery, List<IndexedEntity> expectRows, List<YqlStatementPart<?>> parts) {
         EntitySchema<IndexedEntity> schema = EntitySchema.of(IndexedEntity.class);
         TableDescriptor<IndexedEntity> tableDescriptor = TableDescriptor.from(schema);
@@ -89,6 +89,46 @@ public class YdbSpliteratorTest {
         thread.join();
     }
 
+    @Test
+    public void readAllChunks() {
+        YdbSpliterator<Integer> spliterator = new YdbSpliterator<>("stream", true, Duration.ofMillis(500), 2);
+
+        var thread = new TestingThread(() -> {
+            spliterator.onNextChunk(List.of(1, 2, 3));
+            spliterator.onNextChunk(List.of());
+            spliterator.onNextChunk(List.of(4));
+            spliterator.onNextChunk(List.of(5, 6));
+            spliterator.onSupplierThreadComplete(Status.SUCCESS, null);
+        });
+        thread.start();
+
+        try (Stream<Integer> stream = spliterator.createStream()) {
+            assertThat(stream.toList()).containsExactly(1, 2, 3, 4, 5, 6);
+        }
+
+        thread.join();
+    }
+
+    @Test
+    @SneakyThrows
+    public void endStreamWhenSupplierOffersChunk() {
+        YdbSpliterator<Integer> spliterator = new YdbSpliterator<>("stream", false, Duration.ofMillis(500), 2);
+
+        spliterator.onNextChunk(List.of(1, 2));
+        spliterator.onNextChunk(List.of(3, 4));
+
+        // wait for block on the third chunk and close stream
+        var thread = new TestingThread(() -> doAfter(100, spliterator::close));
+        thread.start();
+
+        spliterator.onNextChunk(List.of(5, 6));
+        assertThatExceptionOfType(YdbSpliterator.ConsumerDoneException.class).isThrownBy(() ->
+                spliterator.onNextChunk(List.of(7))
+        );
+
+        thread.join();
+    }
+
     @Test
     public void getErrorOnTooSlowStreamProcessing() {
         ReadTableMock mock = ReadTableMock.start(Duration.ofMillis(100));
@@ -0,0 +1,152 @@
+package tech.ydb.yoj.repository.ydb.bulk;
+
+import lombok.Value;
+import org.junit.Test;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.proto.ProtoValue;
+import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkMapperImplTest {
+    private static final EntitySchema<Foo> SCHEMA = EntitySchema.of(Foo.class);
+    private static final BulkMapperImpl<Foo> MAPPER = new BulkMapperImpl<>(TableDescriptor.from(SCHEMA), SCHEMA);
+    // Encodes rows the old way: a TypedValue per cell, converted to SDK values by YdbConverter
+    private static final BulkMapper<Foo> TYPED_VALUE_MAPPER = new BulkMapper<>() {
+        @Override
+        public String getTableName(String tableSpace) {
+            return MAPPER.getTableName(tableSpace);
+        }
+
+        @Override
+        public Map<String, ValueProtos.TypedValue> map(Foo entity) {
+            return MAPPER.map(entity);
+        }
+    };
+    private static final int ROWS = 10_000;
+
+    @Test
+    public void mapToSdkSameAsTypedValues() {
+        assertSameAsTypedValues(new Foo(new Foo.Id("a", 1L), "text", 42, Instant.parse("2024-01-02T03:04:05.123456Z"), Foo.Status.ACTIVE));
+    }
+
+    @Test
+    public void mapToSdkNulls() {
+        assertSameAsTypedValues(new Foo(new Foo.Id("b", 2L), null, null, null, null));
+    }
+
+    @Test
+    public void encodedSizeSameAsTypedValues() {
+        List<Foo> foos = IntStream.range(0, 100).mapToObj(BulkMapperImplTest::newFoo).toList();
+
+        long directSize = ListValue.of(foos.stream().map(MAPPER::mapToSdk).toArray(StructValue[]::new))
+                .toPb().getSerializedSize();
+        long typedValueSize = ListValue.of(foos.stream().map(TYPED_VALUE_MAPPER::mapToSdk).toArray(StructValue[]::new))
+                .toPb().getSerializedSize();
+        long typedValueCellsSize = foos.stream()
+                .flatMap(foo -> TYPED_VALUE_MAPPER.map(foo).values().stream())
+                .mapToLong(ValueProtos.TypedValue::getSerializedSize)
+                .sum();
+
+        assertThat(directSize).isEqualTo(typedValueSize);
+        // Each intermediate TypedValue of the old path also carries the type of its cell
+        assertThat(typedValueCellsSize).isGreaterThan(directSize);
+    }
+
+    @Test
+    public void sizeEstimateCloseToSerializedSize() {
+        StructValue row = MAPPER.mapToSdk(newFoo(1));
+
+        long serializedSize = ListValue.of(row).toPb().getSerializedSize();
+        assertThat(BulkRowSize.estimate(row)).isBetween(serializedSize, 2 * serializedSize);
+    }
+
+    @Test
+    public void sizeEstimateAllocatesLessThanSerialization() {
+        List<StructValue> rows = IntStream.range(0, ROWS).mapToObj(i -> MAPPER.mapToSdk(newFoo(i))).toList();
+
+        long estimateAllocated = allocatedBytes(() -> rows.forEach(BulkRowSize::estimate));
+        long serializationAllocated = allocatedBytes(() -> rows.forEach(row -> row.toPb().getSerializedSize()));
+
+        assertThat(estimateAllocated).isLessThan(serializationAllocated / 10);
+    }
+
+    @Test
+    public void directSdkEncodingAllocatesLessThanProtobuf() {
+        List<Foo> foos = IntStream.range(0, ROWS).mapToObj(BulkMapperImplTest::newFoo).toList();
+        List<JavaField> fields = SCHEMA.flattenFields();
+        List<YqlType> types = fields.stream().map(YqlType::of).toList();
+
+        long directAllocated = allocatedBytes(() -> foos.forEach(foo -> {
+            Map<String, Object> flattened = SCHEMA.flatten(foo);
+            for (int i = 0; i < fields.size(); i++) {
+                Object value = flattened.get(fields.get(i).getName());
+                if (value != null) {
+                    types.get(i).toSdk(value);
+                }
+            }
+        }));
+        long protobufAllocated = allocatedBytes(() -> foos.forEach(foo -> {
+            Map<String, Object> flattened = SCHEMA.flatten(foo);
+            for (int i = 0; i < fields.size(); i++) {
+                Object value = flattened.get(fields.get(i).getName());
+                if (value != null) {
+                    YqlType type = types.get(i);
+                    ProtoValue.fromPb(type.getSdkType(), type.toYql(value).build());
+                }
+            }
+        }));
+
+        assertThat(directAllocated).isLessThan(protobufAllocated);
+    }
+
+    // Bytes allocated by the current thread while running the action, after a warm-up run
+    private static long allocatedBytes(Runnable action) {
+        var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        action.run();
+        long before = threadMxBean.getCurrentThreadAllocatedBytes();
+        action.run();
+        return threadMxBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static Foo newFoo(int i) {
+        return new Foo(new Foo.Id("name-" + i, i), "text of row " + i, i, Instant.ofEpochMilli(1_700_000_000_000L + i), Foo.Status.ACTIVE);
+    }
+
+    private static void assertSameAsTypedValues(Foo foo) {
+        assertThat(MAPPER.mapToSdk(foo)).isEqualTo(TYPED_VALUE_MAPPER.mapToSdk(foo));
+        assertThat(MAPPER.mapToSdk(foo).toPb()).isEqualTo(TYPED_VALUE_MAPPER.mapToSdk(foo).toPb());
+    }
+
+    @Value
+    static class Foo implements Entity<Foo> {
+        Id id;
+        String text;
+        Integer number;
+        Instant updatedAt;
+        Status status;
+
+        @Value
+        public static class Id implements Entity.Id<Foo> {
+            String name;
+            long version;
+        }
+
+        public enum Status {
+            ACTIVE,
+            DELETED,
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.cache.RepositoryCache;
 import tech.ydb.yoj.repository.test.sample.model.Primitive;
@@ -11,8 +12,10 @@ import tech.ydb.yoj.repository.test.sample.model.Project;
 import tech.ydb.yoj.repository.ydb.YdbRepository;
 import tech.ydb.yoj.repository.ydb.statement.DeleteAllStatement;
 import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.DeleteRangeStatement;
 import tech.ydb.yoj.repository.ydb.statement.InsertYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.Statement;
+import tech.ydb.yoj.repository.ydb.statement.UpdateColumnsYqlStatement;
 import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
 
 import java.util.ArrayList;
@@ -137,6 +140,112 @@ public class QueriesMergerTest {
         Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_ALL);
     }
 
+    @Test
+    public void deleteRangeIsNotMerged() {
+        QueriesMerger merger = createMerger();
+
+        Project p = new Project(new Project.Id("1"), "new project");
+        Project p2 = new Project(new Project.Id("2"), "new project2");
+        List<YdbRepository.Query<?>> result = merger.merge(
+                insert(p),
+                deleteRange(Range.create(new Project.Id("1"), new Project.Id("2"))),
+                upsert(p2));
+
+        assertThat(result).hasSize(3);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.INSERT);
+        Assertions.assertThat(result.get(1).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_RANGE);
+        Assertions.assertThat(result.get(2).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPSERT);
+    }
+
+    @Test
+    public void cachedValuesAreIgnoredAfterDeleteRange() {
+        RepositoryCache cache = RepositoryCache.create();
+        QueriesMerger merger = QueriesMerger.create(cache);
+
+        Project p1 = new Project(new Project.Id("1"), "project1");
+        Project p2 = new Project(new Project.Id("2"), "project2");
+        List.of(p1, p2).forEach(p -> cache.put(cacheKey(p), p));
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                deleteRange(Range.create(new Project.Id("1"), new Project.Id("2"))),
+                upsert(p1),
+                insert(p2));
+
+        assertThat(result).hasSize(3);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_RANGE);
+        Assertions.assertThat(result.get(1).getStatement().getQueryType()).isEqualTo(Statement.QueryType.INSERT);
+        Assertions.assertThat(result.get(1).getValues()).containsExactly(p2);
+        Assertions.assertThat(result.get(2).getStatement().getQueryType()).isEqualTo(Statement.QueryType.UPSERT);
+        Assertions.assertThat(result.get(2).getValues()).containsExactly(p1);
+    }
+
+    @Test
+    public void cachedValuesAreUsedBeforeDeleteRange() {
+        RepositoryCache cache = RepositoryCache.create();
+        QueriesMerger merger = QueriesMerger.create(cache);
+
+        Project p1 = new Project(new Project.Id("1"), "project1");
+        cache.put(cacheKey(p1), p1);
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                upsert(p1),
+                deleteRange(Range.create(new Project.Id("2"), new Project.Id("3"))));
+
+        assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_RANGE);
+    }
+
+    @Test
+    public void dirtyColumnUpdates() {
+        RepositoryCache cache = RepositoryCache.create();
+        QueriesMerger merger = QueriesMerger.create(cache, true);
+
+        Project p1 = new Project(new Project.Id("1"), "project1");
+        Project p2 = new Project(new Project.Id("2"), "project2");
+        Project p3 = new Project(new Project.Id("3"), "project3");
+        Project p4 = new Project(new Project.Id("4"), "project4");
+        List.of(p1, p2, p3).forEach(p -> cache.put(cacheKey(p), p));
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                upsert(p1.withName("renamed1")),
+                upsert(p2.withName("renamed2")),
+                upsert(p3),
+                upsert(p4));
+
+        assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0).getStatement()).isInstanceOf(UpsertYqlStatement.class);
+        Assertions.assertThat(result.get(0).getValues()).containsExactly(p4);
+        Assertions.assertThat(result.get(1).getStatement()).isInstanceOf(UpdateColumnsYqlStatement.class);
+        Assertions.assertThat(result.get(1).getValues()).containsExactlyInAnyOrder(
+                p1.withName("renamed1"), p2.withName("renamed2"));
+        Assertions.assertThat(result.get(1).getStatement().getQuery(""))
+                .contains("UPDATE")
+                .contains("`name`")
+                .doesNotContain("UPSERT");
+    }
+
+    @Test
+    public void noDirtyColumnUpdatesAfterDeleteRange() {
+        RepositoryCache cache = RepositoryCache.create();
+        QueriesMerger merger = QueriesMerger.create(cache, true);
+
+        Project p1 = new Project(new Project.Id("1"), "project1");
+        Project p2 = new Project(new Project.Id("5"), "project5");
+        List.of(p1, p2).forEach(p -> cache.put(cacheKey(p), p));
+
+        List<YdbRepository.Query<?>> result = merger.merge(
+                upsert(p2.withName("renamed5")),
+                deleteRange(Range.create(new Project.Id("1"), new Project.Id("2"))),
+                upsert(p1.withName("renamed1")));
+
+        assertThat(result).hasSize(3);
+        Assertions.assertThat(result.get(0).getStatement()).isInstanceOf(UpdateColumnsYqlStatement.class);
+        Assertions.assertThat(result.get(0).getValues()).containsExactly(p2.withName("renamed5"));
+        Assertions.assertThat(result.get(1).getStatement().getQueryType()).isEqualTo(Statement.QueryType.DELETE_RANGE);
+        Assertions.assertThat(result.get(2).getStatement()).isInstanceOf(UpsertYqlStatement.class);
+        Assertions.assertThat(result.get(2).getValues()).containsExactly(p1.withName("renamed1"));
+    }
+
     private QueriesMerger createMerger() {
         return QueriesMerger.create(RepositoryCache.create());
     }
@@ -161,6 +270,12 @@ public class QueriesMergerTest {
         return new YdbRepository.Query<>(new InsertYqlStatement<>(tableDescriptor, schema), p);
     }
 
+    private YdbRepository.Query<?> deleteRange(Range<Project.Id> range) {
+        EntitySchema<Project> schema = EntitySchema.of(Project.class);
+        TableDescriptor<Project> tableDescriptor = TableDescriptor.from(schema);
+        return new YdbRepository.Query<>(new DeleteRangeStatement<>(tableDescriptor, schema, range), range);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Entity<T>> YdbRepository.Query<?> delete(T p) {
         EntitySchema<T> schema = EntitySchema.of((Class<T>) p.getClass());
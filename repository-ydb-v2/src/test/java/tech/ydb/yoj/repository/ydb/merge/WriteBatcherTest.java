@@ -0,0 +1,76 @@
+package tech.ydb.yoj.repository.ydb.merge;
+
+import org.junit.Test;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.test.sample.model.Primitive;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+import tech.ydb.yoj.repository.ydb.YdbRepository;
+import tech.ydb.yoj.repository.ydb.statement.DeleteByIdStatement;
+import tech.ydb.yoj.repository.ydb.statement.UpsertYqlStatement;
+import tech.ydb.yoj.repository.ydb.statement.WriteBatchStatement;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteBatcherTest {
+    @Test
+    public void batchWritesToDifferentTables() {
+        List<YdbRepository.Query<?>> result = WriteBatcher.batch(List.of(
+                upsert(new Project(new Project.Id("1"), "project")),
+                upsert(new Primitive(new Primitive.Id(1L), 42))
+        ));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStatement()).isInstanceOf(WriteBatchStatement.class);
+
+        WriteBatchStatement batch = (WriteBatchStatement) result.get(0).getStatement();
+        List<?> params = (List<?>) result.get(0).getValues().get(0);
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.toQueryParameters(params)).containsOnlyKeys("$s0_Input", "$s1_Input");
+        assertThat(batch.getQuery(""))
+                .contains("DECLARE $s0_Input AS")
+                .contains("DECLARE $s1_Input AS")
+                .contains("AS_TABLE($s0_Input)")
+                .contains("AS_TABLE($s1_Input)")
+                .doesNotContain("$Input");
+    }
+
+    @Test
+    public void doNotBatchSingleWrite() {
+        var upsert = upsert(new Project(new Project.Id("1"), "project"));
+
+        assertThat(WriteBatcher.batch(List.of(upsert))).containsExactly(upsert);
+    }
+
+    @Test
+    public void splitBatchOnSameTable() {
+        Project p1 = new Project(new Project.Id("1"), "project");
+        Project p2 = new Project(new Project.Id("2"), "project");
+        List<YdbRepository.Query<?>> result = WriteBatcher.batch(List.of(
+                upsert(p1),
+                upsert(new Primitive(new Primitive.Id(1L), 42)),
+                delete(p2)
+        ));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getStatement()).isInstanceOf(WriteBatchStatement.class);
+        assertThat(result.get(1).getStatement()).isInstanceOf(DeleteByIdStatement.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Entity<T>> YdbRepository.Query<?> upsert(T p) {
+        EntitySchema<T> schema = EntitySchema.of((Class<T>) p.getClass());
+        TableDescriptor<T> tableDescriptor = TableDescriptor.from(schema);
+        return new YdbRepository.Query<>(new UpsertYqlStatement<>(tableDescriptor, schema), p);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Entity<T>> YdbRepository.Query<?> delete(T p) {
+        EntitySchema<T> schema = EntitySchema.of((Class<T>) p.getClass());
+        TableDescriptor<T> tableDescriptor = TableDescriptor.from(schema);
+        return new YdbRepository.Query<>(new DeleteByIdStatement<>(tableDescriptor, schema), p.getId());
+    }
+}
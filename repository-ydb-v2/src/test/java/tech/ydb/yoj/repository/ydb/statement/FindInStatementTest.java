@@ -15,6 +15,7 @@ import tech.ydb.yoj.repository.db.EntitySchema;
 import tech.ydb.yoj.repository.db.Table;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 import tech.ydb.yoj.repository.db.ViewSchema;
+import tech.ydb.yoj.repository.ydb.client.YdbConverter;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -406,6 +407,21 @@ public class FindInStatementTest {
         assertThat(queryParams.keySet()).containsOnly("$Input", "$pred_0_value1", "$pred_1_value2");
     }
 
+    @Test
+    public void testToSdkParametersWithFilter() {
+        FilterExpression<Foo> filter = newFilterBuilder(Foo.class)
+                .where("value1").neq(42L)
+                .and("value2").in("v1", "v2")
+                .build();
+        FindInStatement<Set<FooIndexKey>, Foo, FooView> statement = buildFindInStatement(
+                ENTITY_SCHEMA, VIEW_SCHEMA, INDEX_NAME, KEYS, filter, DEFAULT_ORDER, null
+        );
+
+        Map<String, tech.ydb.table.values.Value<?>> sdkParams = statement.toSdkParameters(KEYS);
+
+        assertThat(sdkParams).isEqualTo(YdbConverter.convertToParams(statement.toQueryParameters(KEYS)).values());
+    }
+
     @Test
     public void testEntityWithSimpleId() {
         EntitySchema<Bar> entitySchema = EntitySchema.of(Bar.class);
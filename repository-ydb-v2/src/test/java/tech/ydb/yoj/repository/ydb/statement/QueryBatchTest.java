@@ -0,0 +1,49 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import org.junit.Test;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+import tech.ydb.yoj.repository.ydb.table.YdbTable;
+import tech.ydb.yoj.repository.ydb.yql.YqlPredicate;
+import tech.ydb.yoj.repository.ydb.yql.YqlStatementPart;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+public class QueryBatchTest {
+    private static final EntitySchema<Project> SCHEMA = EntitySchema.of(Project.class);
+    private static final TableDescriptor<Project> TABLE_DESCRIPTOR = TableDescriptor.from(SCHEMA);
+
+    private final QueryBatch batch = new QueryBatch(mock(YdbTable.QueryExecutor.class));
+
+    @Test
+    public void selectStatementIsAccepted() {
+        List<YqlStatementPart<?>> parts = List.of(YqlPredicate.where("name").eq("AAA"));
+        batch.add(FindStatement.from(TABLE_DESCRIPTOR, SCHEMA, SCHEMA, parts, false), parts);
+    }
+
+    @Test
+    public void sameStatementIsRejected() {
+        List<YqlStatementPart<?>> parts = List.of(YqlPredicate.where("name").eq("AAA"));
+        var find = FindStatement.from(TABLE_DESCRIPTOR, SCHEMA, SCHEMA, parts, false);
+        batch.add(find, parts);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> batch.add(find, parts));
+    }
+
+    @Test
+    public void writeStatementIsRejected() {
+        var upsert = new UpsertYqlStatement<Project, Project>(TABLE_DESCRIPTOR, SCHEMA);
+        var project = new Project(new Project.Id("p"), "AAA");
+        assertThatIllegalArgumentException().isThrownBy(() -> batch.add(upsert, project));
+    }
+
+    @Test
+    public void untypedStatementIsRejected() {
+        var writeBatch = new WriteBatchStatement(List.of(new UpsertYqlStatement<Project, Project>(TABLE_DESCRIPTOR, SCHEMA)));
+        assertThatIllegalArgumentException().isThrownBy(() -> batch.add(writeBatch));
+    }
+}
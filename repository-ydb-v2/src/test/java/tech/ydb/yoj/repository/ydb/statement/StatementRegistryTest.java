@@ -0,0 +1,76 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import org.junit.Test;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementRegistryTest {
+    private static final EntitySchema<Project> SCHEMA = EntitySchema.of(Project.class);
+
+    @Test
+    public void sameStatementForSameTable() {
+        TableDescriptor<Project> tableDescriptor = TableDescriptor.from(SCHEMA);
+
+        UpsertYqlStatement<Project, Project> first = upsert(tableDescriptor);
+        UpsertYqlStatement<Project, Project> second = upsert(tableDescriptor);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getCachedQuery("ts/")).isSameAs(first.getCachedQuery("ts/"));
+    }
+
+    @Test
+    public void differentStatementForDifferentTable() {
+        TableDescriptor<Project> tableDescriptor = TableDescriptor.from(SCHEMA);
+        TableDescriptor<Project> otherTableDescriptor = new TableDescriptor<>(Project.class, "other_projects");
+
+        UpsertYqlStatement<Project, Project> first = upsert(tableDescriptor);
+        UpsertYqlStatement<Project, Project> other = upsert(otherTableDescriptor);
+
+        assertThat(other).isNotSameAs(first).isNotEqualTo(first);
+        assertThat(other.getCachedQuery("ts/")).contains("other_projects");
+    }
+
+    @Test
+    public void cachedQueryMatchesGeneratedQuery() {
+        UpsertYqlStatement<Project, Project> statement = upsert(TableDescriptor.from(SCHEMA));
+
+        assertThat(statement.getCachedQuery("ts/")).isEqualTo(statement.getQuery("ts/"));
+        assertThat(statement.getCachedQuery("other/")).isEqualTo(statement.getQuery("other/"));
+        assertThat(statement).isEqualTo(new UpsertYqlStatement<>(TableDescriptor.from(SCHEMA), SCHEMA));
+    }
+
+    @Test
+    public void statementsAreComparedWithoutGeneratingQuery() {
+        var first = new CountingUpsertStatement(TableDescriptor.from(SCHEMA));
+        var second = new CountingUpsertStatement(TableDescriptor.from(SCHEMA));
+        var other = new CountingUpsertStatement(new TableDescriptor<>(Project.class, "other_projects"));
+
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(new InsertYqlStatement<>(TableDescriptor.from(SCHEMA), SCHEMA)).isNotEqualTo(first);
+
+        assertThat(first.queryCount + second.queryCount + other.queryCount).isZero();
+    }
+
+    private static UpsertYqlStatement<Project, Project> upsert(TableDescriptor<Project> tableDescriptor) {
+        return StatementRegistry.get(UpsertYqlStatement.class, tableDescriptor, SCHEMA, SCHEMA,
+                () -> new UpsertYqlStatement<>(tableDescriptor, SCHEMA));
+    }
+
+    private static final class CountingUpsertStatement extends UpsertYqlStatement<Project, Project> {
+        private int queryCount;
+
+        private CountingUpsertStatement(TableDescriptor<Project> tableDescriptor) {
+            super(tableDescriptor, SCHEMA);
+        }
+
+        @Override
+        public String getQuery(String tablespace) {
+            queryCount++;
+            return super.getQuery(tablespace);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import org.junit.Test;
+import tech.ydb.proto.ValueProtos;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class WriteBatchStatementTest {
+    @Test
+    public void renameDeclaredParameters() {
+        var batch = new WriteBatchStatement(List.of(
+                new TextStatement("DECLARE $Input AS List<Struct<id:Utf8>>;\nUPSERT INTO `t` SELECT * FROM AS_TABLE($Input)"),
+                new TextStatement("DECLARE $Input AS List<Struct<id:Utf8>>;\nDELETE FROM `t` ON SELECT * FROM AS_TABLE($Input)")
+        ));
+
+        assertThat(batch.getQuery("")).isEqualTo(""
+                + "DECLARE $s0_Input AS List<Struct<id:Utf8>>;\nUPSERT INTO `t` SELECT * FROM AS_TABLE($s0_Input);\n"
+                + "DECLARE $s1_Input AS List<Struct<id:Utf8>>;\nDELETE FROM `t` ON SELECT * FROM AS_TABLE($s1_Input);\n");
+    }
+
+    @Test
+    public void keepDollarsInLiteralsAndComments() {
+        var batch = new WriteBatchStatement(List.of(
+                new TextStatement("""
+                        DECLARE $id AS Utf8;
+                        -- sets $id's price to '$10'
+                        /* $id */ UPDATE `t$1` SET price = '$10', note = "\\"$id\\"" WHERE id = $id"""),
+                new TextStatement("DECLARE $id AS Utf8;\nDELETE FROM `t` WHERE id = $id")
+        ));
+
+        assertThat(batch.getQuery("")).isEqualTo("""
+                DECLARE $s0_id AS Utf8;
+                -- sets $id's price to '$10'
+                /* $id */ UPDATE `t$1` SET price = '$10', note = "\\"$id\\"" WHERE id = $s0_id;
+                DECLARE $s1_id AS Utf8;
+                DELETE FROM `t` WHERE id = $s1_id;
+                """);
+    }
+
+    @Test
+    public void rejectUndeclaredNames() {
+        var batch = new WriteBatchStatement(List.of(
+                new TextStatement("$ids = SELECT id FROM `t`;\nDELETE FROM `t` WHERE id IN $ids"),
+                new TextStatement("DECLARE $id AS Utf8;\nDELETE FROM `t` WHERE id = $id")
+        ));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> batch.getQuery(""));
+    }
+
+    private record TextStatement(String yql) implements Statement<Object, Void> {
+        @Override
+        public String getQuery(String tablespace) {
+            return yql;
+        }
+
+        @Override
+        public String toDebugString(Object params) {
+            return yql;
+        }
+
+        @Override
+        public Map<String, ValueProtos.TypedValue> toQueryParameters(Object params) {
+            return Map.of();
+        }
+
+        @Override
+        public Void readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueryType getQueryType() {
+            return QueryType.UPSERT;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package tech.ydb.yoj.repository.ydb.statement;
+
+import com.google.protobuf.NullValue;
+import org.junit.Test;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.TableDescriptor;
+import tech.ydb.yoj.repository.test.sample.model.Project;
+import tech.ydb.yoj.repository.ydb.yql.YqlType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class YqlStatementRowReaderTest {
+    private static final EntitySchema<Project> SCHEMA = EntitySchema.of(Project.class);
+    private static final TableDescriptor<Project> TABLE = TableDescriptor.from(SCHEMA);
+
+    private static final Project PROJECT = new Project(new Project.Id("p1"), "Project 1");
+    private static final Project NAMELESS_PROJECT = new Project(new Project.Id("p2"), null);
+
+    @Test
+    public void rowsAreDecodedFromResultSet() {
+        var statement = new FindAllYqlStatement<>(TABLE, SCHEMA, SCHEMA);
+
+        assertThat(readRows(statement, PROJECT, NAMELESS_PROJECT)).containsExactly(PROJECT, NAMELESS_PROJECT);
+    }
+
+    @Test
+    public void rowsAreReadByOverriddenReadResult() {
+        var statement = new FindAllYqlStatement<>(TABLE, SCHEMA, SCHEMA) {
+            @Override
+            public Project readResult(List<ValueProtos.Column> columns, ValueProtos.Value value) {
+                return super.readResult(columns, value).withName("overridden");
+            }
+        };
+
+        assertThat(readRows(statement, PROJECT, NAMELESS_PROJECT)).containsExactly(
+                PROJECT.withName("overridden"),
+                NAMELESS_PROJECT.withName("overridden")
+        );
+    }
+
+    private static List<Project> readRows(Statement<?, Project> statement, Project... projects) {
+        var resultSet = ValueProtos.ResultSet.newBuilder();
+        for (var field : SCHEMA.flattenFields()) {
+            var type = YqlType.of(field).getYqlTypeBuilder();
+            resultSet.addColumns(ValueProtos.Column.newBuilder()
+                    .setName(field.getName())
+                    .setType(ValueProtos.Type.newBuilder().setOptionalType(ValueProtos.OptionalType.newBuilder().setItem(type))));
+        }
+        for (var project : projects) {
+            Map<String, Object> flat = SCHEMA.flatten(project);
+            var row = ValueProtos.Value.newBuilder();
+            for (var field : SCHEMA.flattenFields()) {
+                Object value = flat.get(field.getName());
+                row.addItems(value == null
+                        ? ValueProtos.Value.newBuilder().setNullFlagValue(NullValue.NULL_VALUE)
+                        : YqlType.of(field).toYql(value));
+            }
+            resultSet.addRows(row);
+        }
+
+        ResultSetReader reader = ProtoValueReaders.forResultSet(resultSet.build());
+        var rowReader = statement.rowReader(resultSet.getColumnsList());
+        var results = new ArrayList<Project>();
+        while (reader.next()) {
+            results.add(rowReader.apply(reader));
+        }
+        return results;
+    }
+}
@@ -10,6 +10,9 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.proto.ProtoValue;
 import tech.ydb.yoj.databind.DbType;
 import tech.ydb.yoj.databind.FieldValueType;
 import tech.ydb.yoj.databind.schema.Column;
@@ -163,6 +166,33 @@ public class YqlTypeAllTypesLegacyMappingTest {
         assertThat(actual).isEqualTo(value);
     }
 
+    @Test
+    public void testToSdk() {
+        var yqlType = YqlType.of(SCHEMA.getField(fieldName));
+        var protoValue = yqlType.toYql(value).build();
+
+        var actual = yqlType.toSdk(value);
+
+        assertThat(actual).isEqualTo(ProtoValue.fromPb(yqlType.getSdkType(), protoValue));
+        assertThat(actual.toPb()).isEqualTo(protoValue);
+    }
+
+    @Test
+    public void testToFromColumnReader() {
+        var yqlType = YqlType.of(SCHEMA.getField(fieldName));
+        var columnType = ValueProtos.Type.newBuilder()
+                .setOptionalType(ValueProtos.OptionalType.newBuilder().setItem(yqlType.getYqlTypeBuilder()))
+                .build();
+
+        var column = ProtoValueReaders.forTypedValue(ValueProtos.TypedValue.newBuilder()
+                .setType(columnType)
+                .setValue(yqlType.toYql(value))
+                .build());
+        var actual = yqlType.columnReader(columnType).apply(column);
+
+        assertThat(actual).isEqualTo(value);
+    }
+
     @AllArgsConstructor
     public static class TestFields {
         @Column
@@ -10,12 +10,17 @@ import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.repository.BaseDb;
 import tech.ydb.yoj.repository.db.bulk.BulkParams;
+import tech.ydb.yoj.repository.db.list.ListRequest;
+import tech.ydb.yoj.repository.db.list.ListResult;
+import tech.ydb.yoj.repository.db.list.ViewListResult;
 import tech.ydb.yoj.repository.db.readtable.ReadTableParams;
 import tech.ydb.yoj.repository.db.statement.Changeset;
 
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Table<T> {
@@ -94,6 +99,23 @@ public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Ta
         return target.count(indexName, filter);
     }
 
+    @Override
+    public ListResult<T> list(ListRequest<T> request) {
+        return target.list(request);
+    }
+
+    @Override
+    public <V extends View> ViewListResult<T, V> list(Class<V> viewType, ListRequest<T> request) {
+        return target.list(viewType, request);
+    }
+
+    @Override
+    public <V extends View> List<V> aggregate(Class<V> resultType, @Nullable String indexName,
+                                              @Nullable FilterExpression<T> filter,
+                                              List<String> groupBy, List<Aggregate> aggregates) {
+        return target.aggregate(resultType, indexName, filter, groupBy, aggregates);
+    }
+
     @Override
     public void update(Entity.Id<T> id, Changeset changeset) {
         target.update(id, changeset);
@@ -104,6 +126,11 @@ public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Ta
         target.bulkUpsert(input, params);
     }
 
+    @Override
+    public void bulkUpsert(Stream<T> input, BulkParams params) {
+        target.bulkUpsert(input, params);
+    }
+
     @Override
     public <ID extends Entity.Id<T>> Stream<T> readTable(ReadTableParams<ID> params) {
         return target.readTable(params);
@@ -194,6 +221,36 @@ public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Ta
         return target.save(t);
     }
 
+    @Override
+    public Supplier<T> findLater(Entity.Id<T> id) {
+        return target.findLater(id);
+    }
+
+    @Override
+    public <V extends ViewId<T>> Supplier<V> findLater(Class<V> viewType, Entity.Id<T> id) {
+        return target.findLater(viewType, id);
+    }
+
+    @Override
+    public CompletableFuture<T> findAsync(Entity.Id<T> id) {
+        return target.findAsync(id);
+    }
+
+    @Override
+    public <ID extends Entity.Id<T>> CompletableFuture<List<T>> findAsync(Set<ID> ids) {
+        return target.findAsync(ids);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> findAsync(@Nullable String indexName, @Nullable FilterExpression<T> filter, @Nullable OrderExpression<T> orderBy, @Nullable Integer limit, @Nullable Long offset) {
+        return target.findAsync(indexName, filter, orderBy, limit, offset);
+    }
+
+    @Override
+    public CompletableFuture<T> saveAsync(T t) {
+        return target.saveAsync(t);
+    }
+
     @Override
     public void delete(Entity.Id<T> id) {
         target.delete(id);
@@ -219,6 +276,16 @@ public abstract class AbstractDelegatingTable<T extends Entity<T>> implements Ta
         return target.streamPartial(partial, batchSize);
     }
 
+    @Override
+    public Stream<T> streamAll(int batchSize, int prefetchBatches) {
+        return target.streamAll(batchSize, prefetchBatches);
+    }
+
+    @Override
+    public <ID extends Entity.Id<T>> Stream<T> streamPartial(ID partial, int batchSize, int prefetchBatches) {
+        return target.streamPartial(partial, batchSize, prefetchBatches);
+    }
+
     @Override
     public <ID extends Entity.Id<T>, V extends ViewId<T>> Stream<V> streamPartial(Class<V> viewType, ID partial, int batchSize) {
         return target.streamPartial(viewType, partial, batchSize);
@@ -0,0 +1,77 @@
+package tech.ydb.yoj.repository.db;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+import javax.annotation.Nullable;
+
+/**
+ * Aggregate function computed by an {@link TableQueryBuilder#aggregate(Class, Aggregate, Aggregate...) aggregate query},
+ * e.g., {@code Aggregate.sum("amount", "totalAmount")}.
+ * <p>The aggregate value is stored into the {@code resultField} of the query result type; values of the
+ * {@link TableQueryBuilder#groupBy(String...) group by fields} are stored into the result type fields
+ * that have the same column names.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Aggregate {
+    @NonNull
+    Function function;
+
+    /**
+     * Path of the aggregated entity field; {@code null} for {@link Function#COUNT COUNT(*)}.
+     * The field must be {@link tech.ydb.yoj.databind.schema.Schema.JavaField#isFlat() flat}.
+     */
+    @Nullable
+    String fieldPath;
+
+    /**
+     * Path of the result type field that receives the aggregate value.
+     */
+    @NonNull
+    String resultField;
+
+    /**
+     * @param resultField result type field to store the number of rows to, typically a {@code long}
+     * @return {@code COUNT(*)} aggregate
+     */
+    public static Aggregate count(@NonNull String resultField) {
+        return new Aggregate(Function.COUNT, null, resultField);
+    }
+
+    /**
+     * @param fieldPath   numeric entity field to sum
+     * @param resultField result type field to store the sum to; {@code null} if there are no non-{@code null} values
+     * @return {@code SUM(field)} aggregate
+     */
+    public static Aggregate sum(@NonNull String fieldPath, @NonNull String resultField) {
+        return new Aggregate(Function.SUM, fieldPath, resultField);
+    }
+
+    /**
+     * @param fieldPath   entity field to find the minimum value of
+     * @param resultField result type field to store the minimum to; {@code null} if there are no non-{@code null} values
+     * @return {@code MIN(field)} aggregate
+     */
+    public static Aggregate min(@NonNull String fieldPath, @NonNull String resultField) {
+        return new Aggregate(Function.MIN, fieldPath, resultField);
+    }
+
+    /**
+     * @param fieldPath   entity field to find the maximum value of
+     * @param resultField result type field to store the maximum to; {@code null} if there are no non-{@code null} values
+     * @return {@code MAX(field)} aggregate
+     */
+    public static Aggregate max(@NonNull String fieldPath, @NonNull String resultField) {
+        return new Aggregate(Function.MAX, fieldPath, resultField);
+    }
+
+    public enum Function {
+        COUNT,
+        SUM,
+        MIN,
+        MAX,
+    }
+}
@@ -0,0 +1,109 @@
+package tech.ydb.yoj.repository.db;
+
+import tech.ydb.yoj.repository.db.cache.FirstLevelCache;
+import tech.ydb.yoj.repository.db.cache.TransactionLocal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Transaction-local state of point reads scheduled by {@link Table#findLater(Entity.Id)} and
+ * {@link Table#findLater(Class, Entity.Id)}: IDs not yet read, and entities (or views) already read,
+ * for each table and result type.
+ */
+final class BatchedReads {
+    private static final Supplier<BatchedReads> INSTANCE = BatchedReads::new;
+
+    private final Map<BatchKey, Batch<?, ?>> batches = new HashMap<>();
+
+    static BatchedReads current() {
+        return TransactionLocal.get().instance(INSTANCE);
+    }
+
+    <T extends Entity<T>> Supplier<T> schedule(Table<T> table, Entity.Id<T> id) {
+        return schedule(table.getTableDescriptor(), table.getType(), id, ids -> findEntities(table, ids));
+    }
+
+    <T extends Entity<T>, V extends Table.ViewId<T>> Supplier<V> schedule(
+            Table<T> table, Class<V> viewType, Entity.Id<T> id
+    ) {
+        return schedule(table.getTableDescriptor(), viewType, id, ids -> findViews(table, viewType, ids));
+    }
+
+    private <T extends Entity<T>, R> Supplier<R> schedule(
+            TableDescriptor<T> tableDescriptor, Class<R> resultType, Entity.Id<T> id,
+            Function<Set<Entity.Id<T>>, Map<Entity.Id<T>, R>> loader
+    ) {
+        @SuppressWarnings("unchecked")
+        Batch<T, R> batch = (Batch<T, R>) batches.computeIfAbsent(
+                new BatchKey(tableDescriptor, resultType), __ -> new Batch<>(loader)
+        );
+        if (!batch.read.containsKey(id)) {
+            batch.pending.add(id);
+        }
+        return () -> batch.get(id);
+    }
+
+    private static <T extends Entity<T>> Map<Entity.Id<T>, T> findEntities(Table<T> table, Set<Entity.Id<T>> ids) {
+        Map<Entity.Id<T>, T> found = new HashMap<>();
+        table.find(ids).forEach(e -> found.put(e.getId(), e));
+        return found;
+    }
+
+    /**
+     * Reads views of entities that are not in the first-level cache by a single {@link Table#find(Class, Set) batch read};
+     * views of the cached entities are built from the cached entities, so that changes made in the current transaction
+     * are visible.
+     */
+    private static <T extends Entity<T>, V extends Table.ViewId<T>> Map<Entity.Id<T>, V> findViews(
+            Table<T> table, Class<V> viewType, Set<Entity.Id<T>> ids
+    ) {
+        TableDescriptor<T> tableDescriptor = table.getTableDescriptor();
+        FirstLevelCache<T> cache = TransactionLocal.get().firstLevelCache(tableDescriptor);
+        EntitySchema<T> schema = EntitySchema.of(tableDescriptor.entityType());
+        ViewSchema<V> viewSchema = schema.getViewSchema(viewType);
+
+        Map<Entity.Id<T>, V> found = new HashMap<>();
+        Set<Entity.Id<T>> notCached = new HashSet<>();
+        for (Entity.Id<T> id : ids) {
+            if (cache.containsKey(id)) {
+                cache.peek(id).ifPresent(e -> found.put(id, viewSchema.newInstance(schema.flatten(e))));
+            } else {
+                notCached.add(id);
+            }
+        }
+        if (!notCached.isEmpty()) {
+            table.find(viewType, notCached).forEach(v -> found.put(v.getId(), v));
+        }
+        return found;
+    }
+
+    private record BatchKey(TableDescriptor<?> tableDescriptor, Class<?> resultType) {
+    }
+
+    private static final class Batch<T extends Entity<T>, R> {
+        private final Function<Set<Entity.Id<T>>, Map<Entity.Id<T>, R>> loader;
+        private final Set<Entity.Id<T>> pending = new LinkedHashSet<>();
+        private final Map<Entity.Id<T>, R> read = new HashMap<>();
+
+        private Batch(Function<Set<Entity.Id<T>>, Map<Entity.Id<T>, R>> loader) {
+            this.loader = loader;
+        }
+
+        private R get(Entity.Id<T> id) {
+            if (pending.contains(id)) {
+                Set<Entity.Id<T>> ids = Set.copyOf(pending);
+                pending.clear();
+
+                Map<Entity.Id<T>, R> found = loader.apply(ids);
+                ids.forEach(i -> read.put(i, found.get(i)));
+            }
+            return read.get(id);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import tech.ydb.yoj.repository.db.cache.TransactionLog;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -76,6 +77,11 @@ public abstract class DelegatingTxManager implements TxManager {
         return doRunTx(() -> delegate.tx(wrapTxBody(supplier)));
     }
 
+    @Override
+    public final <T> CompletableFuture<T> txAsync(Supplier<CompletableFuture<T>> supplier) {
+        return doRunTx(() -> delegate.txAsync(wrapTxBody(supplier)));
+    }
+
     @Override
     public final TxManager withName(String name, String logContext) {
         return createTxManager(this.delegate.withName(name, logContext));
@@ -106,6 +112,21 @@ public abstract class DelegatingTxManager implements TxManager {
         return createTxManager(this.delegate.immediateWrites());
     }
 
+    @Override
+    public final TxManager batchedWrites() {
+        return createTxManager(this.delegate.batchedWrites());
+    }
+
+    @Override
+    public final TxManager dirtyColumnUpdates() {
+        return createTxManager(this.delegate.dirtyColumnUpdates());
+    }
+
+    @Override
+    public final TxManager continueTruncatedResults(long maxRows) {
+        return createTxManager(this.delegate.continueTruncatedResults(maxRows));
+    }
+
     @Override
     public final TxManager noFirstLevelCache() {
         return createTxManager(this.delegate.noFirstLevelCache());
@@ -225,6 +246,11 @@ public abstract class DelegatingTxManager implements TxManager {
             return new ScanBuilderImpl(delegate.withTimeout(timeout));
         }
 
+        @Override
+        public ScanBuilder withUseNewSpliterator(boolean useNewSpliterator) {
+            return new ScanBuilderImpl(delegate.withUseNewSpliterator(useNewSpliterator));
+        }
+
         @Override
         public <T> T run(Supplier<T> supplier) throws RetryableException {
             return doRunTx(() -> this.delegate.run(wrapTxBody(supplier)));
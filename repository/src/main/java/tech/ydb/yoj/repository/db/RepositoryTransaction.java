@@ -3,6 +3,8 @@ package tech.ydb.yoj.repository.db;
 import tech.ydb.yoj.repository.db.cache.TransactionLocal;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A DB transaction. Each instance <strong>must</strong> be closed with {@link #commit()} or {@link #rollback} methods
  * (exactly one call to either method) lest your transaction stays active on the DB server.
@@ -20,6 +22,22 @@ public interface RepositoryTransaction {
      */
     void commit() throws OptimisticLockException;
 
+    /**
+     * Asynchronous counterpart of {@link #commit()}. The returned future completes exceptionally with
+     * {@link OptimisticLockException} if the transaction's optimistic attempt has failed.
+     * <p>Default implementation commits synchronously and returns a completed future.
+     *
+     * @return future that completes when the transaction is committed
+     */
+    default CompletableFuture<Void> commitAsync() {
+        try {
+            commit();
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Rollbacks that transaction. This method <strong>must</strong> be called in the end unless {@link #commit()} method was chosen for calling.
      * If this method throws an exception, the transaction consistency is not confirmed and none of its results can be used
@@ -34,6 +52,21 @@ public interface RepositoryTransaction {
      */
     void rollback() throws OptimisticLockException;
 
+    /**
+     * Asynchronous counterpart of {@link #rollback()}.
+     * <p>Default implementation rolls back synchronously and returns a completed future.
+     *
+     * @return future that completes when the transaction is rolled back
+     */
+    default CompletableFuture<Void> rollbackAsync() {
+        try {
+            rollback();
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     TransactionLocal getTransactionLocal();
 
     TxOptions getOptions();
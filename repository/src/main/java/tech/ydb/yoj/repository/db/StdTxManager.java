@@ -16,12 +16,14 @@ import tech.ydb.yoj.ExperimentalApi;
 import tech.ydb.yoj.repository.db.cache.TransactionLog;
 import tech.ydb.yoj.repository.db.exception.QueryInterruptedException;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
+import tech.ydb.yoj.util.lang.Exceptions;
 import tech.ydb.yoj.util.lang.Strings;
 import tech.ydb.yoj.util.log.MdcSetup;
 import tech.ydb.yoj.util.retry.RetryPolicy;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -38,6 +40,10 @@ import static tech.ydb.yoj.repository.db.IsolationLevel.SERIALIZABLE_READ_WRITE;
  * <p>If you need to decorate transaction execution logic with e.g. additional logging, tracing, rate limiting etc.,
  * extend {@link DelegatingTxManager}, and override one or both of {@link DelegatingTxManager#doRunTx(Supplier)}
  * and {@link DelegatingTxManager#wrapTxBody(Supplier) wrapTxBody()} methods.
+ * <p>Transactions run on the calling thread, and {@link Tx.Current} is a {@code ThreadLocal} bound to it.
+ * {@code StdTxManager} has no mode of its own for running transactions on virtual threads. You can call it
+ * from virtual threads (Java 21+) that you start yourself. YOJ waits for the database in {@code Future.get()}
+ * and blocking queue polls, and does not hold monitors while it waits.
  *
  * @see TxManager
  * @see DelegatingTxManager
@@ -141,6 +147,22 @@ public final class StdTxManager implements TxManager, TxManagerState {
         return withOptions(this.options.withImmediateWrites(true));
     }
 
+    @Override
+    public StdTxManager batchedWrites() {
+        return withOptions(this.options.withBatchedWrites(true));
+    }
+
+    @Override
+    public StdTxManager dirtyColumnUpdates() {
+        return withOptions(this.options.withDirtyColumnUpdates(true));
+    }
+
+    @Override
+    public StdTxManager continueTruncatedResults(long maxRows) {
+        Preconditions.checkArgument(maxRows > 0, "maxRows must be positive, got: %s", maxRows);
+        return withOptions(this.options.withMaxContinuedResultRows(maxRows));
+    }
+
     @Override
     public StdTxManager noFirstLevelCache() {
         return withOptions(this.options.withFirstLevelCache(false));
@@ -270,6 +292,35 @@ public final class StdTxManager implements TxManager, TxManagerState {
         }
     }
 
+    @Override
+    public <T> CompletableFuture<T> txAsync(Supplier<CompletableFuture<T>> supplier) {
+        TxName txName = txNameGenerator.generate();
+
+        try {
+            checkSeparatePolicy(separatePolicy, txName.logName());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long txLogId = txLogIdSeq.incrementAndGet();
+
+        Timer totalTimer = totalDuration.labels(txName.name()).startTimer();
+        return new AsyncTxRun<>(txName, txLogId, supplier).start()
+                .whenComplete((result, thrown) -> {
+                    totalTimer.observeDuration();
+                    if (thrown != null) {
+                        return;
+                    }
+
+                    if (options.isDryRun()) {
+                        results.labels(txName.name(), "rollback").inc();
+                        results.labels(txName.name(), "dry_run").inc();
+                    } else {
+                        results.labels(txName.name(), "commit").inc();
+                    }
+                });
+    }
+
     private static void checkSeparatePolicy(SeparatePolicy separatePolicy, String txName) {
         if (!Tx.Current.exists()) {
             return;
@@ -312,17 +363,20 @@ public final class StdTxManager implements TxManager, TxManagerState {
     }
 
     private void sleepBeforeNextAttempt(RetryableException e, int attempt) {
-        var customRetryPolicy = customRetryPolicyProvider != null ? customRetryPolicyProvider.getRetryPolicy(e) : null;
-        var retryPolicy = customRetryPolicy != null ? customRetryPolicy : e.getRetryPolicy();
-
         try {
-            MILLISECONDS.sleep(retryPolicy.calcDuration(attempt).toMillis());
+            MILLISECONDS.sleep(getRetryDelay(e, attempt).toMillis());
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
             throw new QueryInterruptedException("DB query interrupted", ex);
         }
     }
 
+    private Duration getRetryDelay(RetryableException e, int attempt) {
+        var customRetryPolicy = customRetryPolicyProvider != null ? customRetryPolicyProvider.getRetryPolicy(e) : null;
+        var retryPolicy = customRetryPolicy != null ? customRetryPolicy : e.getRetryPolicy();
+        return retryPolicy.calcDuration(attempt);
+    }
+
     @Override
     public TxManagerState getState() {
         return this;
@@ -385,6 +439,95 @@ public final class StdTxManager implements TxManager, TxManagerState {
         RetryPolicy getRetryPolicy(RetryableException e);
     }
 
+    /**
+     * Asynchronous counterpart of {@code runTxWithRetry()}: runs transaction
+     * attempts one after another, scheduling each retry on a {@link CompletableFuture#delayedExecutor delayed executor}
+     * instead of sleeping.
+     */
+    @RequiredArgsConstructor
+    private final class AsyncTxRun<T> {
+        private final TxName txName;
+        private final long txLogId;
+        private final Supplier<CompletableFuture<T>> supplier;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private TxImpl lastTx;
+        private int attempt = 1;
+
+        private CompletableFuture<T> start() {
+            runAttempt();
+            return result;
+        }
+
+        private void runAttempt() {
+            Timer attemptTimer = attemptDuration.labels(txName.name()).startTimer();
+
+            CompletableFuture<T> attemptResult;
+            MdcSetup mdcs = txMdcs(txName, txLogId).put("tx-attempt", attempt);
+            try {
+                lastTx = null;
+                RepositoryTransaction transaction = repository.startTransaction(options);
+                lastTx = new TxImpl(txName.name(), transaction, options);
+                attemptResult = lastTx.runAsync(supplier);
+            } catch (Exception e) {
+                attemptResult = CompletableFuture.failedFuture(e);
+            } finally {
+                mdcs.restore();
+            }
+
+            attemptResult.whenComplete((value, thrown) -> {
+                attemptTimer.observeDuration();
+                try {
+                    onAttemptComplete(value, thrown);
+                } catch (Throwable t) {
+                    finish(null, t);
+                }
+            });
+        }
+
+        private void onAttemptComplete(T value, Throwable thrown) {
+            if (thrown == null) {
+                finish(value, null);
+                return;
+            }
+
+            Throwable t = Exceptions.unwrapCompletionException(thrown);
+            if (t instanceof RetryableException e) {
+                retries.labels(txName.name(), getExceptionNameForMetric(e)).inc();
+                if (attempt < maxAttemptCount) {
+                    Duration delay = getRetryDelay(e, attempt);
+                    attempt++;
+                    CompletableFuture.delayedExecutor(delay.toMillis(), MILLISECONDS).execute(this::runAttempt);
+                } else {
+                    results.labels(txName.name(), "fail").inc();
+                    finish(null, e.rethrow());
+                }
+            } else {
+                results.labels(txName.name(), "rollback").inc();
+                finish(null, t);
+            }
+        }
+
+        private void finish(T value, Throwable thrown) {
+            Throwable failure = thrown;
+            try {
+                if (!options.isDryRun() && lastTx != null) {
+                    lastTx.runDeferredFinally();
+                }
+            } catch (Throwable t) {
+                // Same as in runTxWithRetry(): exception from runDeferredFinally() replaces the transaction result
+                failure = t;
+            }
+            attempts.labels(txName.name()).observe(attempt);
+
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
     @AllArgsConstructor
     private class ScanBuilderImpl implements ScanBuilder {
         @With(AccessLevel.PRIVATE)
@@ -400,6 +543,11 @@ public final class StdTxManager implements TxManager, TxManagerState {
             return withOptions(options.withTimeout(timeout));
         }
 
+        @Override
+        public ScanBuilder withUseNewSpliterator(boolean useNewSpliterator) {
+            return withOptions(options.withUseNewSpliterator(useNewSpliterator));
+        }
+
         @Override
         public <T> T run(Supplier<T> supplier) throws RetryableException {
             TxOptions txOptions = StdTxManager.this.options
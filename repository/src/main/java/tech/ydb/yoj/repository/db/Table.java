@@ -1,11 +1,13 @@
 package tech.ydb.yoj.repository.db;
 
+import com.google.common.collect.Iterators;
 import lombok.NonNull;
 import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.databind.expression.FilterExpression;
 import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.repository.db.bulk.BulkParams;
 import tech.ydb.yoj.repository.db.internal.TableQueryImpl;
+import tech.ydb.yoj.repository.db.list.InMemoryQueries;
 import tech.ydb.yoj.repository.db.list.ListRequest;
 import tech.ydb.yoj.repository.db.list.ListResult;
 import tech.ydb.yoj.repository.db.list.ViewListResult;
@@ -18,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -128,6 +131,36 @@ public interface Table<T extends Entity<T>> {
 
     <ID extends Entity.Id<T>> Stream<T> streamPartial(ID partial, int batchSize);
 
+    /**
+     * Same as {@link #streamAll(int)}, but reads up to {@code prefetchBatches} batches ahead of the stream consumer:
+     * the next batch is requested from the database as soon as the previous one arrives, while the consumer is still
+     * processing earlier entities.
+     * <p>Default implementation ignores {@code prefetchBatches}. While such a stream is being consumed, the same
+     * transaction <strong>must not</strong> be used to run other queries; consume the stream fully, or
+     * {@link Stream#close() close} it before doing anything else with the transaction.
+     *
+     * @param batchSize       number of entities to fetch in each query
+     * @param prefetchBatches maximum number of batches to read ahead; {@code 0} disables read-ahead
+     * @return stream of all entities in the table
+     */
+    default Stream<T> streamAll(int batchSize, int prefetchBatches) {
+        return streamAll(batchSize);
+    }
+
+    /**
+     * Same as {@link #streamPartial(Entity.Id, int)}, but reads up to {@code prefetchBatches} batches ahead of the
+     * stream consumer.
+     *
+     * @param partial         partial ID
+     * @param batchSize       number of entities to fetch in each query
+     * @param prefetchBatches maximum number of batches to read ahead; {@code 0} disables read-ahead
+     * @return stream of the entities having the specified partial ID
+     * @see #streamAll(int, int)
+     */
+    default <ID extends Entity.Id<T>> Stream<T> streamPartial(ID partial, int batchSize, int prefetchBatches) {
+        return streamPartial(partial, batchSize);
+    }
+
     <ID extends Entity.Id<T>, V extends ViewId<T>> Stream<V> streamPartial(Class<V> viewType, ID partial, int batchSize);
 
     <ID extends Entity.Id<T>> Stream<ID> streamAllIds(int batchSize);
@@ -173,6 +206,110 @@ public interface Table<T extends Entity<T>> {
         return found != null ? found : defaultSupplier.get();
     }
 
+    /**
+     * Schedules a point read of the entity with the specified ID. All point reads scheduled for this table in the current
+     * transaction are performed together, as a single {@link #find(Set) batch read}, when any of the returned handles
+     * is first {@link Supplier#get() accessed}. This avoids a database roundtrip for each ID when entities are looked up
+     * one by one, e.g. in a loop: schedule all reads first, and only then access the handles.
+     * <p>The handle returns the entity as it was when the batch was read, or {@code null} if there is no such entity.
+     * It must only be used in the transaction that created it.
+     *
+     * @param id entity ID
+     * @return handle of the entity that will be found
+     */
+    default Supplier<T> findLater(@NonNull Entity.Id<T> id) {
+        if (id.isPartial()) {
+            throw new IllegalArgumentException("Cannot use partial id in find method");
+        }
+        return BatchedReads.current().schedule(this, id);
+    }
+
+    /**
+     * Schedules a point read of the view of the entity with the specified ID, e.g. to load only the heavy columns
+     * that most read paths do not need. All view reads scheduled for this table and view type in the current transaction
+     * are performed together, as a single {@link #find(Class, Set) batch read}, when any of the returned handles
+     * is first {@link Supplier#get() accessed}.
+     * <p>Views of entities that are in the first-level cache are built from the cached entities instead, so that the
+     * changes made in the current transaction are visible, and no database read is needed.
+     * <p>The handle returns the view as it was when the batch was read, or {@code null} if there is no such entity.
+     * It must only be used in the transaction that created it.
+     *
+     * @param viewType view type; views must be {@link ViewId ID-aware} so that batch read results can be matched to IDs
+     * @param id       entity ID
+     * @return handle of the view that will be found
+     * @see #findLater(Entity.Id)
+     */
+    default <V extends ViewId<T>> Supplier<V> findLater(@NonNull Class<V> viewType, @NonNull Entity.Id<T> id) {
+        if (id.isPartial()) {
+            throw new IllegalArgumentException("Cannot use partial id in find method");
+        }
+        return BatchedReads.current().schedule(this, viewType, id);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #find(Entity.Id)}.
+     * <p>Default implementation performs the lookup synchronously and returns a completed future. Implementations
+     * that can talk to the database without blocking (e.g., the YDB repository) override this method.
+     * <p>Asynchronous operations on the same transaction must be performed <em>sequentially</em>: start the next
+     * operation only after the future returned by the previous one has completed.
+     *
+     * @param id entity ID
+     * @return future of the entity found, or of {@code null} if there is no such entity
+     * @see TxManager#txAsync(Supplier)
+     */
+    default CompletableFuture<T> findAsync(Entity.Id<T> id) {
+        return completedOrFailed(() -> find(id));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #find(Set)}.
+     *
+     * @param ids entity IDs; partial IDs are allowed
+     * @return future of the entities found
+     * @see #findAsync(Entity.Id)
+     */
+    default <ID extends Entity.Id<T>> CompletableFuture<List<T>> findAsync(Set<ID> ids) {
+        return completedOrFailed(() -> find(ids));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #find(String, FilterExpression, OrderExpression, Integer, Long)}.
+     *
+     * @return future of the entities found
+     * @see #findAsync(Entity.Id)
+     * @see TableQueryBuilder#findAsync()
+     */
+    default CompletableFuture<List<T>> findAsync(
+            @Nullable String indexName,
+            @Nullable FilterExpression<T> filter,
+            @Nullable OrderExpression<T> orderBy,
+            @Nullable Integer limit,
+            @Nullable Long offset
+    ) {
+        return completedOrFailed(() -> find(indexName, filter, orderBy, limit, offset));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #save(Entity)}.
+     * <p>Note that in {@link TxManager#delayedWrites() delayed writes} mode (the default) {@code save()} does not
+     * access the database at all; the write is sent on transaction commit.
+     *
+     * @param t entity to save
+     * @return future of the saved entity
+     * @see #findAsync(Entity.Id)
+     */
+    default CompletableFuture<T> saveAsync(T t) {
+        return completedOrFailed(() -> save(t));
+    }
+
+    private static <R> CompletableFuture<R> completedOrFailed(Supplier<R> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     default <V extends View, X extends Exception> V find(Class<V> viewType, Entity.Id<T> id, Supplier<? extends X> throwIfAbsent) throws X {
         V found = find(viewType, id);
         if (found != null) {
@@ -258,16 +395,27 @@ public interface Table<T extends Entity<T>> {
 
     default ListResult<T> list(ListRequest<T> request) {
         List<T> nextPage = TableQueryImpl.toQueryBuilder(this, request).find();
-        return ListResult.forPage(request, TableQueryImpl.postLoad(this, nextPage));
+        Long totalCount = request.isTotalCount() ? TableQueryImpl.countQueryBuilder(this, request).count() : null;
+        return ListResult.forPage(request, TableQueryImpl.postLoad(this, nextPage), totalCount);
     }
 
     default <V extends Table.View> ViewListResult<T, V> list(Class<V> viewType, ListRequest<T> request) {
         List<V> nextPage = TableQueryImpl.toQueryBuilder(this, request).find(viewType);
-        return ViewListResult.forPage(request, viewType, nextPage);
+        Long totalCount = request.isTotalCount() ? TableQueryImpl.countQueryBuilder(this, request).count() : null;
+        return ViewListResult.forPage(request, viewType, nextPage, totalCount);
     }
 
     void bulkUpsert(List<T> input, BulkParams params);
 
+    /**
+     * Bulk upserts all entities of the {@code input} stream, in batches of at most {@link BulkParams#getMaxBatchRows()}
+     * entities, without reading the whole stream into memory. The stream is not closed by this method.
+     * <p>The default implementation upserts the batches one by one, by {@link #bulkUpsert(List, BulkParams)}.
+     */
+    default void bulkUpsert(Stream<T> input, BulkParams params) {
+        Iterators.partition(input.iterator(), params.getMaxBatchRows()).forEachRemaining(batch -> bulkUpsert(batch, params));
+    }
+
     @NonNull
     @InternalApi
     T postLoad(@NonNull T e);
@@ -276,6 +424,27 @@ public interface Table<T extends Entity<T>> {
         return count(null, filter);
     }
 
+    /**
+     * Computes aggregates over the entities matching the filter.
+     * <p>Default implementation reads all matching entities and aggregates them in memory. Implementations that can
+     * compute aggregates in the database (e.g., the YDB repository) override this method.
+     *
+     * @param resultType aggregation result type
+     * @param indexName  index to use; {@code null} means primary key
+     * @param filter     filter to apply; {@code null} means no filter
+     * @param groupBy    paths of the flat fields to group by; can be empty
+     * @param aggregates aggregates to compute
+     * @return aggregation results
+     * @see TableQueryBuilder#aggregate(Class, Aggregate, Aggregate...)
+     */
+    default <V extends View> List<V> aggregate(Class<V> resultType, @Nullable String indexName,
+                                               @Nullable FilterExpression<T> filter,
+                                               List<String> groupBy, List<Aggregate> aggregates) {
+        EntitySchema<T> schema = EntitySchema.of(getType());
+        return InMemoryQueries.aggregate(schema, schema.getViewSchema(resultType),
+                find(indexName, filter, null, null, null), groupBy, aggregates);
+    }
+
     TableQueryBuilder<T> query();
 
     /**
@@ -13,9 +13,11 @@ import tech.ydb.yoj.databind.expression.OrderExpression;
 import tech.ydb.yoj.databind.schema.Schema;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.UnaryOperator;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -37,6 +39,8 @@ public final class TableQueryBuilder<T extends Entity<T>> {
 
     private OrderExpression<T> orderBy = null;
 
+    private List<String> groupBy = List.of();
+
     public TableQueryBuilder(@NonNull Table<T> table, @NonNull EntitySchema<T> schema) {
         this.table = table;
         this.schema = schema;
@@ -96,6 +100,26 @@ public final class TableQueryBuilder<T extends Entity<T>> {
         }
     }
 
+    /**
+     * Asynchronous counterpart of {@link #find()}. Only queries that do not select by {@link #ids(Set) IDs}
+     * or {@link #keys(Set) keys} are executed asynchronously; for the other queries a completed future is returned.
+     *
+     * @return future of the entities found
+     * @see Table#findAsync(String, FilterExpression, OrderExpression, Integer, Long)
+     */
+    @NonNull
+    public CompletableFuture<List<T>> findAsync() {
+        try {
+            if (ids == null && keys == null) {
+                checkIndexOrder();
+                return table.findAsync(indexName, getFinalFilter(), orderBy, limit, offset);
+            }
+            return CompletableFuture.completedFuture(find(limit));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     public <V extends Table.View> List<V> find(Class<V> viewClass, boolean distinct) {
         checkIndexOrder();
 
@@ -134,6 +158,29 @@ public final class TableQueryBuilder<T extends Entity<T>> {
         return table.count(indexName, filter);
     }
 
+    /**
+     * Computes the specified aggregates over the entities matching this query, one result per each distinct combination
+     * of {@link #groupBy(String...) group by field} values (or a single result if no group by fields are specified).
+     * The aggregates are computed by the database, without transferring the matching entities to the client.
+     *
+     * @param resultType aggregation result type
+     * @param first      first aggregate to compute
+     * @param rest       other aggregates to compute
+     * @return aggregation results
+     * @see Aggregate
+     */
+    @NonNull
+    public <V extends Table.View> List<V> aggregate(@NonNull Class<V> resultType,
+                                                    @NonNull Aggregate first, @NonNull Aggregate... rest) {
+        Preconditions.checkState(ids == null && keys == null, "Aggregate query doesn't support selecting by ids/keys");
+        Preconditions.checkState(limit == null && offset == null, "Aggregate query doesn't support limit/offset");
+
+        List<Aggregate> aggregates = new ArrayList<>(1 + rest.length);
+        aggregates.add(first);
+        aggregates.addAll(List.of(rest));
+        return table.aggregate(resultType, indexName, getFinalFilter(), groupBy, aggregates);
+    }
+
     private void checkIndexOrder() {
         if (indexName != null && orderBy == null) {
             String key = "TableQueryBuilder|" + schema.getType().getTypeName() + "|" + indexName;
@@ -308,6 +355,22 @@ public final class TableQueryBuilder<T extends Entity<T>> {
         return filter(buildFilterExpression(filterBuilderOp));
     }
 
+    /**
+     * Groups the entities by the specified fields for {@link #aggregate(Class, Aggregate, Aggregate...) aggregation}.
+     *
+     * @param fieldPaths paths of the flat entity fields to group by
+     * @return this query builder
+     */
+    @NonNull
+    public TableQueryBuilder<T> groupBy(@NonNull String... fieldPaths) {
+        for (String fieldPath : fieldPaths) {
+            Preconditions.checkArgument(schema.getField(fieldPath).isFlat(), "Cannot group by non-flat field: %s", fieldPath);
+        }
+
+        this.groupBy = List.of(fieldPaths);
+        return this;
+    }
+
     @NonNull
     public TableQueryBuilder<T> offset(long offset) {
         this.offset = offset;
@@ -5,10 +5,14 @@ import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.ydb.yoj.repository.db.exception.OptimisticLockException;
+import tech.ydb.yoj.util.lang.Exceptions;
 import tech.ydb.yoj.util.lang.Interrupts;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 final class TxImpl implements Tx {
@@ -50,6 +54,35 @@ final class TxImpl implements Tx {
         return value;
     }
 
+    /**
+     * Asynchronous counterpart of {@link #run(Supplier)}. {@link Tx.Current} is only bound while {@code supplier}
+     * itself and the {@link #deferBeforeCommit(Runnable) before-commit callbacks} run.
+     */
+    <R> CompletableFuture<R> runAsync(Supplier<CompletableFuture<R>> supplier) {
+        Stopwatch sw = Stopwatch.createStarted();
+
+        CompletableFuture<R> body;
+        try {
+            body = Current.runInTx(this, supplier);
+        } catch (Exception e) {
+            body = CompletableFuture.failedFuture(e);
+        }
+
+        return body
+                .thenApply(res -> Current.runInTx(this, () -> {
+                    deferredBeforeCommit.forEach(Runnable::run);
+                    return res;
+                }))
+                .<CompletableFuture<R>>handle((res, thrown) -> thrown == null ? commitAsync(sw, res) : rollbackAsync(sw, thrown))
+                .thenCompose(Function.identity())
+                .thenApply(res -> {
+                    if (!dryRun) {
+                        deferredAfterCommit.forEach(Runnable::run);
+                    }
+                    return res;
+                });
+    }
+
     @Override
     public void defer(Runnable runnable) {
         deferredAfterCommit.add(runnable);
@@ -103,6 +136,53 @@ final class TxImpl implements Tx {
         return res;
     }
 
+    private <R> CompletableFuture<R> commitAsync(Stopwatch sw, R res) {
+        if (dryRun) {
+            return doRollbackAsync(true, String.format("[%s] runInTx(): Rollback due to DRY-RUN mode", sw))
+                    .thenApply(__ -> {
+                        log.debug("[{}] runInTx(): Rollback due to DRY-RUN mode {}", sw, formatExecutionLogMultiline("# "));
+                        return res;
+                    });
+        }
+
+        return repositoryTransaction.commitAsync()
+                .handle((__, thrown) -> {
+                    if (thrown != null) {
+                        Throwable t = Exceptions.unwrapCompletionException(thrown);
+                        log.debug("[{}] runInTx(): Commit failed due to {}{}", sw, t, formatExecutionLogMultiline("?! "), t);
+                        throw new CompletionException(t);
+                    }
+                    if (logStatementOnSuccess) {
+                        log.debug("[{}] runInTx(): Commit {}", sw, formatExecutionLogMultiline(""));
+                    }
+                    return res;
+                });
+    }
+
+    private <R> CompletableFuture<R> rollbackAsync(Stopwatch sw, Throwable thrown) {
+        Throwable t = Exceptions.unwrapCompletionException(thrown);
+        return doRollbackAsync(isBusinessException(t),
+                String.format("[%s] runInTx(): Rollback as inconsistent with business exception %s%s", sw, t, formatExecutionLogMultiline("! ")))
+                .thenApply(__ -> {
+                    log.debug("[{}] runInTx(): Rollback due to {}{}", sw, t, formatExecutionLogMultiline("! "), t);
+                    throw new CompletionException(t);
+                });
+    }
+
+    private CompletableFuture<Void> doRollbackAsync(boolean isBusinessException, String businessExceptionLogMessage) {
+        return repositoryTransaction.rollbackAsync()
+                .exceptionally(thrown -> {
+                    Throwable t = Exceptions.unwrapCompletionException(thrown);
+                    if (t instanceof OptimisticLockException) {
+                        if (!isBusinessException) {
+                            return null;
+                        }
+                        log.debug(businessExceptionLogMessage);
+                    }
+                    throw new CompletionException(t);
+                });
+    }
+
     private void doRollback(boolean isBusinessException, String businessExceptionLogMessage) {
         try {
             // Note that should we catch an InterruptedException from any place other than the transaction methods,
@@ -9,6 +9,7 @@ import tech.ydb.yoj.repository.db.exception.QueryCancelledException;
 import tech.ydb.yoj.repository.db.exception.RetryableException;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public interface TxManager {
@@ -57,6 +58,32 @@ public interface TxManager {
      */
     TxManager immediateWrites();
 
+    /**
+     * Send delayed writes to the database in as few requests as possible, instead of one request per merged write
+     * statement. E.g., a YDB transaction writing to 5 tables will send a single multi-statement query on commit,
+     * instead of 5+ separate queries.
+     * <p>Has no effect in {@link #immediateWrites() immediate writes} mode.
+     *
+     * @see #delayedWrites()
+     */
+    TxManager batchedWrites();
+
+    /**
+     * When saving an entity that has been read in the same transaction, write only the columns that have changed,
+     * instead of the whole row. Saves network traffic and write amplification for wide entities with large columns.
+     * <p>Has no effect in {@link #immediateWrites() immediate writes} mode, or if the {@link #noFirstLevelCache()
+     * first-level cache is disabled}.
+     */
+    TxManager dirtyColumnUpdates();
+
+    /**
+     * Instead of failing on query results truncated by the database's result row limit, read them to the end by
+     * follow-up queries, as long as the query reads whole entities ordered by Entity ID, e.g. {@code Table.find(filter)}.
+     *
+     * @param maxRows maximum total number of results to read; larger results still fail
+     */
+    TxManager continueTruncatedResults(long maxRows);
+
     /**
      * Turn off first level cache
      */
@@ -211,6 +238,25 @@ public interface TxManager {
      */
     void tx(Runnable runnable);
 
+    /**
+     * Asynchronously performs the specified action inside a transaction. The action must be idempotent, because it might
+     * be executed multiple times in case of {@link OptimisticLockException transaction lock invalidation}.
+     * <p>The action is called with the transaction bound to {@link Tx.Current}, and must return a future that is completed
+     * by a chain of <em>sequential</em> asynchronous calls ({@code Table.findAsync()}, {@code Table.saveAsync()},
+     * {@code TableQueryBuilder.findAsync()} etc.) on the {@code Table}s obtained while the action was running.
+     * The transaction is committed asynchronously when that future completes. Retries are scheduled with a delay,
+     * without blocking any thread; the first attempt runs on the calling thread, and retries run on the
+     * {@link java.util.concurrent.CompletableFuture#delayedExecutor(long, java.util.concurrent.TimeUnit) delayed executor}.
+     * <p>Entity {@code postLoad()}, the transaction's {@link Tx#defer(Runnable) deferred actions}, and callbacks chained
+     * without an explicit executor run on the thread that completes the preceding future. For the YDB repository, this
+     * is a per-transaction sequential executor, and never a YDB SDK thread, so the (non-thread-safe) transaction state
+     * is only accessed by one thread at a time, provided that the asynchronous calls are sequential.
+     *
+     * @param supplier action to perform
+     * @return future of the action result
+     */
+    <T> CompletableFuture<T> txAsync(Supplier<CompletableFuture<T>> supplier);
+
     /**
      * Start a transaction-like session of read-only statements. Each statement will be executed <em>separately</em>,
      * with the specified isolation level (online consistent read-only, by default).
@@ -241,6 +287,15 @@ public interface TxManager {
 
         ScanBuilder withTimeout(Duration timeout);
 
+        /**
+         * <strong>Experimental API:</strong> Reads scan query results with the new {@code Spliterator}
+         * implementation, if {@code true}; with the legacy implementation (which is the default), if {@code false}.
+         *
+         * @see TxOptions.ScanOptions#isUseNewSpliterator()
+         */
+        @ExperimentalApi(issue = "https://github.com/ydb-platform/yoj-project/issues/42")
+        ScanBuilder withUseNewSpliterator(boolean useNewSpliterator);
+
         <T> T run(Supplier<T> supplier);
 
         default void run(Runnable runnable) {
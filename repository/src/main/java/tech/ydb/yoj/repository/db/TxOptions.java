@@ -35,6 +35,30 @@ public class TxOptions {
 
     boolean immediateWrites;
 
+    /**
+     * If {@code true}, delayed writes are sent to the database in as few requests as possible (in YDB, merged write
+     * statements for different tables are combined into a single multi-statement query), instead of one request per
+     * merged write statement. Has no effect with {@link #isImmediateWrites() immediate writes}.
+     */
+    boolean batchedWrites;
+
+    /**
+     * If {@code true}, a delayed {@code save()} of an entity that was read in the same transaction only writes the
+     * columns that differ from the value that was read (in YDB, via a merged {@code UPDATE ... ON} statement),
+     * instead of writing the whole row. Has no effect with {@link #isImmediateWrites() immediate writes} or
+     * without the {@link #isFirstLevelCache() first-level cache}.
+     */
+    boolean dirtyColumnUpdates;
+
+    /**
+     * If positive, a query result truncated by the database's result row limit is transparently read to the end by
+     * follow-up queries that read the results after the last one returned, as long as the query reads whole entities
+     * ordered by Entity ID (e.g., {@code Table.find(filter)}), and the total number of results does not exceed this
+     * value. Otherwise (and by default), truncated results fail with {@code ResultTruncatedException}.
+     * <p>In YDB, only applies to synchronous data queries.
+     */
+    long maxContinuedResultRows;
+
     QueryStatsMode queryStats;
 
     /**
@@ -138,6 +162,23 @@ public class TxOptions {
 
         long maxSize;
         Duration timeout;
+
+        /**
+         * Set this to {@code true} to read scan query results with the new {@code Spliterator} implementation
+         * (see {@link tech.ydb.yoj.repository.db.TxManager.ScanBuilder#withUseNewSpliterator(boolean)
+         * ScanBuilder.withUseNewSpliterator()}). Defaults to {@code false}; the default will change to {@code true}
+         * in a future YOJ release.
+         * <p>The new implementation differs from the legacy one in the following ways:
+         * <ul>
+         * <li>Result set parts are handed over from the YDB SDK thread to the calling thread, and the SDK thread
+         * waits until the calling thread takes each part, instead of collecting all the results on the SDK thread.</li>
+         * <li>The calling thread must take each part within {@link #getTimeout() timeout} plus 1 minute since the
+         * query has started, instead of waiting for the whole query for at most 5 minutes.</li>
+         * <li>A result larger than {@link #getMaxSize() maxSize} fails with {@code ResultTruncatedException} itself,
+         * instead of a {@code YdbRepositoryException} caused by it.</li>
+         * </ul>
+         */
+        @ExperimentalApi(issue = "https://github.com/ydb-platform/yoj-project/issues/42")
         boolean useNewSpliterator;
     }
 }
@@ -1,5 +1,6 @@
 package tech.ydb.yoj.repository.db.bulk;
 
+import com.google.common.base.Preconditions;
 import lombok.Builder;
 import lombok.Value;
 
@@ -21,4 +22,38 @@ public class BulkParams {
 
     @Builder.Default
     String traceId = null;
+
+    /**
+     * Maximum number of rows in a single bulk upsert request, when bulk upserting a {@code Stream}.
+     */
+    @Builder.Default
+    int maxBatchRows = 10_000;
+
+    /**
+     * Maximum estimated size of the rows in a single bulk upsert request, in bytes, when bulk upserting a {@code Stream}.
+     */
+    @Builder.Default
+    long maxBatchBytes = 16L * 1024 * 1024;
+
+    /**
+     * Maximum number of concurrent bulk upsert requests, when bulk upserting a {@code Stream}. Reading of the stream
+     * is paused while this many requests are in flight.
+     */
+    @Builder.Default
+    int maxInFlight = 4;
+
+    private BulkParams(Duration timeout, Duration cancelAfter, long deadlineAfter, String traceId,
+                       int maxBatchRows, long maxBatchBytes, int maxInFlight) {
+        Preconditions.checkArgument(maxBatchRows > 0, "maxBatchRows must be > 0, got: %s", maxBatchRows);
+        Preconditions.checkArgument(maxBatchBytes > 0, "maxBatchBytes must be > 0, got: %s", maxBatchBytes);
+        Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be > 0, got: %s", maxInFlight);
+
+        this.timeout = timeout;
+        this.cancelAfter = cancelAfter;
+        this.deadlineAfter = deadlineAfter;
+        this.traceId = traceId;
+        this.maxBatchRows = maxBatchRows;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxInFlight = maxInFlight;
+    }
 }
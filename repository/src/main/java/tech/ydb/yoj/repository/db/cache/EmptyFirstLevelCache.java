@@ -2,6 +2,7 @@ package tech.ydb.yoj.repository.db.cache;
 
 import lombok.NonNull;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.Range;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -46,6 +47,11 @@ import java.util.function.Function;
         // NOOP
     }
 
+    @Override
+    public <ID extends Entity.Id<E>> void putEmpty(@NonNull Range<ID> range) {
+        // NOOP
+    }
+
     @Override
     public void remove(Entity.@NonNull Id<E> id) {
         // NOOP
@@ -3,6 +3,7 @@ package tech.ydb.yoj.repository.db.cache;
 import lombok.NonNull;
 import tech.ydb.yoj.InternalApi;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.Range;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -63,6 +64,16 @@ public interface FirstLevelCache<E extends Entity<E>> {
      */
     void putEmpty(@NonNull Entity.Id<E> id);
 
+    /**
+     * Records all entities with IDs in the specified range as being nonexistent, including the entities that are not
+     * in the cache (and so are not returned by {@link #snapshot()}). Entities {@link #put(Entity) put} into the cache
+     * afterwards are recorded as existing.
+     *
+     * @param range           entity ID range
+     * @see #putEmpty(Entity.Id)
+     */
+    <ID extends Entity.Id<E>> void putEmpty(@NonNull Range<ID> range);
+
     /**
      * Removes the entity with the specified ID from the first-level cache, forcing a reload from the DB on the next read operation.
      * <p>Unlike {@link #putEmpty(Entity.Id)}, this does not indicate that the entity does not exist; only that it's in such a state in DB
@@ -2,8 +2,10 @@ package tech.ydb.yoj.repository.db.cache;
 
 import lombok.NonNull;
 import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.Range;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +15,8 @@ import java.util.function.Function;
 
 /*package*/ final class FirstLevelCacheImpl<E extends Entity<E>> implements FirstLevelCache<E> {
     private final Map<Entity.Id<E>, Optional<E>> cache = new HashMap<>();
+    // Entities with IDs in these ranges do not exist, unless they are in the cache
+    private final List<Range<? extends Entity.Id<E>>> emptyRanges = new ArrayList<>();
 
     @NonNull
     @Override
@@ -20,6 +24,9 @@ import java.util.function.Function;
         if (cache.containsKey(id)) {
             return cache.get(id);
         }
+        if (isInEmptyRange(id)) {
+            return Optional.empty();
+        }
         throw new NoSuchElementException();
     }
 
@@ -29,6 +36,10 @@ import java.util.function.Function;
         if (cache.containsKey(id)) {
             return cache.get(id).orElse(null);
         }
+        if (isInEmptyRange(id)) {
+            cache.put(id, Optional.empty());
+            return null;
+        }
 
         E entity = loader.apply(id);
         cache.put(id, Optional.ofNullable(entity));
@@ -52,6 +63,12 @@ import java.util.function.Function;
         cache.put(id, Optional.empty());
     }
 
+    @Override
+    public <ID extends Entity.Id<E>> void putEmpty(@NonNull Range<ID> range) {
+        cache.replaceAll((id, entity) -> contains(range, id) ? Optional.empty() : entity);
+        emptyRanges.add(range);
+    }
+
     @Override
     public void remove(@NonNull Entity.Id<E> id) {
         cache.remove(id);
@@ -59,6 +76,20 @@ import java.util.function.Function;
 
     @Override
     public boolean containsKey(@NonNull Entity.Id<E> id) {
-        return cache.containsKey(id);
+        return cache.containsKey(id) || isInEmptyRange(id);
+    }
+
+    private boolean isInEmptyRange(Entity.Id<E> id) {
+        for (Range<? extends Entity.Id<E>> range : emptyRanges) {
+            if (contains(range, id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ID extends Entity.Id<?>> boolean contains(Range<ID> range, Entity.Id<?> id) {
+        return range.contains((ID) id);
     }
 }
@@ -19,8 +19,10 @@ import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,15 +50,47 @@ public final class TableQueryImpl {
         }
 
         var orderBy = EntityExpressions.defaultOrder(schema);
-        var isPartialIdMode = ids.iterator().next().isPartial();
+        var foundInCache = findInCache(cache, ids);
+        var remainingIds = Sets.difference(ids, foundInCache.keySet());
+        var foundInDb = table.findUncached(remainingIds, null, orderBy, null);
+
+        return mergeWithCache(table, schema, cache, ids, foundInCache, foundInDb);
+    }
 
-        var foundInCache = ids.stream()
+    /**
+     * Asynchronous counterpart of {@link #find(Table, EntitySchema, FirstLevelCache, Set)}.
+     *
+     * @param findUncached asynchronously finds entities by IDs that are not in the first-level cache,
+     *                     sorted by the {@link EntityExpressions#defaultOrder(EntitySchema) default order}
+     */
+    @NonNull
+    public static <E extends Entity<E>, ID extends Entity.Id<E>> CompletableFuture<List<E>> findAsync(
+            @NonNull Table<E> table, @NonNull EntitySchema<E> schema, @NonNull FirstLevelCache<E> cache,
+            @NonNull Set<ID> ids, @NonNull Function<Set<ID>, CompletableFuture<List<E>>> findUncached
+    ) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        var foundInCache = findInCache(cache, ids);
+        var remainingIds = Sets.difference(ids, foundInCache.keySet());
+        return findUncached.apply(remainingIds)
+                .thenApply(foundInDb -> mergeWithCache(table, schema, cache, ids, foundInCache, foundInDb));
+    }
+
+    private static <E extends Entity<E>> Map<Entity.Id<E>, E> findInCache(FirstLevelCache<E> cache, Set<? extends Entity.Id<E>> ids) {
+        return ids.stream()
                 .filter(cache::containsKey)
                 .map(cache::peek)
                 .flatMap(Optional::stream)
                 .collect(Collectors.toMap(Entity::getId, Function.identity()));
-        var remainingIds = Sets.difference(ids, foundInCache.keySet());
-        var foundInDb = table.findUncached(remainingIds, null, orderBy, null);
+    }
+
+    private static <E extends Entity<E>> List<E> mergeWithCache(
+            Table<E> table, EntitySchema<E> schema, FirstLevelCache<E> cache,
+            Set<? extends Entity.Id<E>> ids, Map<Entity.Id<E>, E> foundInCache, List<E> foundInDb
+    ) {
+        var isPartialIdMode = ids.iterator().next().isPartial();
 
         var merged = new HashMap<Entity.Id<E>, E>();
 
@@ -101,6 +135,13 @@ public final class TableQueryImpl {
                 .limit(request.getPageSize() + 1);
     }
 
+    @NonNull
+    public static <E extends Entity<E>> TableQueryBuilder<E> countQueryBuilder(@NonNull Table<E> table, @NonNull ListRequest<E> request) {
+        return table.query()
+                .index(request.getIndex())
+                .filter(request.getCountFilter());
+    }
+
     public static <T extends Entity<T>> List<T> find(@NonNull StreamSupplier<T> streamSupplier,
                                                      @NonNull EntitySchema<T> schema,
                                                      @Nullable FilterExpression<T> filter,
@@ -132,6 +173,25 @@ public final class TableQueryImpl {
         }
     }
 
+    /**
+     * @return {@code true} if the entity type overrides {@link Entity#createProjections()}, and thus deleting it
+     * requires reading the entity first to find out which projections to delete
+     */
+    public static boolean hasProjections(@NonNull Class<?> entityType) {
+        return HAS_PROJECTIONS.get(entityType);
+    }
+
+    private static final ClassValue<Boolean> HAS_PROJECTIONS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("createProjections").getDeclaringClass() != Entity.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     @NonNull
     public static <T extends Entity<T>> List<T> postLoad(@NonNull Table<T> table, @NonNull List<T> list) {
         return list.stream().map(table::postLoad).collect(toList());
@@ -7,6 +7,7 @@ import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -45,6 +46,13 @@ public abstract class GenericListResult<T extends Entity<T>, R> implements Itera
     @NonNull
     private final ListRequest<T> request;
 
+    /**
+     * Total number of entities matching the listing request's filter, if {@link ListRequest#isTotalCount() requested};
+     * {@code null} otherwise.
+     */
+    @Nullable
+    private final Long totalCount;
+
     @NonNull
     @Override
     public final Iterator<R> iterator() {
@@ -102,6 +110,7 @@ public abstract class GenericListResult<T extends Entity<T>, R> implements Itera
     public abstract static class Builder<T extends Entity<T>, R, Target> {
         protected List<R> entries;
         protected boolean lastPage;
+        protected Long totalCount;
         protected final ListRequest<T> request;
 
         Builder(ListRequest<T> request) {
@@ -120,12 +129,19 @@ public abstract class GenericListResult<T extends Entity<T>, R> implements Itera
             return this;
         }
 
+        @NonNull
+        public Builder<T, R, Target> totalCount(@Nullable Long totalCount) {
+            this.totalCount = totalCount;
+            return this;
+        }
+
         @NonNull
         public abstract Target build();
 
         @NonNull
         public String toString() {
-            return "Builder(entries=" + this.entries + ", lastPage=" + this.lastPage + ", request=" + this.request + ")";
+            return "Builder(entries=" + this.entries + ", lastPage=" + this.lastPage + ", totalCount=" + this.totalCount
+                    + ", request=" + this.request + ")";
         }
     }
 }
@@ -1,5 +1,6 @@
 package tech.ydb.yoj.repository.db.list;
 
+import com.google.common.primitives.Primitives;
 import lombok.NonNull;
 import tech.ydb.yoj.databind.expression.AndExpr;
 import tech.ydb.yoj.databind.expression.FilterExpression;
@@ -13,19 +14,25 @@ import tech.ydb.yoj.databind.expression.TupleExpr;
 import tech.ydb.yoj.databind.expression.values.FieldValue;
 import tech.ydb.yoj.databind.schema.Schema;
 import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.db.Aggregate;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.internal.TableQueryImpl;
 import tech.ydb.yoj.util.function.StreamSupplier;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
 import static tech.ydb.yoj.databind.expression.OrderExpression.SortOrder.ASCENDING;
@@ -45,7 +52,10 @@ public final class InMemoryQueries {
                         request.getOrderBy(),
                         request.getPageSize() + 1,
                         request.getOffset()
-                )
+                ),
+                request.isTotalCount()
+                        ? (long) TableQueryImpl.find(streamSupplier, request.getSchema(), request.getCountFilter(), null, null, null).size()
+                        : null
         );
     }
 
@@ -127,16 +137,25 @@ public final class InMemoryQueries {
     }
 
     public static <T> Comparator<T> toComparator(@NonNull OrderExpression<T> orderBy) {
+        return toComparator(orderBy, orderBy.getSchema());
+    }
+
+    /**
+     * @param orderBy      ordering
+     * @param resultSchema schema of the objects to compare; must have columns with the same names as the
+     *                     {@code orderBy} fields, e.g. a view or ID schema of the entity that {@code orderBy} is for
+     * @return comparator ordering objects of {@code resultSchema} the same way as {@code orderBy} orders the entities
+     */
+    public static <R> Comparator<R> toComparator(@NonNull OrderExpression<?> orderBy, @NonNull Schema<R> resultSchema) {
         if (orderBy.isUnordered()) {
             // Produces a randomly-ordering, but stable Comparator. UUID.randomUUID() collisions are extremely unlikely, so we ignore them.
             Map<Object, UUID> randomIds = new IdentityHashMap<>();
             return Comparator.comparing(e -> randomIds.computeIfAbsent(e, __ -> UUID.randomUUID()));
         }
 
-        Schema<T> schema = orderBy.getSchema();
         return (a, b) -> {
-            Map<String, Object> mapA = schema.flatten(a);
-            Map<String, Object> mapB = schema.flatten(b);
+            Map<String, Object> mapA = resultSchema.flatten(a);
+            Map<String, Object> mapB = resultSchema.flatten(b);
             for (OrderExpression.SortKey sortKey : orderBy.getKeys()) {
                 for (JavaField field : sortKey.getField().flatten().toList()) {
                     int res = compare(FieldValue.getComparable(mapA, field), FieldValue.getComparable(mapB, field));
@@ -149,6 +168,97 @@ public final class InMemoryQueries {
         };
     }
 
+    /**
+     * Computes {@link Aggregate aggregates} of the specified objects in memory, in the same way as the database does:
+     * one result per each distinct combination of {@code groupBy} field values (or a single result for the whole input,
+     * if {@code groupBy} is empty), {@code null}s are ignored by {@code SUM}, {@code MIN} and {@code MAX}.
+     *
+     * @param schema       schema of the aggregated objects
+     * @param resultSchema schema of the aggregation results
+     * @param objects      objects to aggregate
+     * @param groupBy      paths of the fields to group by; must be flat; their values are stored into the result
+     *                     fields having the same column names
+     * @param aggregates   aggregates to compute
+     * @return aggregation results, in the order of first appearance of each group
+     */
+    public static <T, R> List<R> aggregate(@NonNull Schema<T> schema, @NonNull Schema<R> resultSchema,
+                                           @NonNull List<T> objects,
+                                           @NonNull List<String> groupBy, @NonNull List<Aggregate> aggregates) {
+        List<JavaField> groupFields = groupBy.stream().map(p -> schema.getField(p).toFlatField()).toList();
+
+        Map<List<Object>, List<Map<String, Object>>> groups = new LinkedHashMap<>();
+        if (groupFields.isEmpty()) {
+            groups.put(List.of(), new ArrayList<>());
+        }
+        for (T obj : objects) {
+            Map<String, Object> cells = schema.flatten(obj);
+            List<Object> key = new ArrayList<>(groupFields.size());
+            groupFields.forEach(f -> key.add(cells.get(f.getName())));
+            groups.computeIfAbsent(key, __ -> new ArrayList<>()).add(cells);
+        }
+
+        List<R> results = new ArrayList<>(groups.size());
+        groups.forEach((key, rows) -> {
+            Map<String, Object> resultCells = new HashMap<>();
+            for (int i = 0; i < groupFields.size(); i++) {
+                resultCells.put(groupFields.get(i).getName(), key.get(i));
+            }
+            for (Aggregate aggregate : aggregates) {
+                JavaField resultField = resultSchema.getField(aggregate.getResultField()).toFlatField();
+                resultCells.put(resultField.getName(), aggregate(schema, rows, aggregate, resultField.getRawType()));
+            }
+            results.add(resultSchema.newInstance(resultCells));
+        });
+        return results;
+    }
+
+    @Nullable
+    private static Object aggregate(Schema<?> schema, List<Map<String, Object>> rows,
+                                    Aggregate aggregate, Class<?> resultType) {
+        if (aggregate.getFunction() == Aggregate.Function.COUNT) {
+            return toNumber((long) rows.size(), resultType);
+        }
+
+        String column = schema.getField(aggregate.getFieldPath()).toFlatField().getName();
+        Stream<Object> values = rows.stream().map(row -> row.get(column)).filter(Objects::nonNull);
+        return switch (aggregate.getFunction()) {
+            case SUM -> values.map(Number.class::cast).reduce(InMemoryQueries::add)
+                    .map(n -> toNumber(n, resultType))
+                    .orElse(null);
+            case MIN -> values.min(InMemoryQueries::compareValues).orElse(null);
+            case MAX -> values.max(InMemoryQueries::compareValues).orElse(null);
+            case COUNT -> throw new IllegalStateException();
+        };
+    }
+
+    private static Number add(Number a, Number b) {
+        if (a instanceof Double || a instanceof Float || b instanceof Double || b instanceof Float) {
+            return a.doubleValue() + b.doubleValue();
+        }
+        return a.longValue() + b.longValue();
+    }
+
+    private static Number toNumber(Number n, Class<?> type) {
+        Class<?> wrapped = Primitives.wrap(type);
+        if (wrapped == Integer.class) {
+            return n.intValue();
+        } else if (wrapped == Short.class) {
+            return n.shortValue();
+        } else if (wrapped == Byte.class) {
+            return n.byteValue();
+        } else if (wrapped == Double.class) {
+            return n.doubleValue();
+        } else if (wrapped == Float.class) {
+            return n.floatValue();
+        }
+        return n.longValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b) {
+        return ((Comparable) a).compareTo(b);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static int compare(@Nullable Comparable a, @Nullable Comparable b) {
         return Comparator.<Comparable>nullsFirst(Comparator.naturalOrder()).compare(a, b);
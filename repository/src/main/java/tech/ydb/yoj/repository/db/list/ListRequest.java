@@ -43,6 +43,21 @@ public class ListRequest<T extends Entity<T>> {
 
     String index;
 
+    /**
+     * Whether the total number of entities matching the {@link #getFilter() filter} must be counted along with the
+     * page of results; see {@link GenericListResult#getTotalCount()}.
+     */
+    @With
+    boolean totalCount;
+
+    /**
+     * Filter that skips the results before the requested page, set by {@link PageToken page tokens} that implement
+     * keyset pagination, e.g. {@link tech.ydb.yoj.repository.db.list.token.KeysetPageToken}. Unlike the
+     * {@link #getCountFilter() listing filter}, it does not apply to the {@link #isTotalCount() total count}.
+     */
+    @Nullable
+    FilterExpression<T> seekFilter;
+
     public static <T extends Entity<T>> Builder<T> builder(@NonNull Class<T> entityClass) {
         return builder(EntitySchema.of(entityClass));
     }
@@ -51,8 +66,24 @@ public class ListRequest<T extends Entity<T>> {
         return new Builder<>(schema);
     }
 
+    /**
+     * @return filter for the page of results: the listing filter, combined with the {@link #getSeekFilter() seek filter}
+     * if there is one
+     */
     @Nullable
     public FilterExpression<T> getFilter() {
+        if (seekFilter == null) {
+            return params.filter;
+        }
+        return params.filter == null ? seekFilter : FilterExpression.and(params.filter, seekFilter);
+    }
+
+    /**
+     * @return filter for the {@link #isTotalCount() total count}: the listing filter, without the
+     * {@link #getSeekFilter() seek filter}
+     */
+    @Nullable
+    public FilterExpression<T> getCountFilter() {
         return params.filter;
     }
 
@@ -99,7 +130,9 @@ public class ListRequest<T extends Entity<T>> {
                 this.pageSize,
                 this.schema,
                 this.params,
-                index == null ? null : ensureIndexExists(this.schema, index)
+                index == null ? null : ensureIndexExists(this.schema, index),
+                this.totalCount,
+                this.seekFilter
         );
     }
 
@@ -133,7 +166,9 @@ public class ListRequest<T extends Entity<T>> {
                 this.pageSize,
                 this.schema,
                 this.params.withOrderBy(orderByIndex),
-                index
+                index,
+                this.totalCount,
+                this.seekFilter
         );
     }
 
@@ -149,7 +184,8 @@ public class ListRequest<T extends Entity<T>> {
 
     public <U extends Entity<U>> ListRequest<U> forSchema(@NonNull EntitySchema<U> dstSchema,
                                                           @NonNull UnaryOperator<String> pathTransformer) {
-        return new ListRequest<>(offset, pageSize, dstSchema, params.forSchema(dstSchema, pathTransformer), null);
+        return new ListRequest<>(offset, pageSize, dstSchema, params.forSchema(dstSchema, pathTransformer), null, totalCount,
+                seekFilter == null ? null : seekFilter.forSchema(dstSchema, pathTransformer));
     }
 
     @RequiredArgsConstructor(access = PRIVATE)
@@ -165,6 +201,8 @@ public class ListRequest<T extends Entity<T>> {
         private FilterExpression<T> filter;
         private OrderExpression<T> orderBy;
         private String index;
+        private boolean totalCount;
+        private FilterExpression<T> seekFilter;
 
         private UnaryOperator<Builder<T>> transform;
 
@@ -192,6 +230,35 @@ public class ListRequest<T extends Entity<T>> {
             return this;
         }
 
+        /**
+         * Requests the total number of entities matching the filter to be counted along with the page of results.
+         * The count and the page are read from the same transaction snapshot; YDB repository reads them in a single
+         * request, so listing latency is not doubled.
+         *
+         * @param totalCount whether to count all entities matching the filter
+         * @return {@code this}
+         * @see GenericListResult#getTotalCount()
+         */
+        @NonNull
+        public Builder<T> totalCount(boolean totalCount) {
+            this.totalCount = totalCount;
+            return this;
+        }
+
+        /**
+         * Sets the filter that skips the results before the requested page. Intended for {@link PageToken page tokens}
+         * that implement keyset pagination; the filter is applied to the page of results, but not to the total count.
+         *
+         * @param seekFilter filter that matches the results on and after the requested page
+         * @return {@code this}
+         * @see ListRequest#getSeekFilter()
+         */
+        @NonNull
+        public Builder<T> seekFilter(@Nullable FilterExpression<T> seekFilter) {
+            this.seekFilter = seekFilter;
+            return this;
+        }
+
         @NonNull
         public Builder<T> noFilter() {
             return filter((FilterExpression<T>) null);
@@ -295,7 +362,7 @@ public class ListRequest<T extends Entity<T>> {
 
         @NonNull
         private ListRequest<T> build0() {
-            return new ListRequest<>(offset, pageSize, schema, params(), index);
+            return new ListRequest<>(offset, pageSize, schema, params(), index, totalCount, seekFilter);
         }
 
         @NonNull
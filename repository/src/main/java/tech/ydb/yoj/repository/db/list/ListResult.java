@@ -3,6 +3,7 @@ package tech.ydb.yoj.repository.db.list;
 import lombok.NonNull;
 import tech.ydb.yoj.repository.db.Entity;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.function.UnaryOperator;
 
@@ -13,13 +14,13 @@ import static java.util.stream.Collectors.toList;
  * Entity listing result page.
  */
 public final class ListResult<T extends Entity<T>> extends GenericListResult<T, T> implements Iterable<T> {
-    private ListResult(@NonNull List<T> entries, boolean lastPage, @NonNull ListRequest<T> request) {
-        super(entries, request.getSchema(), lastPage, request);
+    private ListResult(@NonNull List<T> entries, boolean lastPage, @NonNull ListRequest<T> request, @Nullable Long totalCount) {
+        super(entries, request.getSchema(), lastPage, request, totalCount);
     }
 
     @NonNull
     public static <T extends Entity<T>> ListResult<T> empty(@NonNull ListRequest<T> request) {
-        return new ListResult<>(emptyList(), true, request);
+        return new ListResult<>(emptyList(), true, request, request.isTotalCount() ? 0L : null);
     }
 
     @NonNull
@@ -30,20 +31,27 @@ public final class ListResult<T extends Entity<T>> extends GenericListResult<T,
     @NonNull
     public static <T extends Entity<T>> ListResult<T> forPage(@NonNull ListRequest<T> request,
                                                               @NonNull List<T> entries) {
+        return forPage(request, entries, null);
+    }
+
+    @NonNull
+    public static <T extends Entity<T>> ListResult<T> forPage(@NonNull ListRequest<T> request,
+                                                              @NonNull List<T> entries,
+                                                              @Nullable Long totalCount) {
         int pageSize = request.getPageSize();
         boolean lastPage = entries.size() <= pageSize;
         List<T> itemsToReturn = lastPage ? entries : entries.subList(0, pageSize);
-        return new ListResult<>(itemsToReturn, lastPage, request);
+        return new ListResult<>(itemsToReturn, lastPage, request, totalCount);
     }
 
     @NonNull
     public ListResult<T> returnWithParams(@NonNull ListRequest.ListingParams<T> overrideParams) {
-        return new ListResult<>(this.getEntries(), isLastPage(), getRequest().withParams(overrideParams));
+        return new ListResult<>(this.getEntries(), isLastPage(), getRequest().withParams(overrideParams), getTotalCount());
     }
 
     @NonNull
     public ListResult<T> transform(@NonNull UnaryOperator<T> transform) {
-        return new ListResult<>(this.stream().map(transform).collect(toList()), isLastPage(), getRequest());
+        return new ListResult<>(this.stream().map(transform).collect(toList()), isLastPage(), getRequest(), getTotalCount());
     }
 
     public static final class ListResultBuilder<T extends Entity<T>> extends Builder<T, T, ListResult<T>> {
@@ -54,7 +62,7 @@ public final class ListResult<T extends Entity<T>> extends GenericListResult<T,
         @NonNull
         @Override
         public ListResult<T> build() {
-            return new ListResult<>(entries, lastPage, request);
+            return new ListResult<>(entries, lastPage, request, totalCount);
         }
     }
 }
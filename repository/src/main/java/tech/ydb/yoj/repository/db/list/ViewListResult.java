@@ -6,14 +6,16 @@ import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.Table;
 import tech.ydb.yoj.repository.db.ViewSchema;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
  * Listing result page for entity view.
  */
 public final class ViewListResult<T extends Entity<T>, V extends Table.View> extends GenericListResult<T, V> {
-    private ViewListResult(@NonNull List<V> entries, @NonNull Schema<V> viewSchema, boolean lastPage, @NonNull ListRequest<T> request) {
-        super(entries, viewSchema, lastPage, request);
+    private ViewListResult(@NonNull List<V> entries, @NonNull Schema<V> viewSchema, boolean lastPage, @NonNull ListRequest<T> request,
+                           @Nullable Long totalCount) {
+        super(entries, viewSchema, lastPage, request, totalCount);
     }
 
     @NonNull
@@ -29,18 +31,29 @@ public final class ViewListResult<T extends Entity<T>, V extends Table.View> ext
             @NonNull ListRequest<T> request,
             @NonNull Class<V> viewClass,
             @NonNull List<V> entries
+    ) {
+        return forPage(request, viewClass, entries, null);
+    }
+
+    @NonNull
+    public static <T extends Entity<T>, V extends Table.View> ViewListResult<T, V> forPage(
+            @NonNull ListRequest<T> request,
+            @NonNull Class<V> viewClass,
+            @NonNull List<V> entries,
+            @Nullable Long totalCount
     ) {
         int pageSize = request.getPageSize();
         boolean lastPage = entries.size() <= pageSize;
         List<V> itemsToReturn = lastPage ? entries : entries.subList(0, pageSize);
 
         ViewSchema<V> viewSchema = getViewSchema(request, viewClass);
-        return new ViewListResult<>(itemsToReturn, viewSchema, lastPage, request);
+        return new ViewListResult<>(itemsToReturn, viewSchema, lastPage, request, totalCount);
     }
 
     @NonNull
     public ViewListResult<T, V> returnWithParams(@NonNull ListRequest.ListingParams<T> overrideParams) {
-        return new ViewListResult<>(this.getEntries(), this.getResultSchema(), isLastPage(), getRequest().withParams(overrideParams));
+        return new ViewListResult<>(this.getEntries(), this.getResultSchema(), isLastPage(), getRequest().withParams(overrideParams),
+                getTotalCount());
     }
 
     @NonNull
@@ -63,7 +76,7 @@ public final class ViewListResult<T extends Entity<T>, V extends Table.View> ext
         @Override
         public ViewListResult<T, V> build() {
             ViewSchema<V> viewSchema = getViewSchema(request, viewType);
-            return new ViewListResult<>(entries, viewSchema, lastPage, request);
+            return new ViewListResult<>(entries, viewSchema, lastPage, request, totalCount);
         }
     }
 }
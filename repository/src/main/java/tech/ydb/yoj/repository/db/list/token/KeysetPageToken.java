@@ -0,0 +1,281 @@
+package tech.ydb.yoj.repository.db.list.token;
+
+import lombok.NonNull;
+import tech.ydb.yoj.databind.ByteArray;
+import tech.ydb.yoj.databind.expression.FilterBuilder;
+import tech.ydb.yoj.databind.expression.FilterExpression;
+import tech.ydb.yoj.databind.expression.OrderExpression;
+import tech.ydb.yoj.databind.expression.OrderExpression.SortOrder;
+import tech.ydb.yoj.databind.expression.values.BooleanFieldValue;
+import tech.ydb.yoj.databind.expression.values.ByteArrayFieldValue;
+import tech.ydb.yoj.databind.expression.values.FieldValue;
+import tech.ydb.yoj.databind.expression.values.IntegerFieldValue;
+import tech.ydb.yoj.databind.expression.values.RealFieldValue;
+import tech.ydb.yoj.databind.expression.values.StringFieldValue;
+import tech.ydb.yoj.databind.expression.values.TimestampFieldValue;
+import tech.ydb.yoj.databind.expression.values.UuidFieldValue;
+import tech.ydb.yoj.databind.schema.Schema.JavaField;
+import tech.ydb.yoj.repository.db.Entity;
+import tech.ydb.yoj.repository.db.EntityExpressions;
+import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.list.BadListingException.InvalidPageToken;
+import tech.ydb.yoj.repository.db.list.GenericListResult;
+import tech.ydb.yoj.repository.db.list.ListRequest;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Page token for <em>keyset</em> (a.k.a. <em>seek</em>) pagination: it encodes the values of the listing's
+ * {@code ORDER BY} fields of the last result on the page, and the next page is read by filtering out the results that
+ * come before or at that position, instead of skipping them with an {@code OFFSET}.
+ * <p>Each page thus costs the same regardless of its depth, and listings are not limited by
+ * {@link ListRequest.Builder#MAX_SKIP_SIZE}. The next page request must have the same filter and ordering as the
+ * original request; the ordering must be unique (e.g., end with all Entity ID fields, as the default ordering and
+ * {@link ListRequest.Builder#index(String, SortOrder) index orderings} do), otherwise results with the same
+ * {@code ORDER BY} values as the last result on the page will be skipped.
+ * <p>When listing {@link tech.ydb.yoj.repository.db.list.ViewListResult views}, the view must contain all
+ * {@code ORDER BY} fields.
+ */
+public final class KeysetPageToken implements PageToken {
+    public static final PageToken INSTANCE = new KeysetPageToken();
+
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte REAL = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte TIMESTAMP = 5;
+    private static final byte UUID_VALUE = 6;
+    private static final byte BYTE_ARRAY = 7;
+
+    private KeysetPageToken() {
+    }
+
+    @Nullable
+    @Override
+    public <T extends Entity<T>, R> String encode(@NonNull GenericListResult<T, R> result) {
+        if (result.isLastPage() || result.isEmpty()) {
+            return null;
+        }
+
+        List<String> resultColumns = result.getResultSchema().flattenFieldNames();
+        Map<String, Object> cells = result.getResultSchema().flatten(result.last());
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            List<OrderColumn> orderColumns = orderColumns(result.getRequestSchema(), result.getParams().getOrderBy());
+            out.writeByte(VERSION);
+            out.writeInt(orderColumns.size());
+            for (OrderColumn column : orderColumns) {
+                String name = column.field().getName();
+                if (!resultColumns.contains(name)) {
+                    throw new IllegalStateException("Listing result type " + result.getResultSchema().getType()
+                            + " must contain all ORDER BY fields to use keyset pagination, but has no field for column: "
+                            + name);
+                }
+
+                writeString(out, name);
+                Object value = cells.get(name);
+                writeValue(out, value == null ? null : FieldValue.ofObj(value, column.field()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    @NonNull
+    @Override
+    public <T extends Entity<T>> ListRequest.Builder<T> decode(
+            @NonNull ListRequest.Builder<T> bldr,
+            @NonNull String token
+    ) throws InvalidPageToken {
+        EntitySchema<T> schema = bldr.schema();
+        ListRequest.ListingParams<T> params = bldr.params();
+        List<OrderColumn> orderColumns = orderColumns(schema, params.getOrderBy());
+
+        List<Object> lastValues = new ArrayList<>(orderColumns.size());
+        try (var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION || in.readInt() != orderColumns.size()) {
+                throw new InvalidPageToken();
+            }
+            for (OrderColumn column : orderColumns) {
+                if (!column.field().getName().equals(readString(in))) {
+                    throw new InvalidPageToken();
+                }
+                lastValues.add(readValue(in));
+            }
+            if (in.available() > 0) {
+                throw new InvalidPageToken();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidPageToken(e);
+        }
+
+        FilterExpression<T> seek;
+        try {
+            seek = seekFilter(schema, orderColumns, lastValues);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new InvalidPageToken(e);
+        }
+        return bldr
+                .offset(0L)
+                .seekFilter(seek);
+    }
+
+    /**
+     * Builds a filter that matches results coming strictly after {@code lastValues} in the listing order.
+     * If all columns are ordered in the same direction, no value is {@code null}, and no column that comes after
+     * the values can be {@code NULL}, this is a single tuple comparison, e.g. {@code (a, b) > (?, ?)}; otherwise, it is
+     * a disjunction of the form {@code (a after ?) OR (a = ? AND b after ?) OR ...}, taking {@code NULL} ordering into
+     * account. (A tuple comparison with {@code NULL} is never true, and {@code NULL}s come first in ascending order but
+     * last in descending order, so only in descending order there are {@code NULL}s after non-{@code NULL} values.)
+     */
+    private static <T extends Entity<T>> FilterExpression<T> seekFilter(EntitySchema<T> schema, List<OrderColumn> columns, List<Object> lastValues) {
+        List<String> paths = columns.stream().map(c -> c.field().getPath()).toList();
+        SortOrder firstOrder = columns.get(0).order();
+        boolean sameOrder = columns.stream().allMatch(c -> c.order() == firstOrder);
+        boolean noNullsAfter = firstOrder == SortOrder.ASCENDING || columns.stream().allMatch(c -> isNotNull(schema, c.field()));
+        if (columns.size() > 1 && sameOrder && noNullsAfter && lastValues.stream().allMatch(Objects::nonNull)) {
+            var where = FilterBuilder.forSchema(schema).generated().where(paths);
+            return (firstOrder == SortOrder.ASCENDING ? where.gt(lastValues) : where.lt(lastValues)).build();
+        }
+
+        List<FilterExpression<T>> disjuncts = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            FilterExpression<T> after = after(schema, paths.get(i), columns.get(i).order(), lastValues.get(i));
+            if (after == null) {
+                continue;
+            }
+
+            List<FilterExpression<T>> conjuncts = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                var where = FilterBuilder.forSchema(schema).generated().where(paths.get(j));
+                conjuncts.add((lastValues.get(j) == null ? where.isNull() : where.eq(lastValues.get(j))).build());
+            }
+            conjuncts.add(after);
+            disjuncts.add(FilterExpression.and(conjuncts));
+        }
+        if (disjuncts.isEmpty()) {
+            // Last result is the last possible one
+            throw new IllegalArgumentException("Page token points past the end of the listing");
+        }
+        return FilterExpression.or(disjuncts);
+    }
+
+    // Entity ID fields and primitive fields never hold NULLs
+    private static boolean isNotNull(EntitySchema<?> schema, JavaField field) {
+        return field.getRawType().isPrimitive()
+                || schema.flattenId().stream().anyMatch(idField -> idField.getName().equals(field.getName()));
+    }
+
+    @Nullable
+    private static <T extends Entity<T>> FilterExpression<T> after(EntitySchema<T> schema, String path, SortOrder order, @Nullable Object value) {
+        var where = FilterBuilder.forSchema(schema).generated().where(path);
+        if (order == SortOrder.ASCENDING) {
+            // NULLs come first
+            return (value == null ? where.isNotNull() : where.gt(value)).build();
+        } else {
+            // NULLs come last
+            return value == null ? null : where.lt(value).or(path).isNull().build();
+        }
+    }
+
+    private static <T extends Entity<T>> List<OrderColumn> orderColumns(EntitySchema<T> schema, @Nullable OrderExpression<T> orderBy) {
+        OrderExpression<T> effectiveOrderBy = orderBy == null ? EntityExpressions.defaultOrder(schema) : orderBy;
+
+        List<OrderColumn> columns = new ArrayList<>();
+        for (OrderExpression.SortKey key : effectiveOrderBy.getKeys()) {
+            key.getField().flatten().forEach(f -> columns.add(new OrderColumn(f, key.getOrder())));
+        }
+        return columns;
+    }
+
+    private static void writeValue(DataOutputStream out, @Nullable FieldValue value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof StringFieldValue v) {
+            out.writeByte(STRING);
+            writeString(out, v.str());
+        } else if (value instanceof IntegerFieldValue v) {
+            out.writeByte(INTEGER);
+            out.writeLong(v.num());
+        } else if (value instanceof RealFieldValue v) {
+            out.writeByte(REAL);
+            out.writeDouble(v.real());
+        } else if (value instanceof BooleanFieldValue v) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(v.bool());
+        } else if (value instanceof TimestampFieldValue v) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(v.timestamp().getEpochSecond());
+            out.writeInt(v.timestamp().getNano());
+        } else if (value instanceof UuidFieldValue v) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(v.uuid().getMostSignificantBits());
+            out.writeLong(v.uuid().getLeastSignificantBits());
+        } else if (value instanceof ByteArrayFieldValue v) {
+            out.writeByte(BYTE_ARRAY);
+            writeBytes(out, v.byteArray().getArray());
+        } else {
+            throw new IllegalStateException("Unexpected value of a flat field: " + value);
+        }
+    }
+
+    @Nullable
+    private static Object readValue(DataInputStream in) throws IOException, InvalidPageToken {
+        return switch (in.readByte()) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case INTEGER -> in.readLong();
+            case REAL -> in.readDouble();
+            case BOOLEAN -> in.readBoolean();
+            case TIMESTAMP -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            case UUID_VALUE -> new UUID(in.readLong(), in.readLong());
+            case BYTE_ARRAY -> ByteArray.wrap(readBytes(in));
+            default -> throw new InvalidPageToken();
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        writeBytes(out, str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException, InvalidPageToken {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException, InvalidPageToken {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new InvalidPageToken();
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private record OrderColumn(JavaField field, SortOrder order) {
+    }
+}
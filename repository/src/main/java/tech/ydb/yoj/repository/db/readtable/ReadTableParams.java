@@ -20,9 +20,19 @@ public class ReadTableParams<ID> {
 
     /**
      * Set this to {@code true} to use a {@code Spliterator} contract-conformant and less memory consuming implementation for the {@code Stream}
-     * returned by {@code readTable()}.
-     * <p>Note that using the new implementation currently has a negative performance impact, for more information refer to
-     * <a href="https://github.com/ydb-platform/yoj-project/issues/42">GitHub Issue #42</a>.
+     * returned by {@code readTable()}. Defaults to {@code false}; the default will change to {@code true} in a future YOJ release.
+     * <p>The new implementation differs from the legacy one in the following ways:
+     * <ul>
+     * <li>The stream is consumed on the calling thread, and the YDB SDK thread waits until the calling thread takes
+     * each result set part, instead of running stream operations on the SDK thread. A bounded number of parts
+     * is buffered, so memory usage can be limited by {@link #getBatchLimitRows() batchLimitRows} and
+     * {@link #getBatchLimitBytes() batchLimitBytes}.</li>
+     * <li>The calling thread must take each part within {@link #getTimeout() timeout} plus 1 minute since
+     * {@code readTable()} was called.</li>
+     * <li>The stream must be closed; inside a YOJ transaction, it is closed automatically when the transaction
+     * ends, and cannot be read after that.</li>
+     * <li>Only the new implementation reads the table in {@link #getParallelism() parallel}.</li>
+     * </ul>
      */
     @ExperimentalApi(issue = "https://github.com/ydb-platform/yoj-project/issues/42")
     boolean useNewSpliterator;
@@ -30,6 +40,15 @@ public class ReadTableParams<ID> {
     int batchLimitBytes;
     int batchLimitRows;
 
+    /**
+     * Maximum number of concurrent streams to read the table with. If {@code > 1}, the table is split by its partition boundaries
+     * into up to {@code parallelism} key ranges, and each key range is read by a separate stream. Results are returned in key order
+     * if {@link #isOrdered() ordered} is set, and in arbitrary order otherwise.
+     * <p>Only used by the new {@code Spliterator} implementation (see {@link #isUseNewSpliterator()}), and only if neither
+     * {@link #getFromKey() fromKey} nor {@link #getToKey() toKey} are set; otherwise, the table is read by a single stream.
+     */
+    int parallelism;
+
     public static <ID> ReadTableParams<ID> getDefault() {
         return ReadTableParams.<ID>builder().build();
     }
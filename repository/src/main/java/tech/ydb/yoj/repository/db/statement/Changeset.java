@@ -18,6 +18,7 @@ import java.util.Map;
 @Deprecated
 public final class Changeset {
     private final Map<String, Object> newValues = new LinkedHashMap<>();
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
 
     public Changeset() {
     }
@@ -26,21 +27,109 @@ public final class Changeset {
         return new Changeset().set(fieldPath, value);
     }
 
+    public static Changeset incrementField(String fieldPath, Number delta) {
+        return new Changeset().increment(fieldPath, delta);
+    }
+
     public <T> Changeset set(@NonNull String fieldPath, T value) {
+        this.operations.remove(fieldPath);
         this.newValues.put(fieldPath, value);
         return this;
     }
 
+    /**
+     * Atomically adds {@code delta} to the current value of the numeric field: {@code field = field + delta}.
+     * The field is set to {@code delta} if its current value is {@code null}.
+     */
+    public Changeset increment(@NonNull String fieldPath, @NonNull Number delta) {
+        return apply(fieldPath, new Operation(Operation.Kind.INCREMENT, delta));
+    }
+
+    /**
+     * Atomically sets the field to the minimum of its current value and {@code value}.
+     * The field is set to {@code value} if its current value is {@code null}.
+     */
+    public <T extends Comparable<?>> Changeset min(@NonNull String fieldPath, @NonNull T value) {
+        return apply(fieldPath, new Operation(Operation.Kind.MIN, value));
+    }
+
+    /**
+     * Atomically sets the field to the maximum of its current value and {@code value}.
+     * The field is set to {@code value} if its current value is {@code null}.
+     */
+    public <T extends Comparable<?>> Changeset max(@NonNull String fieldPath, @NonNull T value) {
+        return apply(fieldPath, new Operation(Operation.Kind.MAX, value));
+    }
+
+    /**
+     * Atomically sets the field to {@code value} only if its current value is {@code null}.
+     */
+    public <T> Changeset coalesce(@NonNull String fieldPath, @NonNull T value) {
+        return apply(fieldPath, new Operation(Operation.Kind.COALESCE, value));
+    }
+
+    private Changeset apply(String fieldPath, Operation operation) {
+        this.newValues.remove(fieldPath);
+        this.operations.put(fieldPath, operation);
+        return this;
+    }
+
     public Changeset setAll(@NonNull Changeset other) {
-        return setAll(other.newValues);
+        setAll(other.newValues);
+        other.operations.forEach(this::apply);
+        return this;
     }
 
     public Changeset setAll(@NonNull Map<String, ?> fieldValues) {
+        fieldValues.keySet().forEach(this.operations::remove);
         this.newValues.putAll(fieldValues);
         return this;
     }
 
+    /**
+     * @return new field values set by {@link #set(String, Object)} and {@link #setAll(Map)}; does not include
+     * {@link #getOperations() operations} that depend on the current field value
+     */
     public Map<String, ?> toMap() {
         return new LinkedHashMap<>(this.newValues);
     }
+
+    /**
+     * @return operations that compute the new field value from the current one, e.g.
+     * {@link #increment(String, Number) increments}
+     */
+    public Map<String, Operation> getOperations() {
+        return new LinkedHashMap<>(this.operations);
+    }
+
+    public boolean hasOperations() {
+        return !this.operations.isEmpty();
+    }
+
+    /**
+     * Server-side operation on a field, computing the new field value from the current one.
+     *
+     * @param kind    operation kind
+     * @param operand operation argument, e.g. the delta for {@link Kind#INCREMENT}
+     */
+    public record Operation(@NonNull Kind kind, @NonNull Object operand) {
+        public enum Kind {
+            /**
+             * {@code field = COALESCE(field + operand, operand)}
+             */
+            INCREMENT,
+            /**
+             * {@code field = MIN_OF(COALESCE(field, operand), operand)}
+             */
+            MIN,
+            /**
+             * {@code field = MAX_OF(COALESCE(field, operand), operand)}
+             */
+            MAX,
+            /**
+             * {@code field = COALESCE(field, operand)}
+             */
+            COALESCE,
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package tech.ydb.yoj.repository.db.bulk;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BulkParamsTest {
+    @Test
+    public void defaults() {
+        assertThat(BulkParams.DEFAULT.getMaxBatchRows()).isEqualTo(10_000);
+        assertThat(BulkParams.DEFAULT.getMaxBatchBytes()).isEqualTo(16L * 1024 * 1024);
+        assertThat(BulkParams.DEFAULT.getMaxInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    public void customLimits() {
+        var params = BulkParams.builder().maxBatchRows(1).maxBatchBytes(1).maxInFlight(1).build();
+
+        assertThat(params.getMaxBatchRows()).isEqualTo(1);
+        assertThat(params.getMaxBatchBytes()).isEqualTo(1);
+        assertThat(params.getMaxInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void nonPositiveMaxBatchRows() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkParams.builder().maxBatchRows(0).build());
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkParams.builder().maxBatchRows(-1).build());
+    }
+
+    @Test
+    public void nonPositiveMaxBatchBytes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkParams.builder().maxBatchBytes(0).build());
+    }
+
+    @Test
+    public void nonPositiveMaxInFlight() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkParams.builder().maxInFlight(0).build());
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkParams.builder().maxInFlight(-1).build());
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import tech.ydb.yoj.repository.db.Entity;
 import tech.ydb.yoj.repository.db.EntitySchema;
+import tech.ydb.yoj.repository.db.Range;
 import tech.ydb.yoj.repository.db.RecordEntity;
 import tech.ydb.yoj.repository.db.TableDescriptor;
 
@@ -106,6 +107,49 @@ public class FirstLevelCacheTest {
         assertThat(actual).isNull();
     }
 
+    @Test
+    public void putEmptyRange() {
+        var cachedInRange = new FooEntity(new FooEntity.Id(17));
+        var cachedOutOfRange = new FooEntity(new FooEntity.Id(42));
+        var uncachedInRange = new FooEntity.Id(18);
+
+        var cache = cacheProvider.getOrCreate(fooTableDescriptor);
+        cache.put(cachedInRange);
+        cache.put(cachedOutOfRange);
+
+        // Act
+        cache.putEmpty(Range.create(new FooEntity.Id(10), new FooEntity.Id(20)));
+
+        // Verify
+        assertThat(cache.containsKey(cachedInRange.id())).isTrue();
+        assertThat(cache.peek(cachedInRange.id())).isEmpty();
+        assertThat(cache.peek(cachedOutOfRange.id())).contains(cachedOutOfRange);
+        assertThat(cache.containsKey(uncachedInRange)).isTrue();
+        assertThat(cache.peek(uncachedInRange)).isEmpty();
+        var actual = cache.get(uncachedInRange, __ -> {
+            fail("Loader MUST NOT be called");
+            return null;
+        });
+        assertThat(actual).isNull();
+        assertThat(cache.containsKey(new FooEntity.Id(21))).isFalse();
+        assertThat(cache.snapshot()).containsOnly(cachedOutOfRange);
+    }
+
+    @Test
+    public void putAfterPutEmptyRange() {
+        var entity = new FooEntity(new FooEntity.Id(17));
+
+        var cache = cacheProvider.getOrCreate(fooTableDescriptor);
+        cache.putEmpty(Range.create(new FooEntity.Id(10), new FooEntity.Id(20)));
+
+        // Act
+        cache.put(entity);
+
+        // Verify
+        assertThat(cache.peek(entity.id())).contains(entity);
+        assertThat(cache.snapshot()).containsOnly(entity);
+    }
+
     @Test
     public void snapshot() {
         var entity1 = new FooEntity(new FooEntity.Id(17));
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -22,16 +24,22 @@ public final class MoreSuppliers {
 
     @RequiredArgsConstructor(access = PRIVATE)
     public static class Memoizer<T> implements Supplier<T> {
+        // NB: We use a ReentrantLock instead of synchronized blocks to avoid pinning virtual threads' carrier threads
+        // while delegate.get() is running, because it might block for a long time (e.g., establishing a DB connection)
+        protected final Lock lock = new ReentrantLock();
         protected final Supplier<T> delegate;
         protected volatile T value;
 
         @Override
         public T get() {
             if (value == null) {
-                synchronized (this) {
+                lock.lock();
+                try {
                     if (value == null) {
                         return value = delegate.get();
                     }
+                } finally {
+                    lock.unlock();
                 }
             }
             return value;
@@ -67,12 +75,12 @@ public final class MoreSuppliers {
         }
 
         public void reset() {
-            synchronized (this) {
-                try {
-                    close();
-                } finally {
-                    value = null;
-                }
+            lock.lock();
+            try {
+                close();
+            } finally {
+                value = null;
+                lock.unlock();
             }
         }
 
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 
 import static java.util.Collections.newSetFromMap;
 
@@ -59,6 +60,22 @@ public final class Exceptions {
         return false;
     }
 
+    /**
+     * Unwraps the {@link CompletionException} that {@link java.util.concurrent.CompletableFuture CompletableFuture}
+     * wraps failures of dependent stages into.
+     *
+     * @param t exception received from a {@code CompletableFuture} stage
+     * @return cause of {@code t} if {@code t} is a {@code CompletionException} with a cause; {@code t} itself otherwise
+     */
+    @NonNull
+    public static Throwable unwrapCompletionException(@NonNull Throwable t) {
+        Throwable current = t;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
     /**
      * Tries to close all the specified {@link AutoCloseable} resources, collecting all exceptions received and re-throwing
      * them as (first exception with all other exceptions in suppresssed list).
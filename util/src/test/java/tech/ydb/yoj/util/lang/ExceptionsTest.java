@@ -2,6 +2,7 @@ package tech.ydb.yoj.util.lang;
 
 import org.junit.Test;
 
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,5 +48,16 @@ public class ExceptionsTest {
 
         assertThat(Exceptions.isOrCausedBy(b, UnsupportedOperationException.class)).isFalse();
     }
-}
 
+    @Test
+    public void unwrapCompletionException() {
+        IllegalStateException cause = new IllegalStateException("oops");
+        assertThat(Exceptions.unwrapCompletionException(new CompletionException(new CompletionException(cause)))).isSameAs(cause);
+    }
+
+    @Test
+    public void unwrapNonCompletionException() {
+        RuntimeException e = new RuntimeException(new IllegalStateException("oops"));
+        assertThat(Exceptions.unwrapCompletionException(e)).isSameAs(e);
+    }
+}